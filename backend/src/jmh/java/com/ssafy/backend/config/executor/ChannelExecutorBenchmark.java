@@ -0,0 +1,88 @@
+package com.ssafy.backend.config.executor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * STOMP inbound 채널 실행기 비교 (platform 기본 풀 vs 가상 스레드)
+ * - 핸들러는 게임 종료 시 JPA 저장처럼 blockMillis 동안 블로킹
+ * - 64개 클라이언트 스레드가 동시에 메시지를 보내고 처리 완료까지 대기
+ * - Throughput: 초당 처리 메시지 수, SampleTime: p99 등 지연 분포
+ */
+@State(Scope.Benchmark)
+@Threads(64)
+public class ChannelExecutorBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"2"})
+    public int blockMillis;
+
+    private ExecutorSubscribableChannel channel;
+    private ThreadPoolTaskExecutor platformExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (ExecutionMode.from(mode) == ExecutionMode.VIRTUAL) {
+            channel = new ExecutorSubscribableChannel(ExecutionModeConfig.virtualExecutor("bench-inbound-"));
+        } else {
+            // AbstractMessageBrokerConfiguration의 clientInboundChannel 기본값과 동일 (코어 수 * 2)
+            platformExecutor = new ThreadPoolTaskExecutor();
+            platformExecutor.setCorePoolSize(Runtime.getRuntime().availableProcessors() * 2);
+            platformExecutor.setAllowCoreThreadTimeOut(true);
+            platformExecutor.setThreadNamePrefix("bench-inbound-");
+            platformExecutor.initialize();
+            channel = new ExecutorSubscribableChannel(platformExecutor);
+        }
+
+        long blockNanos = TimeUnit.MILLISECONDS.toNanos(blockMillis);
+        channel.subscribe((MessageHandler) message -> {
+            LockSupport.parkNanos(blockNanos);
+            ((CompletableFuture<?>) message.getPayload()).complete(null);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (platformExecutor != null) {
+            platformExecutor.shutdown();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Object throughput() {
+        return sendAndWait();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Object latency() {
+        return sendAndWait();
+    }
+
+    private Object sendAndWait() {
+        CompletableFuture<Object> done = new CompletableFuture<>();
+        channel.send(MessageBuilder.withPayload(done).build());
+        return done.join();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ssafy.backend.config.jwt;
+
+import com.ssafy.backend.auth.service.UserRevocationService;
+import com.ssafy.backend.common.enums.SocialProvider;
+import com.ssafy.backend.entity.User;
+import com.ssafy.backend.repository.UserRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JWTFilter 한 번 통과하는 데 드는 CPU/할당 비용 (컨트롤러 이후는 제외)
+ * - database: 요청마다 userRepository.findById 호출 (스텁은 바로 반환 -> DB 왕복 시간은 포함하지 않음)
+ * - stateless: 서명된 클레임 + 삭제 유저 목록 메모리 조회
+ * - DB 조회 제거로 얻는 처리량 차이는 실제 MySQL 대상 부하 테스트로 확인해야 함
+ *   (-prof gc 로 요청당 할당량 비교 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTFilterBenchmark {
+    private static final String SECRET = "benchmark-secret-key-for-hs256-signing-0123456789";
+
+    @Param({"database", "stateless"})
+    public String mode;
+
+    private JWTFilter filter;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        JWTUtil jwtUtil = new JWTUtil(SECRET, 10_000);
+        String accessToken = jwtUtil.createJwt("access", 1L, "player1", "USER", 3_600_000L);
+
+        User user = new User("social-1", SocialProvider.google, "player1", LocalDateTime.now(), false, "USER", null);
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        UserRevocationService revocationService = new UserRevocationService(
+                new RedisTemplate<>(), new RedisMessageListenerContainer(), 86_400_000L);
+
+        filter = new JWTFilter(jwtUtil, userRepository, revocationService, "stateless".equals(mode));
+        request = (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getRequestURI" -> "/api/problems/search";
+                    case "getHeader" -> "Authorization".equalsIgnoreCase((String) args[0]) ? "Bearer " + accessToken : null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        response = (HttpServletResponse) Proxy.newProxyInstance(
+                HttpServletResponse.class.getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class},
+                (proxy, method, args) -> {
+                    throw new IllegalStateException("인증 실패 응답이 나가면 안 됨: " + method.getName());
+                });
+        chain = (req, res) -> SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void authenticate() throws Exception {
+        filter.doFilterInternal(request, response, chain);
+    }
+}
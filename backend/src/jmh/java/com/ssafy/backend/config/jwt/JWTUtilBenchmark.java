@@ -0,0 +1,66 @@
+package com.ssafy.backend.config.jwt;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JWT 클레임 추출
+ * - singleClaim / httpFilter / stompConnect: 조회 메서드를 하나씩 부르는 예전 호출 순서 (검증된 토큰 캐시 적중)
+ * - parseUncached: 캐시 없이 서명 검증 + 파싱 한 번 (토큰 첫 요청 비용)
+ * - parseCached: parse 한 번 (캐시 적중, JWTFilter/STOMP CONNECT의 현재 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTUtilBenchmark {
+    private static final String SECRET = "benchmark-secret-key-for-hs256-signing-0123456789";
+
+    private JWTUtil jwtUtil;
+    private JWTUtil uncachedJwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(SECRET, 10_000);
+        uncachedJwtUtil = new JWTUtil(SECRET, 0);
+        accessToken = jwtUtil.createJwt("access", 1L, "player1", "ROLE_USER", 3_600_000L);
+    }
+
+    @Benchmark
+    public JwtClaims parseUncached() {
+        return uncachedJwtUtil.parse(accessToken);
+    }
+
+    @Benchmark
+    public JwtClaims parseCached() {
+        return jwtUtil.parse(accessToken);
+    }
+
+    @Benchmark
+    public Long singleClaim() {
+        return jwtUtil.getUserId(accessToken);
+    }
+
+    @Benchmark
+    public void httpFilter(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.isExpired(accessToken));
+        blackhole.consume(jwtUtil.getCategory(accessToken));
+        blackhole.consume(jwtUtil.getUserId(accessToken));
+    }
+
+    @Benchmark
+    public void stompConnect(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.validateToken(accessToken));
+        blackhole.consume(jwtUtil.getCategory(accessToken));
+        blackhole.consume(jwtUtil.getUserId(accessToken));
+        blackhole.consume(jwtUtil.getNickname(accessToken));
+        blackhole.consume(jwtUtil.getRole(accessToken));
+    }
+}
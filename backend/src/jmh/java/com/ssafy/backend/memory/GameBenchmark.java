@@ -0,0 +1,63 @@
+package com.ssafy.backend.memory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 게임 턴 관리 (방장 1명 + 참가자 playerCount명)
+ * - advanceTurn: 질문 한 번마다 호출되는 다음 턴 이동
+ * - removePlayerFromTurn: 참가자 퇴장 시 턴 순서 조정 (측정 후 같은 참가자를 턴 순서 끝에 다시 넣어 인원 유지)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameBenchmark {
+    private static final long HOST_ID = 0L;
+
+    @Param({"5", "29"})
+    public int playerCount;
+
+    private Game game;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Long> playerIds = new ArrayList<>();
+        Map<Long, Player> players = new HashMap<>();
+        for (long userId = HOST_ID; userId <= playerCount; userId++) {
+            playerIds.add(userId);
+            players.put(userId, new Player(userId, "player" + userId));
+        }
+        game = new Game(playerIds, players, HOST_ID);
+    }
+
+    @Benchmark
+    public Long advanceTurn() {
+        game.advanceTurn();
+        return game.getCurrentQuestionerId();
+    }
+
+    @Benchmark
+    public Long removePlayerFromTurn() {
+        List<Long> turnOrder = game.getTurnOrder();
+        Long playerId = turnOrder.get(next++ % turnOrder.size());
+        Player player = game.getPlayers().get(playerId);
+
+        game.removePlayerFromTurn(playerId);
+
+        turnOrder.add(playerId);
+        game.getPlayers().put(playerId, player);
+        return game.getCurrentQuestionerId();
+    }
+}
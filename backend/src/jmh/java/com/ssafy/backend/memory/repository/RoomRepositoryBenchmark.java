@@ -0,0 +1,72 @@
+package com.ssafy.backend.memory.repository;
+
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.id.BitmapRoomIdAllocator;
+import com.ssafy.backend.memory.type.RoomState;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 로비 목록 조회 비교 (방 900개 = 방ID 100~999 전체 사용 상황)
+ * - legacy*: 기존 방식 (전체 방 stream -> filter -> sort)
+ * - indexed*: 상태별 정렬 인덱스 범위 읽기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomRepositoryBenchmark {
+    private static final int ROOM_COUNT = 900;
+
+    private RoomRepository roomRepository;
+
+    @Setup
+    public void setUp() {
+        roomRepository = new RoomRepository(new BitmapRoomIdAllocator(100, 999));
+        Random random = new Random(42);
+        RoomState[] states = {RoomState.WAITING, RoomState.PLAYING};
+
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            Room room = new Room(roomRepository.getNextRoomId(), 6, 10);
+            roomRepository.changeState(room, states[random.nextInt(states.length)]);
+            roomRepository.save(room);
+        }
+    }
+
+    @Benchmark
+    public List<Room> legacyFindAllSorted() {
+        return roomRepository.findAll().stream()
+                .sorted((r1, r2) -> {
+                    int stateCompare = r1.getState().compareTo(r2.getState());
+                    if (stateCompare != 0) return stateCompare;
+                    return r1.getRoomId().compareTo(r2.getRoomId());
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Room> indexedFindAllSorted() {
+        return roomRepository.findAllSorted();
+    }
+
+    @Benchmark
+    public List<Room> legacyFindByState() {
+        return roomRepository.findAll().stream()
+                .filter(room -> room.getState() == RoomState.WAITING)
+                .sorted((r1, r2) -> r1.getRoomId().compareTo(r2.getRoomId()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Room> indexedFindByState() {
+        return roomRepository.findByState(RoomState.WAITING);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ssafy.backend.ranking.service;
+
+import com.ssafy.backend.problem.dto.Request.ProblemSearchRequestDto;
+import com.ssafy.backend.problem.dto.Response.ProblemSummaryDto;
+import com.ssafy.backend.ranking.dto.RankingItem;
+import com.ssafy.backend.repository.ProblemRepositoryCustom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 문제 랭킹 점수 계산 + 정렬 (문제 10만 개, DB 조회 제외)
+ * - calculateAllScoresFromDB: 좋아요/플레이 수로 점수 계산 (저장소는 미리 만든 목록을 돌려주는 stub)
+ * - rankTop50 / rankTopAll: 점수순 정렬 후 상위 50개 / 전체에 순위 부여
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RankingServiceBenchmark {
+    private static final int PROBLEM_COUNT = 100_000;
+
+    private RankingService rankingService;
+    private List<RankingItem> counts;
+    private List<RankingItem> scored;
+
+    @Setup
+    public void setUp() {
+        counts = new ArrayList<>(PROBLEM_COUNT);
+        Random random = new Random(42);
+        for (long problemId = 1; problemId <= PROBLEM_COUNT; problemId++) {
+            counts.add(RankingItem.builder()
+                    .problemId(problemId)
+                    .title("problem" + problemId)
+                    .likes(random.nextInt(500))
+                    .playCount(random.nextInt(5000))
+                    .build());
+        }
+        // 유저 저장소는 쓰지 않음
+        rankingService = new RankingService(new StubProblemRepository(counts), null);
+        scored = rankingService.calculateAllScoresFromDB();
+    }
+
+    @Benchmark
+    public List<RankingItem> calculateAllScoresFromDB() {
+        return rankingService.calculateAllScoresFromDB();
+    }
+
+    @Benchmark
+    public List<RankingItem> rankTop50() {
+        return rankingService.rankTop(scored, 50);
+    }
+
+    @Benchmark
+    public List<RankingItem> rankTopAll() {
+        return rankingService.rankTop(scored, scored.size());
+    }
+
+    private static class StubProblemRepository implements ProblemRepositoryCustom {
+        private final List<RankingItem> counts;
+
+        StubProblemRepository(List<RankingItem> counts) {
+            this.counts = counts;
+        }
+
+        @Override
+        public Slice<ProblemSummaryDto> searchProblems(ProblemSearchRequestDto requestDto) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<RankingItem> findAllProblemsForRanking() {
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.backend.room.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.memory.Player;
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.type.RoomState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 로비 방 목록 응답 생성 + JSON 직렬화 (ROOM_LIST 스냅샷 한 번 만드는 비용)
+ * - 방마다 1~6명 입장, 문제는 선택되지 않은 상태
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomListResponseBenchmark {
+
+    @Param({"100", "900"})
+    public int roomCount;
+
+    private List<Room> rooms;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        rooms = new ArrayList<>();
+        Random random = new Random(42);
+        long userId = 1;
+
+        for (int i = 0; i < roomCount; i++) {
+            Room room = new Room(100L + i, 6, 10);
+            room.setState(random.nextBoolean() ? RoomState.WAITING : RoomState.PLAYING);
+            int playerCount = 1 + random.nextInt(6);
+            for (int p = 0; p < playerCount; p++, userId++) {
+                room.getPlayers().put(userId, new Player(userId, "player" + userId));
+                room.getPlayerOrder().add(userId);
+            }
+            room.setHostId(room.getPlayerOrder().getFirst());
+            rooms.add(room);
+        }
+    }
+
+    @Benchmark
+    public RoomListResponse of() {
+        return RoomListResponse.of(rooms, "ALL", 1L);
+    }
+
+    @Benchmark
+    public byte[] ofAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(RoomListResponse.of(rooms, "ALL", 1L));
+    }
+}
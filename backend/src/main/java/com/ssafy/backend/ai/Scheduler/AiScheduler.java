@@ -1,11 +1,18 @@
 package com.ssafy.backend.ai.Scheduler;
 
+import com.ssafy.backend.ai.dto.request.AiProblemRequestDto;
+import com.ssafy.backend.ai.dto.response.AiProblemResponseDto;
+import com.ssafy.backend.ai.service.AiProblemPoolService;
 import com.ssafy.backend.ai.service.AiProblemRedisService;
 import com.ssafy.backend.ai.service.AiProblemService;
+import com.ssafy.backend.entity.Genre;
 import com.ssafy.backend.entity.Problem;
+import com.ssafy.backend.repository.GenreRepository;
 import jakarta.transaction.Transactional;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +23,11 @@ public class AiScheduler {
 
     private final AiProblemService aiProblemService;
     private final AiProblemRedisService aiProblemRedisService;
+    private final AiProblemPoolService aiProblemPoolService;
+    private final GenreRepository genreRepository;
+
+    @Value("${ai.problem-pool.batch-size:5}")
+    private int poolBatchSize;
 
     /**
      * 오늘의 AI 바거슾 문제 생성 00:00:05
@@ -35,6 +47,32 @@ public class AiScheduler {
         log.info("새로운 '오늘의 문제'를 Redis에 캐싱했습니다.");
     }
 
+    /**
+     * AI 문제 풀 채우기 (한가한 시간대, 장르마다 최대 batchSize개)
+     * - GMS 동시 호출 한도에 걸리거나 실패하면 그 장르는 다음 실행에서 이어서 채움
+     */
+    @Scheduled(cron = "${ai.problem-pool.refill-cron:0 */10 3-6 * * *}", zone = "Asia/Seoul")
+    public void refillProblemPool() {
+        int added = 0;
+        for (Genre genre : genreRepository.findAll()) {
+            try {
+                int count = Math.min(aiProblemPoolService.missing(genre.getName()), poolBatchSize);
+                for (int i = 0; i < count; i++) {
+                    AiProblemResponseDto problem = aiProblemService.generateAiProblem(
+                        new AiProblemRequestDto(List.of(genre.getName())));
+                    if (aiProblemPoolService.offer(genre.getName(), problem)) {
+                        added++;
+                    }
+                }
+            } catch (Exception e) {
+                log.error("AI 문제 풀 채우기 실패 - 다음 실행에서 재시도: genre={}", genre.getName(), e);
+            }
+        }
+        if (added > 0) {
+            log.info("AI 문제 풀 채우기 완료: {}개 추가", added);
+        }
+    }
+
 //    // 23:59:55 오늘 도전자→DB 반영
 //    @Scheduled(cron = "55 59 23 * * *", zone = "Asia/Seoul")
 //    public void flushChallengers() {
@@ -3,16 +3,16 @@ package com.ssafy.backend.ai.controller;
 import com.ssafy.backend.ai.dto.request.AiProblemRequestDto;
 import com.ssafy.backend.ai.dto.request.AnswerCheckRequestDto;
 import com.ssafy.backend.ai.dto.request.QuestionRequestDto;
-import com.ssafy.backend.ai.dto.response.AiProblemResponseDto;
 import com.ssafy.backend.ai.dto.response.AiTodayProblemResponseDto;
-import com.ssafy.backend.ai.dto.response.AnswerCheckResponseDto;
-import com.ssafy.backend.ai.dto.response.QuestionResponseDto;
 import com.ssafy.backend.ai.service.AiProblemService;
 import com.ssafy.backend.common.response.ApiResponse;
 import com.ssafy.backend.config.security.CustomUserDetails;
 import com.ssafy.backend.exception.ErrorCode;
 import com.ssafy.backend.exception.SuccessCode;
+import com.ssafy.backend.exception.model.BaseException;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -31,24 +31,20 @@ public class AiProblemController {
 
     private final AiProblemService aiProblemService;
 
+    /**
+     * AI 문제 생성
+     * - GMS 호출(질문/정답 체크 포함)은 CompletableFuture로 반환 -> 모델 응답을 기다리는 동안 서블릿 스레드를 붙잡지 않음
+     */
     @PostMapping("/problems/generate")
-    public ResponseEntity<?> generateAiProblem(@Valid @RequestBody AiProblemRequestDto request,
-                                               @AuthenticationPrincipal CustomUserDetails userDetails) {
-        try {
-            AiProblemResponseDto response = aiProblemService.generateAiProblem(request);
-
-            return ApiResponse.success(
-                    SuccessCode.AI_PROBLEM_GENERATE_SUCCESS.getStatus(),
-                    "AI 문제 생성 완료",
-                    response
-            );
-        } catch (IllegalArgumentException e) {
-            log.error("AI 문제 생성 실패: error={}", e.getMessage());
-            return ApiResponse.error(ErrorCode.AI_GENERATION_FAILED);
-        } catch (Exception e) {
-            log.error("AI 문제 생성 중 오류 발생", e);
-            return ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+    public CompletableFuture<ResponseEntity<?>> generateAiProblem(@Valid @RequestBody AiProblemRequestDto request,
+                                                                 @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return aiProblemService.generateAiProblemAsync(request)
+                .<ResponseEntity<?>>thenApply(response -> ApiResponse.success(
+                        SuccessCode.AI_PROBLEM_GENERATE_SUCCESS.getStatus(),
+                        "AI 문제 생성 완료",
+                        response
+                ))
+                .exceptionally(e -> errorResponse(e, "AI 문제 생성 중 오류 발생"));
     }
 
     /**
@@ -75,41 +71,42 @@ public class AiProblemController {
      * AI 오늘의 바거슾 질문 처리
      */
     @PostMapping("/question")
-    public ResponseEntity<?> processQuestion(@Valid @RequestBody QuestionRequestDto request,
-                                           @AuthenticationPrincipal CustomUserDetails userDetails) {
-        try {
-            Long userId = userDetails.getUserId();
-            QuestionResponseDto response = aiProblemService.processQuestion(request, userId);
-
-            return ApiResponse.success(
-                    SuccessCode.AI_QUESTION_SUCCESS.getStatus(),
-                    "질문 처리 완료",
-                    response
-            );
-        } catch (Exception e) {
-            log.error("질문 처리 중 오류 발생", e);
-            return ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+    public CompletableFuture<ResponseEntity<?>> processQuestion(@Valid @RequestBody QuestionRequestDto request,
+                                                               @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = userDetails.getUserId();
+        return aiProblemService.processQuestion(request, userId)
+                .<ResponseEntity<?>>thenApply(response -> ApiResponse.success(
+                        SuccessCode.AI_QUESTION_SUCCESS.getStatus(),
+                        "질문 처리 완료",
+                        response
+                ))
+                .exceptionally(e -> errorResponse(e, "질문 처리 중 오류 발생"));
     }
 
     /**
      * AI 오늘의 바거슾 정답 시도 처리
      */
     @PostMapping("/answer/check")
-    public ResponseEntity<?> checkAnswer(@Valid @RequestBody AnswerCheckRequestDto request,
-                                       @AuthenticationPrincipal CustomUserDetails userDetails) {
-        try {
-            Long userId = userDetails.getUserId();
-            AnswerCheckResponseDto response = aiProblemService.checkAnswer(request, userId);
+    public CompletableFuture<ResponseEntity<?>> checkAnswer(@Valid @RequestBody AnswerCheckRequestDto request,
+                                                           @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = userDetails.getUserId();
+        return aiProblemService.checkAnswer(request, userId)
+                .<ResponseEntity<?>>thenApply(response -> ApiResponse.success(
+                        SuccessCode.AI_ANSWER_SUCCESS.getStatus(),
+                        "정답 체크 완료",
+                        response
+                ))
+                .exceptionally(e -> errorResponse(e, "정답 체크 중 오류 발생"));
+    }
 
-            return ApiResponse.success(
-                    SuccessCode.AI_ANSWER_SUCCESS.getStatus(),
-                    "정답 체크 완료",
-                    response
-            );
-        } catch (Exception e) {
-            log.error("정답 체크 중 오류 발생", e);
-            return ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR);
+    // 비동기 처리 실패 응답 (요청 제한 429, 응답 시간 초과 504 등 BaseException은 해당 코드로)
+    private ResponseEntity<?> errorResponse(Throwable e, String logMessage) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof BaseException baseException) {
+            log.warn("{}: {}", logMessage, baseException.getMessage());
+            return ApiResponse.error(baseException.getErrorCode());
         }
+        log.error(logMessage, cause);
+        return ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.ssafy.backend.ai.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 질문/정답 시도에 대한 AI 응답 캐시 항목 (Redis 저장용)
+ * - 질문: response, comment, negated (질문의 부정 표현 여부, 유사 질문 비교용)
+ * - 정답 시도: score, correct, comment
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedAnswerDto {
+
+    private String response;
+    private String comment;
+    private Integer score;
+    private Boolean correct;
+    private Boolean negated;
+
+    public static CachedAnswerDto of(QuestionResponseDto dto, boolean negated) {
+        return new CachedAnswerDto(dto.getResponse(), dto.getComment(), null, null, negated);
+    }
+
+    public static CachedAnswerDto of(AnswerCheckResponseDto dto) {
+        return new CachedAnswerDto(null, dto.getComment(), dto.getScore(), dto.isCorrect(), null);
+    }
+
+    public QuestionResponseDto toQuestionResponse() {
+        return new QuestionResponseDto(response, comment);
+    }
+
+    public AnswerCheckResponseDto toAnswerCheckResponse() {
+        boolean isCorrect = Boolean.TRUE.equals(correct);
+        return new AnswerCheckResponseDto(score != null ? score : 0, isCorrect, isCorrect ? "맞습니다" : "틀렸습니다", comment);
+    }
+}
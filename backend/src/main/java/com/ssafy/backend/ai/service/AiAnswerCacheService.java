@@ -0,0 +1,294 @@
+package com.ssafy.backend.ai.service;
+
+import com.ssafy.backend.ai.dto.response.AnswerCheckResponseDto;
+import com.ssafy.backend.ai.dto.response.CachedAnswerDto;
+import com.ssafy.backend.ai.dto.response.QuestionResponseDto;
+import com.ssafy.backend.common.cache.NearCacheManager;
+import com.ssafy.backend.common.cache.NearCacheManager.NearCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 오늘의 AI 문제 질문/정답 시도 응답 캐시
+ * - 모든 유저가 같은 문제에 비슷한 질문("죽었나요?", "사고였나요?")을 하므로 (문제, 정규화한 문장) 단위로 AI 응답을 재사용
+ * - 정규화: 유니코드 NFKC + 소문자 + 공백/문장부호/기호/단독 자모(ㅋㅋ, ㅠㅠ) 제거
+ * - 서버 로컬 LRU(near-cache) -> Redis 해시 순으로 조회, 저장은 둘 다
+ * - 유사 문장(선택): 질문만, 자모 단위 bigram Jaccard 유사도가 기준 이상이고 부정 표현 여부가 같을 때
+ *   부정 표현은 공백/문장부호로 나눈 단어 단위로 판단 ("안"/"못" 단독, "않"/"없"/"아니"/"아닌"/"아냐"로 시작) -> "안경"은 부정이 아님
+ *   부정 여부는 원문으로 판단해 캐시 항목에 함께 저장 (정규화 문장은 공백이 없어 단어 경계를 알 수 없음)
+ *   정답 시도는 조금만 달라도 정답 여부가 바뀌므로 정확히 같은 문장만 사용
+ * - 메트릭: ai.answer_cache.requests{type=question|guess, result=hit|similar|miss}
+ */
+@Slf4j
+@Service
+public class AiAnswerCacheService {
+    private static final String QUESTION_CACHE_PREFIX = "ai_answer_cache:question:";
+    private static final String GUESS_CACHE_PREFIX = "ai_answer_cache:guess:";
+    private static final Duration REDIS_TTL = Duration.ofDays(2); // 오늘의 문제는 하루 + 여유
+
+    private static final Pattern SEPARATOR = Pattern.compile("[\\p{P}\\p{S}\\s]+");
+    private static final Pattern JAMO = Pattern.compile("[\\p{InHangulJamo}\\p{InHangulCompatibilityJamo}]+");
+    // 단독으로 쓰인 단어 / 단어 앞부분
+    private static final Set<String> NEGATION_WORDS = Set.of("안", "못");
+    private static final List<String> NEGATION_PREFIXES = List.of("않", "없", "아니", "아닌", "아냐");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean enabled;
+    private final double similarityThreshold;
+    private final int similarityMaxCandidates;
+
+    // Redis 키:정규화 문장 -> 응답
+    private final NearCache<String, CachedAnswerDto> localCache;
+    // 문제 ID -> 유사 문장 비교 대상 (Redis 해시 전체를 주기적으로 다시 읽음)
+    private final NearCache<Long, List<Candidate>> similarityIndex;
+
+    private final Counter questionHits;
+    private final Counter questionSimilarHits;
+    private final Counter questionMisses;
+    private final Counter guessHits;
+    private final Counter guessMisses;
+
+    public AiAnswerCacheService(RedisTemplate<String, Object> redisTemplate,
+                                NearCacheManager nearCacheManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${ai.answer-cache.enabled:true}") boolean enabled,
+                                @Value("${ai.answer-cache.local-max-size:10000}") long localMaxSize,
+                                @Value("${ai.answer-cache.local-ttl-seconds:600}") long localTtlSeconds,
+                                @Value("${ai.answer-cache.similarity-threshold:0}") double similarityThreshold,
+                                @Value("${ai.answer-cache.similarity-max-candidates:2000}") int similarityMaxCandidates,
+                                @Value("${ai.answer-cache.similarity-refresh-seconds:30}") long similarityRefreshSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+        this.similarityMaxCandidates = similarityMaxCandidates;
+        this.localCache = nearCacheManager.create("ai-answer-cache", localMaxSize, Duration.ofSeconds(localTtlSeconds));
+        this.similarityIndex = nearCacheManager.create("ai-answer-similarity", 4, Duration.ofSeconds(similarityRefreshSeconds));
+        this.questionHits = requests(meterRegistry, "question", "hit");
+        this.questionSimilarHits = requests(meterRegistry, "question", "similar");
+        this.questionMisses = requests(meterRegistry, "question", "miss");
+        this.guessHits = requests(meterRegistry, "guess", "hit");
+        this.guessMisses = requests(meterRegistry, "guess", "miss");
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String type, String result) {
+        return Counter.builder("ai.answer_cache.requests")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 질문 응답 조회 (정확히 같은 문장 -> 유사 문장), 없으면 null
+     */
+    public QuestionResponseDto findQuestionAnswer(Long problemId, String question) {
+        if (!enabled) {
+            return null;
+        }
+        String normalized = normalize(question);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        try {
+            CachedAnswerDto cached = get(QUESTION_CACHE_PREFIX + problemId, normalized);
+            if (cached != null) {
+                questionHits.increment();
+                return cached.toQuestionResponse();
+            }
+            if (similarityThreshold > 0) {
+                cached = findSimilar(problemId, normalized, isNegated(question));
+                if (cached != null) {
+                    questionSimilarHits.increment();
+                    return cached.toQuestionResponse();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("질문 응답 캐시 조회 실패 - AI 호출로 진행: problemId={}", problemId, e);
+        }
+        questionMisses.increment();
+        return null;
+    }
+
+    public void putQuestionAnswer(Long problemId, String question, QuestionResponseDto response) {
+        put(QUESTION_CACHE_PREFIX + problemId, normalize(question), CachedAnswerDto.of(response, isNegated(question)));
+    }
+
+    /**
+     * 정답 시도 결과 조회 (정확히 같은 문장만), 없으면 null
+     */
+    public AnswerCheckResponseDto findGuessResult(Long problemId, String guess) {
+        if (!enabled) {
+            return null;
+        }
+        String normalized = normalize(guess);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        try {
+            CachedAnswerDto cached = get(GUESS_CACHE_PREFIX + problemId, normalized);
+            if (cached != null) {
+                guessHits.increment();
+                return cached.toAnswerCheckResponse();
+            }
+        } catch (Exception e) {
+            log.warn("정답 시도 캐시 조회 실패 - AI 호출로 진행: problemId={}", problemId, e);
+        }
+        guessMisses.increment();
+        return null;
+    }
+
+    public void putGuessResult(Long problemId, String guess, AnswerCheckResponseDto result) {
+        put(GUESS_CACHE_PREFIX + problemId, normalize(guess), CachedAnswerDto.of(result));
+    }
+
+    // 정규화 문장 (캐시 키) - 단어를 공백 없이 이어 붙임
+    static String normalize(String text) {
+        return String.join("", words(text));
+    }
+
+    // NFKC + 소문자로 바꾼 뒤 공백/문장부호/기호로 나눈 단어 (단독 자모 제거)
+    static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        for (String word : SEPARATOR.split(normalized)) {
+            word = JAMO.matcher(word).replaceAll("");
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    // 자모 단위 bigram Jaccard 유사도 (받침/어미 한 글자 차이도 부분 점수)
+    static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        int intersection = 0;
+        for (String gram : a) {
+            if (b.contains(gram)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    static Set<String> jamoBigrams(String normalized) {
+        String jamo = Normalizer.normalize(normalized, Normalizer.Form.NFD);
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < jamo.length(); i++) {
+            grams.add(jamo.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 원문에 부정 표현이 있는지 (단어 단위)
+    static boolean isNegated(String text) {
+        for (String word : words(text)) {
+            if (NEGATION_WORDS.contains(word)) {
+                return true;
+            }
+            for (String prefix : NEGATION_PREFIXES) {
+                if (word.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 유사도가 기준 이상인 후보 중 가장 비슷한 것 (부정 표현 여부가 다르면 제외), 없으면 null
+    static Candidate mostSimilar(List<Candidate> candidates, Set<String> grams, boolean negated, double threshold) {
+        Candidate best = null;
+        double bestScore = threshold;
+        for (Candidate candidate : candidates) {
+            if (candidate.negated != negated) {
+                continue;
+            }
+            double score = similarity(grams, candidate.grams);
+            if (score >= bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    // ----------------- private helper -----------------
+
+    private CachedAnswerDto get(String key, String normalized) {
+        return localCache.get(key + ":" + normalized,
+                k -> (CachedAnswerDto) redisTemplate.opsForHash().get(key, normalized));
+    }
+
+    private void put(String key, String normalized, CachedAnswerDto answer) {
+        if (!enabled || normalized.isEmpty()) {
+            return;
+        }
+        localCache.put(key + ":" + normalized, answer);
+        try {
+            redisTemplate.opsForHash().put(key, normalized, answer);
+            redisTemplate.expire(key, REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 저장 실패 - 이 서버에만 보관: key={}", key, e);
+        }
+    }
+
+    private CachedAnswerDto findSimilar(Long problemId, String normalized, boolean negated) {
+        List<Candidate> candidates = similarityIndex.get(problemId, this::loadCandidates);
+        if (candidates == null || candidates.isEmpty()) {
+            return null;
+        }
+        Candidate best = mostSimilar(candidates, jamoBigrams(normalized), negated, similarityThreshold);
+        if (best != null) {
+            log.debug("유사 질문 캐시 사용: '{}' -> '{}'", normalized, best.normalized);
+        }
+        return best != null ? best.answer : null;
+    }
+
+    private List<Candidate> loadCandidates(Long problemId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(QUESTION_CACHE_PREFIX + problemId);
+        List<Candidate> candidates = new ArrayList<>(Math.min(entries.size(), similarityMaxCandidates));
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            if (candidates.size() >= similarityMaxCandidates) {
+                break;
+            }
+            // 부정 여부가 없는 항목(이전 형식)은 정확히 같은 문장일 때만 사용
+            if (entry.getValue() instanceof CachedAnswerDto answer && answer.getNegated() != null) {
+                String normalized = entry.getKey().toString();
+                candidates.add(new Candidate(normalized, jamoBigrams(normalized), answer.getNegated(), answer));
+            }
+        }
+        return candidates;
+    }
+
+    // 유사 문장 비교 대상 (bigram은 미리 계산)
+    static final class Candidate {
+        private final String normalized;
+        private final Set<String> grams;
+        private final boolean negated;
+        private final CachedAnswerDto answer;
+
+        Candidate(String normalized, Set<String> grams, boolean negated, CachedAnswerDto answer) {
+            this.normalized = normalized;
+            this.grams = grams;
+            this.negated = negated;
+            this.answer = answer;
+        }
+    }
+}
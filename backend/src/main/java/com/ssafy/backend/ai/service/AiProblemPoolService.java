@@ -0,0 +1,129 @@
+package com.ssafy.backend.ai.service;
+
+import com.ssafy.backend.ai.dto.response.AiProblemResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 미리 생성해 둔 AI 문제 풀 (장르별 Redis 리스트)
+ * - 문제 생성 요청/오늘의 문제는 풀에서 꺼내기만 함 (LPOP 한 번) -> GMS 호출 대기 없음
+ *   트랜잭션 안에서 꺼냈는데 롤백되면 풀 앞쪽에 되돌림 (오늘의 문제 저장 실패 시 문제가 사라지지 않도록)
+ * - 채우기는 AiScheduler가 한가한 시간대에 장르마다 batchSize개씩 (targetSize까지)
+ * - 검증을 통과한 문제만 넣음 (빈 항목, DB 컬럼 길이 초과, 의문문이 아닌 상황 설명 제외)
+ * - 메트릭: ai.problem_pool.requests{result=hit|miss}, ai.problem_pool.rejected
+ */
+@Slf4j
+@Service
+public class AiProblemPoolService {
+    private static final String POOL_PREFIX = "ai_problem_pool:";
+    private static final int MAX_TITLE_LENGTH = 50; // problems.title VARCHAR(50)
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int targetSize;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rejected;
+
+    public AiProblemPoolService(RedisTemplate<String, Object> redisTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${ai.problem-pool.target-size:20}") int targetSize) {
+        this.redisTemplate = redisTemplate;
+        this.targetSize = targetSize;
+        this.hits = meterRegistry.counter("ai.problem_pool.requests", "result", "hit");
+        this.misses = meterRegistry.counter("ai.problem_pool.requests", "result", "miss");
+        this.rejected = meterRegistry.counter("ai.problem_pool.rejected");
+    }
+
+    private String getPoolKey(String genre) {
+        return POOL_PREFIX + genre;
+    }
+
+    /**
+     * 장르 풀에서 문제 하나 꺼내기, 비어 있거나 Redis 장애면 null
+     * - 트랜잭션 안에서 호출되면 커밋되지 않았을 때 꺼낸 문제를 풀에 되돌림
+     */
+    public AiProblemResponseDto poll(String genre) {
+        try {
+            AiProblemResponseDto problem = (AiProblemResponseDto) redisTemplate.opsForList().leftPop(getPoolKey(genre));
+            if (problem != null) {
+                hits.increment();
+                returnOnRollback(genre, problem);
+                return problem;
+            }
+        } catch (Exception e) {
+            log.warn("AI 문제 풀 조회 실패 - 바로 생성으로 진행: genre={}", genre, e);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 검증 후 풀에 추가
+     * @return 추가 여부
+     */
+    public boolean offer(String genre, AiProblemResponseDto problem) {
+        if (!isValid(problem)) {
+            rejected.increment();
+            log.warn("AI 문제 검증 실패 - 풀에 넣지 않음: genre={}, title={}", genre, problem != null ? problem.getTitle() : null);
+            return false;
+        }
+        // 불변 리스트는 Redis(Jackson 타입 정보)에서 역직렬화되지 않으므로 복사
+        AiProblemResponseDto copy = new AiProblemResponseDto(problem.getTitle().trim(), problem.getContent().trim(),
+                problem.getAnswer().trim(), new ArrayList<>(problem.getGenres()), problem.getDifficulty());
+        redisTemplate.opsForList().rightPush(getPoolKey(genre), copy);
+        return true;
+    }
+
+    private void returnOnRollback(String genre, AiProblemResponseDto problem) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    redisTemplate.opsForList().leftPush(getPoolKey(genre), problem);
+                    log.info("트랜잭션 롤백 - 꺼낸 AI 문제를 풀에 되돌림: genre={}, title={}", genre, problem.getTitle());
+                } catch (Exception e) {
+                    log.warn("AI 문제 풀 되돌리기 실패 - 문제 유실: genre={}, title={}", genre, problem.getTitle(), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 목표 크기까지 남은 개수
+     */
+    public int missing(String genre) {
+        Long size = redisTemplate.opsForList().size(getPoolKey(genre));
+        return Math.max(0, targetSize - (size != null ? size.intValue() : 0));
+    }
+
+    static boolean isValid(AiProblemResponseDto problem) {
+        if (problem == null || problem.getDifficulty() == null || problem.getGenres() == null) {
+            return false;
+        }
+        String title = problem.getTitle();
+        String content = problem.getContent();
+        String answer = problem.getAnswer();
+        if (title == null || title.isBlank() || title.trim().length() > MAX_TITLE_LENGTH) {
+            return false;
+        }
+        if (content == null || content.isBlank() || answer == null || answer.isBlank()) {
+            return false;
+        }
+        // 상황 설명은 의문문으로 끝나야 함 (프롬프트 요구사항)
+        return content.trim().endsWith("?");
+    }
+}
@@ -1,37 +1,92 @@
 package com.ssafy.backend.ai.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.common.cache.NearCacheManager;
+import com.ssafy.backend.common.cache.NearCacheManager.NearCache;
 import com.ssafy.backend.entity.Problem;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+/**
+ * 오늘의 AI 문제 / 유저별 질문·정답 시도 기록 (Redis)
+ * - 유저 기록: 카운트 해시(question_count, guess_count) + 질문/정답 시도 리스트
+ *   추가는 Lua 한 번(HINCRBY + RPUSH + 처음이면 EXPIRE)으로 원자적으로 -> 동시 요청에도 기록이 사라지지 않고 전체를 다시 쓰지 않음
+ * - 조회는 HGETALL + LRANGE 두 번을 파이프라인 한 번으로
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AiProblemRedisService {
 
+    // KEYS[1]: 카운트 해시, KEYS[2]: 기록 리스트
+    // ARGV[1]: 카운트 필드, ARGV[2]: 기록 항목(JSON), ARGV[3]: TTL(초)
+    private static final RedisScript<Long> ADD_HISTORY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('TYPE', KEYS[1]).ok == 'string' then
+                redis.call('DEL', KEYS[1]) -- 예전 형식(JSON 문자열 한 덩어리)
+            end
+            local count = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            redis.call('RPUSH', KEYS[2], ARGV[2])
+            -- TTL은 처음 만들 때만 (이후 추가해도 연장하지 않음)
+            if redis.call('TTL', KEYS[1]) < 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            end
+            if redis.call('TTL', KEYS[2]) < 0 then
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+            end
+            return count
+            """, Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+
+    // 날짜 -> 오늘의 문제 (하루에 한 번 바뀌므로 서버 로컬에 보관, 교체 시 전체 서버에 무효화 전파)
+    private final NearCache<LocalDate, Problem> todayProblemNearCache;
+
+    public AiProblemRedisService(RedisTemplate<String, Object> redisTemplate,
+                                 NearCacheManager nearCacheManager,
+                                 @Value("${ai.today-problem.near-cache.ttl-seconds:60}") long nearCacheTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.todayProblemNearCache = nearCacheManager.create("ai-today-problem", 4, Duration.ofSeconds(nearCacheTtlSeconds));
+    }
 
     private static final long TTL_SECONDS = 86400; // 24시간
     private static final String TODAY_PROBLEM_KEY = "ai_today_problem"; // 오늘 문제
     private static final String USER_HISTORY_PREFIX = "ai_user_history:"; // 유저별 기록
+    private static final String QUESTION = "question";
+    private static final String GUESS = "guess";
 
+    // 카운트 해시 (question_count, guess_count)
     private String getUserHistoryKey(Long problemId, Long userId) {
         return USER_HISTORY_PREFIX + problemId + ":user:" + userId;
     }
 
+    // 질문/정답 시도 기록 리스트 (question_history, guess_history)
+    private String getUserHistoryListKey(Long problemId, Long userId, String type) {
+        return getUserHistoryKey(problemId, userId) + ":" + type + "_history";
+    }
+
+    // 유저 한 명의 기록 키 전체
+    private List<String> getUserHistoryKeys(Long problemId, Long userId) {
+        return List.of(getUserHistoryKey(problemId, userId),
+                getUserHistoryListKey(problemId, userId, QUESTION),
+                getUserHistoryListKey(problemId, userId, GUESS));
+    }
+
     private String getTodayProblemKey(LocalDate date) {
         return TODAY_PROBLEM_KEY + ":" + date;
     }
@@ -45,20 +100,21 @@ public class AiProblemRedisService {
         long secondsUntilTomorrow = Duration.between(now, nextDayStart).getSeconds();
 
         redisTemplate.opsForValue().set(getTodayProblemKey(LocalDate.now()), problem, Duration.ofSeconds(secondsUntilTomorrow));
+        todayProblemNearCache.invalidateAll();
     }
 
     /**
-     * 오늘의 AI 문제 조회
+     * 오늘의 AI 문제 조회 (near-cache -> Redis)
      */
     public Problem getTodayProblem() {
-        return (Problem) redisTemplate.opsForValue().get(getTodayProblemKey(LocalDate.now()));
+        return todayProblemNearCache.get(LocalDate.now(), date -> (Problem) redisTemplate.opsForValue().get(getTodayProblemKey(date)));
     }
 
     /**
      * 질문 추가
      */
     public void addQuestion(Long problemId, Long userId, String question, String answer) {
-        modifyHistory(problemId, userId, "question", Map.of("userQuestion", question, "response", answer));
+        addHistory(problemId, userId, QUESTION, Map.of("userQuestion", question, "response", answer));
     }
 
     /**
@@ -71,14 +127,14 @@ public class AiProblemRedisService {
         if (comment != null && !comment.trim().isEmpty()) {
             entry.put("comment", comment);
         }
-        modifyHistory(problemId, userId, "question", entry);
+        addHistory(problemId, userId, QUESTION, entry);
     }
 
     /**
      * 정답 시도 추가
      */
     public void addGuess(Long problemId, Long userId, String guess, String message, int score, boolean isCorrect) {
-        modifyHistory(problemId, userId, "guess", Map.of("userAnswer", guess, "score", score, "isCorrect", isCorrect, "message", message));
+        addHistory(problemId, userId, GUESS, Map.of("userAnswer", guess, "score", score, "isCorrect", isCorrect, "message", message));
     }
 
     /**
@@ -93,7 +149,7 @@ public class AiProblemRedisService {
         if (comment != null && !comment.trim().isEmpty()) {
             entry.put("comment", comment);
         }
-        modifyHistory(problemId, userId, "guess", entry);
+        addHistory(problemId, userId, GUESS, entry);
     }
 
     /**
@@ -111,18 +167,35 @@ public class AiProblemRedisService {
         if (aiComment != null && !aiComment.trim().isEmpty()) {
             entry.put("comment", aiComment);
         }
-        modifyHistory(problemId, userId, "guess", entry);
+        addHistory(problemId, userId, GUESS, entry);
     }
 
     /**
-     * 사용자 통계 조회
+     * 사용자 통계 조회 (HGETALL + LRANGE 2번, 파이프라인 한 번)
+     * - 기록이 없으면 null
      */
+    @SuppressWarnings("unchecked")
     public Map<String, Object> getUserStats(Long problemId, Long userId) {
         try {
-            String key = getUserHistoryKey(problemId, userId);
-            Object obj = redisTemplate.opsForValue().get(key);
-            if (obj == null) return null;
-            return objectMapper.readValue(obj.toString(), new TypeReference<>() {});
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    ops.opsForHash().entries(getUserHistoryKey(problemId, userId));
+                    ops.opsForList().range(getUserHistoryListKey(problemId, userId, QUESTION), 0, -1);
+                    ops.opsForList().range(getUserHistoryListKey(problemId, userId, GUESS), 0, -1);
+                    return null;
+                }
+            });
+            Map<Object, Object> counts = (Map<Object, Object>) results.get(0);
+            if (counts == null || counts.isEmpty()) return null;
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("question_count", toInt(counts.get("question_count")));
+            data.put("guess_count", toInt(counts.get("guess_count")));
+            data.put("question_history", results.get(1) != null ? results.get(1) : new ArrayList<>());
+            data.put("guess_history", results.get(2) != null ? results.get(2) : new ArrayList<>());
+            return data;
         } catch (Exception e) {
             log.error("사용자 통계 조회 실패: problemId={}, userId={}", problemId, userId, e);
             return null;
@@ -134,12 +207,36 @@ public class AiProblemRedisService {
      */
     public void deleteUserSession(Long problemId, Long userId) {
         try {
-            redisTemplate.delete(getUserHistoryKey(problemId, userId));
+            redisTemplate.delete(getUserHistoryKeys(problemId, userId));
         } catch (Exception e) {
             log.error("사용자 세션 삭제 실패: problemId={}, userId={}", problemId, userId, e);
         }
     }
 
+    /**
+     * 여러 유저의 히스토리 삭제 (게스트 정리용)
+     * - 히스토리는 오늘/어제 문제에만 남아 있으므로 두 문제의 키만 DEL 한 번으로 삭제
+     */
+    public void deleteUserHistories(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> keys = new ArrayList<>();
+            for (LocalDate date : List.of(LocalDate.now(), LocalDate.now().minusDays(1))) {
+                Problem problem = (Problem) redisTemplate.opsForValue().get(getTodayProblemKey(date));
+                if (problem != null) {
+                    userIds.forEach(userId -> keys.addAll(getUserHistoryKeys(problem.getId(), userId)));
+                }
+            }
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            log.error("유저 히스토리 일괄 삭제 실패: count={}", userIds.size(), e);
+        }
+    }
+
     /**
      * 오늘 문제 + 유저 히스토리 전체 삭제
      * - 스케줄러에서 "내일 문제 생성 직전" 호출
@@ -161,6 +258,7 @@ public class AiProblemRedisService {
 
             // 어제 문제 캐시 삭제
             redisTemplate.delete(yesterdayKey);
+            todayProblemNearCache.invalidateAll();
             log.info("어제 문제 캐시 삭제 완료. Key: {}", yesterdayKey);
         } else {
             log.info("어제 문제 캐시가 존재하지 않습니다. Key: {}", yesterdayKey);
@@ -170,58 +268,31 @@ public class AiProblemRedisService {
     // ----------------- private helper -----------------
 
     /**
-     * 질문/정답 시도 기록을 수정하는 공통 메서드
+     * 질문/정답 시도 기록 추가 (카운트 증가 + 리스트 추가 + TTL, Lua 한 번)
+     * - TTL은 처음 기록할 때 24시간 (스크립트 안에서 확인, 따로 조회하지 않음)
      */
-    private void modifyHistory(Long problemId, Long userId, String type, Map<String, Object> entry) {
+    @SuppressWarnings("unchecked")
+    private void addHistory(Long problemId, Long userId, String type, Map<String, Object> entry) {
+        String label = type.equals(QUESTION) ? "질문" : "정답 시도";
         try {
-            // key로 조회
-            String key = getUserHistoryKey(problemId, userId);
-            Map<String, Object> data = getOrInitData(key);
-
-            // 질문 또는 정답 시도 카운트 증가
-            String countKey = type + "_count";
-            int count = (int) data.getOrDefault(countKey, 0);
-            data.put(countKey, count + 1);
-
-            // 히스토리 추가
-            String historyKey = type + "_history";
-            List<Map<String, Object>> history = (List<Map<String, Object>>) data.get(historyKey);
-            history.add(entry);
+            RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
 
-            // Redis 저장 -> 문제 TTL에 맞춤
-            saveData(key, data);
-            log.info("{} history 추가 완료: problemId={}, userId={}", type.equals("question") ? "질문" : "정답 시도", problemId, userId);
+            redisTemplate.execute(ADD_HISTORY_SCRIPT, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                    List.of(getUserHistoryKey(problemId, userId), getUserHistoryListKey(problemId, userId, type)),
+                    (type + "_count").getBytes(StandardCharsets.UTF_8),
+                    valueSerializer.serialize(new HashMap<>(entry)), // Map.of(불변)는 타입 정보로 역직렬화되지 않으므로 복사
+                    String.valueOf(TTL_SECONDS).getBytes(StandardCharsets.UTF_8));
+            log.info("{} history 추가 완료: problemId={}, userId={}", label, problemId, userId);
 
         } catch (Exception e) {
-            log.error("{} history 추가 실패: problemId={}, userId={}", type.equals("question") ? "질문" : "정답 시도", problemId, userId, e);
+            log.error("{} history 추가 실패: problemId={}, userId={}", label, problemId, userId, e);
         }
     }
 
-    private Map<String, Object> getOrInitData(String key) throws Exception {
-        Object obj = redisTemplate.opsForValue().get(key);
-        if (obj != null) {
-            return objectMapper.readValue(obj.toString(), new TypeReference<>() {});
-        }
-
-        Map<String, Object> data = new HashMap<>();
-        data.put("question_count", 0);
-        data.put("guess_count", 0);
-        data.put("question_history", new ArrayList<Map<String, String>>());
-        data.put("guess_history", new ArrayList<Map<String, String>>());
-        return data;
-    }
-
-    private void saveData(String key, Map<String, Object> data) throws Exception {
-        String json = objectMapper.writeValueAsString(data);
-
-        // 오늘 문제 키 TTL 조회
-        String todayProblemKey = getTodayProblemKey(LocalDate.now());
-        long ttl = redisTemplate.getExpire(todayProblemKey);
-
-        // 문제 TTL이 남아있다면 그대로 적용, 없으면 기본값 하루
-        if (ttl <= 0) {
-            ttl = TTL_SECONDS; // 24시간
+    private int toInt(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
         }
-        redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(ttl));
+        return value != null ? Integer.parseInt(value.toString()) : 0;
     }
 }
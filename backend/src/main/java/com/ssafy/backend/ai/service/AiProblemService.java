@@ -1,7 +1,6 @@
 package com.ssafy.backend.ai.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.backend.ai.dto.request.AiProblemRequestDto;
 import com.ssafy.backend.ai.dto.request.AnswerCheckRequestDto;
 import com.ssafy.backend.ai.dto.request.GmsApiRequestDto;
@@ -13,6 +12,7 @@ import com.ssafy.backend.ai.dto.response.GmsApiResponseDto;
 import com.ssafy.backend.ai.dto.response.QuestionResponseDto;
 import com.ssafy.backend.common.enums.SolveType;
 import com.ssafy.backend.common.enums.Source;
+import com.ssafy.backend.config.executor.ExecutionModeConfig;
 import com.ssafy.backend.entity.Genre;
 import com.ssafy.backend.entity.Problem;
 import com.ssafy.backend.entity.ProblemGenre;
@@ -21,6 +21,7 @@ import com.ssafy.backend.entity.User;
 import com.ssafy.backend.entity.UserCreatedProblem;
 import com.ssafy.backend.entity.UserSolvedProblem;
 import com.ssafy.backend.exception.ErrorCode;
+import com.ssafy.backend.exception.model.BaseException;
 import com.ssafy.backend.exception.model.NotFoundException;
 import com.ssafy.backend.memory.type.Difficulty;
 import com.ssafy.backend.repository.GenreRepository;
@@ -31,25 +32,30 @@ import com.ssafy.backend.repository.UserCreatedProblemRepository;
 import com.ssafy.backend.repository.UserRepository;
 import com.ssafy.backend.repository.UserSolvedProblemRepository;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AiProblemService {
 
-    private final WebClient webClient;
-    private final ObjectMapper objectMapper;
+    private final GmsApiClient gmsApiClient;
+    private final AiResponseParser aiResponseParser;
     private final ProblemRepository problemRepository;
     private final AiProblemRedisService aiProblemRedisService;
     private final GenreRepository genreRepository;
@@ -58,34 +64,77 @@ public class AiProblemService {
     private final UserRepository userRepository;
     private final UserCreatedProblemRepository userCreatedProblemRepository;
     private final UserSolvedProblemRepository userSolvedProblemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AiAnswerCacheService aiAnswerCacheService;
+    private final AiProblemPoolService aiProblemPoolService;
 
-    @Value("${gms.api.key}")
-    private String apiKey;
-
-    @Value("${gms.api.base-url}")
-    private String baseUrl;
+    // GMS 응답 이후 처리(Redis/DB 저장)는 WebClient 이벤트 루프가 아닌 가상 스레드에서
+    private final Executor aiExecutor = ExecutionModeConfig.virtualExecutor("ai-");
 
     @Value("${gms.api.model}")
     private String model;
 
+    @Value("${ai.gms.generate-timeout-ms:30000}")
+    private long generateTimeoutMillis;
+
+    @Value("${ai.gms.question-timeout-ms:5000}")
+    private long questionTimeoutMillis;
+
+    @Value("${ai.gms.answer-timeout-ms:8000}")
+    private long answerTimeoutMillis;
+
+    /**
+     * AI 문제 생성 (스케줄러용, 호출 스레드에서 응답까지 대기)
+     */
     public AiProblemResponseDto generateAiProblem(AiProblemRequestDto request) {
         try {
-            // 프롬프트 생성
-            String prompt = createPrompt(request.getGenres());
+            return requestAiProblem(request).block();
+        } catch (Exception e) {
+            throw failure(e, "AI 문제 생성 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * AI 문제 생성 (요청 스레드를 붙잡지 않음)
+     * - 장르 하나짜리 요청은 미리 생성해 둔 풀에서 꺼내서 바로 반환, 풀이 비었거나 여러 장르면 GMS 호출
+     */
+    public CompletableFuture<AiProblemResponseDto> generateAiProblemAsync(AiProblemRequestDto request) {
+        if (request.getGenres() != null && request.getGenres().size() == 1) {
+            AiProblemResponseDto pooled = aiProblemPoolService.poll(request.getGenres().get(0));
+            if (pooled != null) {
+                return CompletableFuture.completedFuture(pooled);
+            }
+        }
+        return requestAiProblem(request).toFuture()
+                .exceptionally(e -> {
+                    throw failure(e, "AI 문제 생성 중 오류가 발생했습니다.");
+                });
+    }
 
-            // GMS API 요청 생성
-            GmsApiRequestDto gmsRequest = createGmsRequest(prompt);
+    private Mono<AiProblemResponseDto> requestAiProblem(AiProblemRequestDto request) {
+        // 프롬프트 생성
+        String prompt = createPrompt(request.getGenres());
 
-            // API 호출
-            GmsApiResponseDto gmsResponse = callGmsApi(gmsRequest);
+        // GMS API 요청 생성
+        GmsApiRequestDto gmsRequest = createGmsRequest(prompt);
 
-            // 응답 파싱
-            return parseAiResponse(gmsResponse, request.getGenres());
+        // API 호출 후 응답 파싱
+        return gmsApiClient.chat(gmsRequest, Duration.ofMillis(generateTimeoutMillis))
+                .map(gmsResponse -> parseAiResponse(gmsResponse, request.getGenres()));
+    }
 
-        } catch (Exception e) {
-            log.error("AI 문제 생성 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 문제 생성 중 오류가 발생했습니다.");
+    /**
+     * 실패 전달
+     * - 요청 제한(429)/타임아웃(504)/조회 실패 등 BaseException은 그대로 전달 -> 해당 상태 코드로 응답
+     * - 나머지는 기존처럼 메시지를 붙여 감쌈
+     */
+    private RuntimeException failure(Throwable e, String message) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof BaseException baseException) {
+            return baseException;
         }
+        log.error("{}: {}", message, cause.getMessage(), cause);
+        return new RuntimeException(message, cause);
     }
 
     private String createPrompt(List<String> genres) {
@@ -124,31 +173,12 @@ public class AiProblemService {
         return new GmsApiRequestDto(model, List.of(systemMessage, userMessage), 1000, 0.9);
     }
 
-    private GmsApiResponseDto callGmsApi(GmsApiRequestDto request) {
-        return webClient.post()
-                .uri(baseUrl + "/v1/chat/completions")
-                .header("Authorization", "Bearer " + apiKey)
-                .header("Content-Type", "application/json")
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(GmsApiResponseDto.class)
-                .block();
-    }
-
     private AiProblemResponseDto parseAiResponse(GmsApiResponseDto gmsResponse, List<String> genres) {
         try {
-            String content = gmsResponse.getChoices().get(0).getMessage().getContent();
-
-            // JSON 부분만 추출 (```json ``` 제거)
-            String jsonContent = content;
-            if (content.contains("```json")) {
-                jsonContent = content.substring(content.indexOf("```json") + 7, content.lastIndexOf("```"));
-            } else if (content.contains("```")) {
-                jsonContent = content.substring(content.indexOf("```") + 3, content.lastIndexOf("```"));
-            }
+            String content = aiResponseParser.content(gmsResponse);
 
-            // JSON 파싱
-            JsonNode jsonNode = objectMapper.readTree(jsonContent.trim());
+            // JSON 파싱 (코드 블록/앞뒤 설명 제거)
+            JsonNode jsonNode = aiResponseParser.parseJson(content);
 
             return new AiProblemResponseDto(
                     jsonNode.get("title").asText(),
@@ -186,6 +216,7 @@ public class AiProblemService {
 
     /**
      * 오늘의 AI 바거슾 문제 생성 후 DB 저장
+     * - 풀에서 꺼냄 (랜덤 장르 -> 다른 장르 순), 모든 풀이 비어 있으면 그때 생성
      */
     @Transactional
     public Problem generateAiTodayProblem() {
@@ -193,10 +224,25 @@ public class AiProblemService {
         Genre randomGenre = genreRepository.findRandomGenre()
             .orElseThrow(() -> new IllegalStateException("생성 가능한 장르가 없습니다."));
 
-        // 문제 생성
-        AiProblemResponseDto aiProblemResponseDto = generateAiProblem(
-            new AiProblemRequestDto(Collections.singletonList(randomGenre.getName()))
-        );
+        // 풀에서 문제 꺼내기
+        AiProblemResponseDto aiProblemResponseDto = aiProblemPoolService.poll(randomGenre.getName());
+        if (aiProblemResponseDto == null) {
+            for (Genre genre : genreRepository.findAll()) {
+                aiProblemResponseDto = aiProblemPoolService.poll(genre.getName());
+                if (aiProblemResponseDto != null) {
+                    randomGenre = genre;
+                    break;
+                }
+            }
+        }
+
+        // 풀이 모두 비어 있으면 문제 생성
+        if (aiProblemResponseDto == null) {
+            log.warn("AI 문제 풀이 비어 있음 - 오늘의 문제를 바로 생성: genre={}", randomGenre.getName());
+            aiProblemResponseDto = generateAiProblem(
+                new AiProblemRequestDto(Collections.singletonList(randomGenre.getName()))
+            );
+        }
 
         // 문제 본문, 제목, 정답 등을 저장
         Problem newProblem = Problem.builder()
@@ -286,135 +332,189 @@ public class AiProblemService {
 
     /**
      * AI 오늘의 바거슾 질문 처리
+     * - 같은(비슷한) 질문의 AI 응답이 캐시에 있으면 GMS를 호출하지 않고 바로 기록 후 반환
+     * - GMS 응답을 기다리는 동안 요청 스레드를 반환, 응답이 오면 가상 스레드에서 Redis 기록
      */
-    public QuestionResponseDto processQuestion(QuestionRequestDto request, Long userId) {
+    public CompletableFuture<QuestionResponseDto> processQuestion(QuestionRequestDto request, Long userId) {
         try {
             log.info("질문 처리 시작 - problemId: {}, userQuestion: {}", request.getProblemId(), request.getUserQuestion());
-            
+
             Problem problem = problemRepository.findById(request.getProblemId())
                     .orElseThrow(() -> new RuntimeException("문제를 찾을 수 없습니다."));
-            
+
             log.info("문제 조회 완료 - title: {}, content: {}", problem.getTitle(), problem.getContent());
-            
+
+            QuestionResponseDto cached = aiAnswerCacheService.findQuestionAnswer(problem.getId(), request.getUserQuestion());
+            if (cached != null) {
+                return CompletableFuture.completedFuture(recordQuestion(problem, request, userId, cached));
+            }
+
             String prompt = createQuestionPrompt(problem.getContent(), problem.getAnswer(), request.getUserQuestion());
             log.debug("생성된 프롬프트: {}", prompt);
-            
+
             GmsApiRequestDto gmsRequest = createQuestionGmsRequest(prompt);
-            GmsApiResponseDto gmsResponse = callGmsApi(gmsRequest);
-            
-            String response = gmsResponse.getChoices().get(0).getMessage().getContent().trim();
-            log.info("AI 응답 원문: {}", response);
-            
-            // JSON 응답 파싱
-            String finalResponse;
-            String aiComment;
-            try {
-                // JSON 부분만 추출 (```json ``` 제거)
-                String jsonContent = response;
-                if (response.contains("```json")) {
-                    jsonContent = response.substring(response.indexOf("```json") + 7, response.lastIndexOf("```"));
-                } else if (response.contains("```")) {
-                    jsonContent = response.substring(response.indexOf("```") + 3, response.lastIndexOf("```"));
-                }
-                
-                JsonNode jsonNode = objectMapper.readTree(jsonContent.trim());
-                finalResponse = jsonNode.get("answer").asText();
-                aiComment = jsonNode.has("comment") ? jsonNode.get("comment").asText() : null;
-                
-            } catch (Exception e) {
-                log.warn("JSON 파싱 실패, 기존 방식으로 처리: {}", e.getMessage());
-                // 기존 방식으로 fallback
-                if (response.contains("예")) {
-                    finalResponse = "예";
-                } else if (response.contains("아니오")) {
-                    finalResponse = "아니오";
-                } else {
-                    finalResponse = "상관없음";
-                }
-                aiComment = null;
-            }
+            return gmsApiClient.chat(gmsRequest, Duration.ofMillis(questionTimeoutMillis), true).toFuture()
+                    .thenApplyAsync(gmsResponse -> applyQuestionResponse(problem, request, userId, gmsResponse), aiExecutor)
+                    .exceptionally(e -> {
+                        throw failure(e, "질문 처리 중 오류가 발생했습니다.");
+                    });
 
-            // Redis -> question history 추가 (AI comment 포함)
-            aiProblemRedisService.addQuestion(problem.getId(), userId, request.getUserQuestion(), finalResponse, aiComment);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(failure(e, "질문 처리 중 오류가 발생했습니다."));
+        }
+    }
+
+    private QuestionResponseDto applyQuestionResponse(Problem problem, QuestionRequestDto request, Long userId,
+                                                      GmsApiResponseDto gmsResponse) {
+        String response = aiResponseParser.content(gmsResponse);
+        log.info("AI 응답 원문: {}", response);
+
+        // JSON 응답 파싱
+        String finalResponse;
+        String aiComment;
+        boolean parsed;
+        try {
+            // JSON 파싱 (코드 블록/앞뒤 설명 제거)
+            JsonNode jsonNode = aiResponseParser.parseJson(response);
+            finalResponse = jsonNode.get("answer").asText();
+            aiComment = jsonNode.has("comment") ? jsonNode.get("comment").asText() : null;
+            parsed = true;
 
-            log.info("최종 응답: {}, AI 코멘트: {}", finalResponse, aiComment);
-            return new QuestionResponseDto(finalResponse, aiComment);
-            
         } catch (Exception e) {
-            log.error("질문 처리 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("질문 처리 중 오류가 발생했습니다.");
+            log.warn("JSON 파싱 실패, 기존 방식으로 처리: {}", e.getMessage());
+            // 기존 방식으로 fallback
+            if (response.contains("예")) {
+                finalResponse = "예";
+            } else if (response.contains("아니오")) {
+                finalResponse = "아니오";
+            } else {
+                finalResponse = "상관없음";
+            }
+            aiComment = null;
+            parsed = false;
         }
+
+        QuestionResponseDto result = new QuestionResponseDto(finalResponse, aiComment);
+
+        // 형식대로 온 응답만 캐시 (fallback으로 추정한 응답은 다른 유저에게 재사용하지 않음)
+        if (parsed) {
+            aiAnswerCacheService.putQuestionAnswer(problem.getId(), request.getUserQuestion(), result);
+        }
+        return recordQuestion(problem, request, userId, result);
+    }
+
+    private QuestionResponseDto recordQuestion(Problem problem, QuestionRequestDto request, Long userId,
+                                               QuestionResponseDto result) {
+        // Redis -> question history 추가 (AI comment 포함)
+        aiProblemRedisService.addQuestion(problem.getId(), userId, request.getUserQuestion(), result.getResponse(), result.getComment());
+
+        log.info("최종 응답: {}, AI 코멘트: {}", result.getResponse(), result.getComment());
+        return result;
     }
 
     /**
      * AI 오늘의 바거슾 정답 시도 처리
+     * - 같은 답변의 채점 결과가 캐시에 있으면 GMS를 호출하지 않고 바로 반영
+     * - GMS 응답을 기다리는 동안 요청 스레드를 반환, 응답이 오면 가상 스레드에서 트랜잭션으로 결과 반영
      */
-    @Transactional
-    public AnswerCheckResponseDto checkAnswer(AnswerCheckRequestDto request, Long userId) {
+    public CompletableFuture<AnswerCheckResponseDto> checkAnswer(AnswerCheckRequestDto request, Long userId) {
         try {
             log.info("정답 체크 시작 - problemId: {}, userAnswer: {}", request.getProblemId(), request.getUserAnswer());
-            
+
             Problem problem = problemRepository.findById(request.getProblemId())
                     .orElseThrow(() -> new RuntimeException("문제를 찾을 수 없습니다."));
 
             log.info("정답 조회 완료 - answer: {}", problem.getAnswer());
-            
+
+            AnswerCheckResponseDto cached = aiAnswerCacheService.findGuessResult(problem.getId(), request.getUserAnswer());
+            if (cached != null) {
+                return CompletableFuture.completedFuture(transactionTemplate.execute(
+                        status -> recordAnswerCheck(problem, request, userId, cached)));
+            }
+
             String prompt = createAnswerCheckPrompt(problem.getAnswer(), request.getUserAnswer());
             log.debug("생성된 프롬프트: {}", prompt);
-            
+
             GmsApiRequestDto gmsRequest = createAnswerCheckGmsRequest(prompt);
-            GmsApiResponseDto gmsResponse = callGmsApi(gmsRequest);
-            
-            String content = gmsResponse.getChoices().get(0).getMessage().getContent();
-            log.info("AI 응답 원문: {}", content);
-            
-            // JSON 파싱
-            JsonNode jsonNode = objectMapper.readTree(content.trim());
-            int score = jsonNode.get("score").asInt();
-            boolean isCorrect = jsonNode.get("is_correct").asBoolean();
-            String aiComment = jsonNode.has("comment") ? jsonNode.get("comment").asText() : null;
-            
-            String message = isCorrect ? "맞습니다" : "틀렸습니다";
-            
-            log.info("정답 체크 결과 - score: {}, isCorrect: {}, message: {}, comment: {}", score, isCorrect, message, aiComment);
-
-            // Redis -> guess history 추가 (AI comment 포함)
-            aiProblemRedisService.addGuessWithAiComment(problem.getId(), userId, request.getUserAnswer(), message, score, isCorrect, request.getComment(), aiComment);
-
-            // 맞은 경우 처리
-            if(isCorrect) {
-                // todo; Redis에서 questions_count, guess_count 가져옴
+            return gmsApiClient.chat(gmsRequest, Duration.ofMillis(answerTimeoutMillis)).toFuture()
+                    .thenApplyAsync(gmsResponse -> {
+                        AnswerCheckResponseDto result = parseAnswerCheckResponse(gmsResponse);
+                        aiAnswerCacheService.putGuessResult(problem.getId(), request.getUserAnswer(), result);
+                        return transactionTemplate.execute(status -> recordAnswerCheck(problem, request, userId, result));
+                    }, aiExecutor)
+                    .exceptionally(e -> {
+                        throw failure(e, "정답 체크 중 오류가 발생했습니다.");
+                    });
+
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(failure(e, "정답 체크 중 오류가 발생했습니다."));
+        }
+    }
+
+    private AnswerCheckResponseDto parseAnswerCheckResponse(GmsApiResponseDto gmsResponse) {
+        String content = aiResponseParser.content(gmsResponse);
+        log.info("AI 응답 원문: {}", content);
+
+        // JSON 파싱 (코드 블록/앞뒤 설명 제거)
+        JsonNode jsonNode = aiResponseParser.parseJson(content);
+        if (!jsonNode.hasNonNull("score") || !jsonNode.hasNonNull("is_correct")) {
+            throw new IllegalArgumentException("AI 채점 응답에 score/is_correct가 없습니다: " + content);
+        }
+        int score = jsonNode.get("score").asInt();
+        boolean isCorrect = jsonNode.get("is_correct").asBoolean();
+        String aiComment = jsonNode.hasNonNull("comment") ? jsonNode.get("comment").asText() : null;
+
+        String message = isCorrect ? "맞습니다" : "틀렸습니다";
+        return new AnswerCheckResponseDto(score, isCorrect, message, aiComment);
+    }
+
+    private AnswerCheckResponseDto recordAnswerCheck(Problem problem, AnswerCheckRequestDto request, Long userId,
+                                                     AnswerCheckResponseDto result) {
+        int score = result.getScore();
+        boolean isCorrect = result.isCorrect();
+        String message = result.getMessage();
+        String aiComment = result.getComment();
+
+        log.info("정답 체크 결과 - score: {}, isCorrect: {}, message: {}, comment: {}", score, isCorrect, message, aiComment);
+
+        // Redis -> guess history 추가 (AI comment 포함)
+        aiProblemRedisService.addGuessWithAiComment(problem.getId(), userId, request.getUserAnswer(), message, score, isCorrect, request.getComment(), aiComment);
+
+        // 맞은 경우 처리
+        if(isCorrect) {
+            // todo; Redis에서 questions_count, guess_count 가져옴
 //                Map<String, Object> userStats = aiProblemRedisService.getUserStats(problem.getId(), userId);
 //                int questionCount = (Integer) userStats.get("question_count");
 //                int guessCount = (Integer) userStats.get("guess_count");
 
-                // User 통계 update
-                User user = userRepository.findByUserId(userId).orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
-                if (user != null) {
-                    // 게임 통계 업데이트
-                    user.increaseTodayAiSolvedCount();
-                    user.increaseWins();
-
-                    userRepository.save(user);
-
-                    // 유저가 푼 문제를 맞은 문제로 변경
-                    UserSolvedProblem userSolvedProblem = userSolvedProblemRepository.findByUserIdAndProblemId(userId,
-                        problem.getId()).orElseThrow(() -> new NotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
-                    userSolvedProblem.markAsWinner();
-                    userSolvedProblem.updateSolvedAt();
-
-                    log.debug("사용자 통계 업데이트: userId={}, totalGames={}, wins={}",
-                        userId, user.getTotalGames(), user.getWins());
-                } else {
-                    log.warn("통계 업데이트 실패 - 사용자를 찾을 수 없음: userId={}", userId);
-                }
+            // 이미 맞힌 문제면 통계는 그대로 (같은 정답을 다시 보내도 승리 수가 늘지 않도록)
+            UserSolvedProblem userSolvedProblem = userSolvedProblemRepository.findForUpdateByUserIdAndProblemId(userId,
+                problem.getId()).orElseThrow(() -> new NotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
+            if (Boolean.TRUE.equals(userSolvedProblem.getIsWinner())) {
+                log.info("이미 맞힌 문제 - 통계 업데이트 생략: userId={}, problemId={}", userId, problem.getId());
+                return result;
+            }
+
+            // User 통계 update
+            User user = userRepository.findByUserId(userId).orElseThrow(() -> new NotFoundException(ErrorCode.USER_NOT_FOUND));
+            if (user != null) {
+                // 게임 통계 업데이트
+                user.increaseTodayAiSolvedCount();
+                user.increaseWins();
+
+                userRepository.save(user);
+
+                // 유저가 푼 문제를 맞은 문제로 변경
+                userSolvedProblem.markAsWinner();
+                userSolvedProblem.updateSolvedAt();
+
+                log.debug("사용자 통계 업데이트: userId={}, totalGames={}, wins={}",
+                    userId, user.getTotalGames(), user.getWins());
+            } else {
+                log.warn("통계 업데이트 실패 - 사용자를 찾을 수 없음: userId={}", userId);
             }
-            return new AnswerCheckResponseDto(score, isCorrect, message, aiComment);
-            
-        } catch (Exception e) {
-            log.error("정답 체크 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("정답 체크 중 오류가 발생했습니다.");
         }
+        return result;
     }
 
     private String createQuestionPrompt(String problem, String answer, String userQuestion) {
@@ -0,0 +1,59 @@
+package com.ssafy.backend.ai.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.ai.dto.response.GmsApiResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * GMS 응답 본문에서 JSON 추출 (문제 생성/질문/정답 체크 공통)
+ * - ```json ... ``` / ``` ... ``` 코드 블록이면 블록 안쪽만
+ * - 앞뒤에 설명 문장이 붙어 있으면 첫 '{'부터 마지막 '}'까지만
+ */
+@Component
+@RequiredArgsConstructor
+public class AiResponseParser {
+
+    private final ObjectMapper objectMapper;
+
+    // 첫 번째 선택지의 메시지 본문
+    public String content(GmsApiResponseDto response) {
+        if (response == null || response.getChoices() == null || response.getChoices().isEmpty()
+                || response.getChoices().get(0).getMessage() == null
+                || response.getChoices().get(0).getMessage().getContent() == null) {
+            throw new IllegalStateException("AI 응답이 비어 있습니다.");
+        }
+        return response.getChoices().get(0).getMessage().getContent().trim();
+    }
+
+    public JsonNode parseJson(String content) {
+        try {
+            return objectMapper.readTree(extractJson(content));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("AI 응답을 JSON으로 해석할 수 없습니다.", e);
+        }
+    }
+
+    static String extractJson(String content) {
+        String json = content.trim();
+        int fence = json.indexOf("```");
+        if (fence >= 0) {
+            int start = json.indexOf('\n', fence);
+            int end = json.lastIndexOf("```");
+            // 한 줄짜리 블록(```{...}```)이면 언어 표시 없이 바로 시작
+            if (start < 0 || start > end) {
+                start = fence + 2;
+            }
+            if (end > start) {
+                json = json.substring(start + 1, end).trim();
+            }
+        }
+        int open = json.indexOf('{');
+        int close = json.lastIndexOf('}');
+        if (open >= 0 && close > open) {
+            json = json.substring(open, close + 1);
+        }
+        return json;
+    }
+}
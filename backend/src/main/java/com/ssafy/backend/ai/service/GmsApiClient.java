@@ -0,0 +1,182 @@
+package com.ssafy.backend.ai.service;
+
+import com.ssafy.backend.ai.dto.request.GmsApiRequestDto;
+import com.ssafy.backend.ai.dto.response.GmsApiResponseDto;
+import com.ssafy.backend.common.resilience.CircuitBreaker;
+import com.ssafy.backend.common.resilience.RetryBudget;
+import com.ssafy.backend.exception.ErrorCode;
+import com.ssafy.backend.exception.model.GatewayTimeoutException;
+import com.ssafy.backend.exception.model.ServiceUnavailableException;
+import com.ssafy.backend.exception.model.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * GMS(LLM) API 호출
+ * - 호출한 스레드를 붙잡지 않음: Mono를 반환하고 응답은 WebClient 이벤트 루프에서 도착
+ * - 호출마다 전체 타임아웃 (재시도/헤지 포함) -> 초과 시 AI_TIMEOUT(504)
+ *   연결/읽기 타임아웃은 WebClientConfig(HttpClient)에서 시도마다 적용
+ * - 동시 호출 수 제한: 한도를 넘으면 기다리지 않고 바로 AI_TOO_MANY_REQUESTS(429)
+ * - 재시도: 연결 실패/5xx/429만, 지수 백오프 + jitter, 재시도 예산(요청 수 대비 비율) 안에서만
+ * - 서킷 브레이커: 연속 실패하면 일정 시간 바로 AI_UNAVAILABLE(503), 이후 시험 호출 하나로 복구 확인
+ * - 헤지(짧은 질문 호출용): hedgeDelay 안에 응답이 없으면 같은 요청을 하나 더 보내고 먼저 끝난 쪽 사용
+ * - 메트릭: ai.gms.in_flight, ai.gms.rejected, ai.gms.timeouts, ai.gms.retries, ai.gms.hedges,
+ *   ai.gms.circuit_open_rejections, ai.gms.circuit_state(0 CLOSED / 1 HALF_OPEN / 2 OPEN)
+ */
+@Slf4j
+@Component
+public class GmsApiClient {
+
+    private final WebClient webClient;
+    private final String apiKey;
+    private final String baseUrl;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Duration hedgeDelay;
+
+    private final Counter rejected;
+    private final Counter timeouts;
+    private final Counter retries;
+    private final Counter hedges;
+    private final Counter circuitOpenRejections;
+
+    public GmsApiClient(WebClient webClient,
+                        MeterRegistry meterRegistry,
+                        @Value("${gms.api.key}") String apiKey,
+                        @Value("${gms.api.base-url}") String baseUrl,
+                        @Value("${ai.gms.max-concurrent:32}") int maxConcurrent,
+                        @Value("${ai.gms.max-retries:2}") int maxRetries,
+                        @Value("${ai.gms.retry-backoff-ms:200}") long retryBackoffMillis,
+                        @Value("${ai.gms.retry-budget-ratio:0.2}") double retryBudgetRatio,
+                        @Value("${ai.gms.hedge-delay-ms:1500}") long hedgeDelayMillis,
+                        @Value("${ai.gms.circuit.failure-threshold:5}") int circuitFailureThreshold,
+                        @Value("${ai.gms.circuit.open-ms:30000}") long circuitOpenMillis) {
+        this.webClient = webClient;
+        this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+        this.circuitBreaker = new CircuitBreaker(circuitFailureThreshold, circuitOpenMillis);
+        this.retryBudget = new RetryBudget(retryBudgetRatio, Math.max(1, maxConcurrent * retryBudgetRatio));
+        this.maxRetries = maxRetries;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMillis);
+        this.hedgeDelay = Duration.ofMillis(hedgeDelayMillis);
+        this.rejected = meterRegistry.counter("ai.gms.rejected");
+        this.timeouts = meterRegistry.counter("ai.gms.timeouts");
+        this.retries = meterRegistry.counter("ai.gms.retries");
+        this.hedges = meterRegistry.counter("ai.gms.hedges");
+        this.circuitOpenRejections = meterRegistry.counter("ai.gms.circuit_open_rejections");
+        Gauge.builder("ai.gms.in_flight", permits, p -> maxConcurrent - p.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("ai.gms.circuit_state", circuitBreaker, breaker -> switch (breaker.getState()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .register(meterRegistry);
+    }
+
+    /**
+     * chat completions 호출 (구독할 때 동시 호출 한도/서킷 상태 확인)
+     */
+    public Mono<GmsApiResponseDto> chat(GmsApiRequestDto request, Duration timeout) {
+        return chat(request, timeout, false);
+    }
+
+    /**
+     * @param hedge true면 hedgeDelay 안에 응답이 없을 때 같은 요청을 하나 더 보냄 (짧은 응답 호출에만 사용)
+     */
+    public Mono<GmsApiResponseDto> chat(GmsApiRequestDto request, Duration timeout, boolean hedge) {
+        return Mono.defer(() -> {
+            if (!permits.tryAcquire()) {
+                rejected.increment();
+                log.warn("GMS 동시 호출 한도 초과 - 요청 거절: limit={}", maxConcurrent);
+                return Mono.error(new TooManyRequestsException(ErrorCode.AI_TOO_MANY_REQUESTS));
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                permits.release();
+                circuitOpenRejections.increment();
+                return Mono.error(new ServiceUnavailableException(ErrorCode.AI_UNAVAILABLE));
+            }
+            retryBudget.deposit();
+
+            return Mono.defer(() -> hedge ? sendHedged(request) : send(request))
+                    .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                            .jitter(0.5)
+                            .filter(e -> isRetryable(e) && retryBudget.tryWithdraw())
+                            .doBeforeRetry(signal -> {
+                                retries.increment();
+                                log.warn("GMS 호출 재시도 {}회: {}", signal.totalRetries() + 1, signal.failure().toString());
+                            })
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                    .timeout(timeout)
+                    .doOnSuccess(response -> circuitBreaker.onSuccess())
+                    .doOnError(e -> {
+                        if (e instanceof TimeoutException || isRetryable(e)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            // 4xx 등은 GMS 서버가 살아 있다는 뜻
+                            circuitBreaker.onSuccess();
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::onIgnored)
+                    .onErrorMap(TimeoutException.class, e -> {
+                        timeouts.increment();
+                        log.warn("GMS 응답 시간 초과: timeout={}ms", timeout.toMillis());
+                        return new GatewayTimeoutException(ErrorCode.AI_TIMEOUT);
+                    })
+                    // 성공/실패/취소(타임아웃) 모두 한도 반환
+                    .doFinally(signal -> permits.release());
+        });
+    }
+
+    private Mono<GmsApiResponseDto> send(GmsApiRequestDto request) {
+        return webClient.post()
+                .uri(baseUrl + "/v1/chat/completions")
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(GmsApiResponseDto.class);
+    }
+
+    // 먼저 신호(응답/에러)를 낸 쪽 사용, 나머지는 취소
+    // 헤지 요청도 재시도 예산을 씀 -> GMS가 전반적으로 느릴 때 요청이 두 배로 늘지 않음
+    private Mono<GmsApiResponseDto> sendHedged(GmsApiRequestDto request) {
+        Mono<GmsApiResponseDto> hedged = Mono.delay(hedgeDelay)
+                .flatMap(tick -> {
+                    if (!retryBudget.tryWithdraw()) {
+                        return Mono.never();
+                    }
+                    hedges.increment();
+                    return send(request);
+                });
+        return Mono.firstWithSignal(send(request), hedged);
+    }
+
+    static boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientRequestException) {
+            return true; // 연결 실패, 읽기 타임아웃 등
+        }
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return false;
+    }
+}
@@ -1,50 +1,139 @@
 package com.ssafy.backend.auth.scheduler;
 
-import com.ssafy.backend.common.enums.SocialProvider;
-import com.ssafy.backend.entity.User;
-import com.ssafy.backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.ssafy.backend.ai.service.AiProblemRedisService;
+import com.ssafy.backend.auth.service.UserRevocationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 만료된 게스트 정리
+ * - 청크 단위로 처리: 만료 게스트 ID를 chunkSize개 잠금 조회 -> 같은 짧은 트랜잭션에서 is_deleted 일괄 UPDATE + refresh 토큰 일괄 DELETE
+ *   (엔티티를 읽지 않으므로 영속성 컨텍스트가 커지지 않고, 청크마다 커밋해서 긴 트랜잭션/락 없음)
+ * - 커밋된 청크마다 발급된 access 토큰 무효화 + Redis AI 기록 삭제
+ * - 청크가 실패하면 이번 실행은 멈추고 남은 게스트는 다음 실행에서 이어서 처리 (커밋된 청크는 유지)
+ * - 진행 메트릭: guest.cleanup.users / guest.cleanup.chunks / guest.cleanup.failures, 실행 시간 guest.cleanup.duration
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GuestCleanupService {
+    // 잠금 조회로 정리 도중 정회원 전환(마이그레이션)과 겹치지 않게 함
+    private static final String SELECT_EXPIRED_GUESTS =
+            "SELECT user_id FROM users WHERE social_provider = 'guest' AND is_deleted = false AND expires_at < ? "
+                    + "ORDER BY user_id LIMIT ? FOR UPDATE";
+    private static final String DELETE_GUESTS = "UPDATE users SET is_deleted = true WHERE user_id IN (%s)";
+    private static final String DELETE_REFRESH_TOKENS = "DELETE FROM refresh_tokens WHERE user_id IN (%s)";
 
-    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRevocationService userRevocationService;
+    private final AiProblemRedisService aiProblemRedisService;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+
+    private final Counter cleanedUsers;
+    private final Counter cleanedChunks;
+    private final Counter failures;
+    private final Timer duration;
+
+    public GuestCleanupService(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               UserRevocationService userRevocationService,
+                               AiProblemRedisService aiProblemRedisService,
+                               MeterRegistry meterRegistry,
+                               @Value("${guest.cleanup.chunk-size:500}") int chunkSize,
+                               @Value("${guest.cleanup.chunk-pause-ms:100}") long chunkPauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userRevocationService = userRevocationService;
+        this.aiProblemRedisService = aiProblemRedisService;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+        this.cleanedUsers = meterRegistry.counter("guest.cleanup.users");
+        this.cleanedChunks = meterRegistry.counter("guest.cleanup.chunks");
+        this.failures = meterRegistry.counter("guest.cleanup.failures");
+        this.duration = meterRegistry.timer("guest.cleanup.duration");
+    }
 
     // 매일 새벽 3시에 만료된 게스트 데이터 정리
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void cleanupExpiredGuestUsers() {
         log.info("만료된 게스트 사용자 정리 시작");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int total = 0;
+        long startedAt = System.nanoTime();
 
-        LocalDateTime now = LocalDateTime.now();
+        try {
+            while (true) {
+                List<Long> userIds;
+                try {
+                    userIds = transactionTemplate.execute(status -> deleteChunk(now));
+                } catch (Exception e) {
+                    failures.increment();
+                    log.error("게스트 정리 청크 실패 - 남은 게스트는 다음 실행에서 정리: 지금까지 {}명", total, e);
+                    break;
+                }
+                if (userIds == null || userIds.isEmpty()) {
+                    break;
+                }
 
-        // 만료된 게스트 사용자 조회
-        List<User> expiredGuests = userRepository.findByProviderAndExpiresAtBefore(
-                SocialProvider.guest, now);
+                // 커밋된 게스트의 토큰 무효화 + AI 기록 삭제
+                userRevocationService.revokeAll(userIds);
+                aiProblemRedisService.deleteUserHistories(userIds);
 
-        log.info("만료 대상 게스트 사용자 {}명 발견", expiredGuests.size());
+                total += userIds.size();
+                cleanedUsers.increment(userIds.size());
+                cleanedChunks.increment();
+                log.info("게스트 정리 진행: 이번 청크 {}명, 누적 {}명", userIds.size(), total);
 
-        // 간단한 반복문으로 is_deleted 필드 수정
-        expiredGuests.forEach(guest -> {
-            try {
-                guest.setDeleted(true);
-                userRepository.save(guest);
-                log.info("게스트 사용자 정리 완료: userId={}, nickname={}",
-                        guest.getUserId(), guest.getNickname());
-            } catch (Exception e) {
-                log.error("게스트 사용자 정리 실패: userId={}", guest.getUserId(), e);
+                if (userIds.size() < chunkSize || !pause()) {
+                    break;
+                }
             }
-        });
+        } finally {
+            duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        log.info("만료된 게스트 사용자 정리 완료: {}명 정리", total);
+    }
+
+    // 한 청크 정리 (트랜잭션 안) -> 정리한 게스트 ID
+    private List<Long> deleteChunk(Timestamp now) {
+        List<Long> userIds = jdbcTemplate.queryForList(SELECT_EXPIRED_GUESTS, Long.class, now, chunkSize);
+        if (userIds.isEmpty()) {
+            return userIds;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        Object[] args = userIds.toArray();
+        jdbcTemplate.update(String.format(DELETE_GUESTS, placeholders), args);
+        jdbcTemplate.update(String.format(DELETE_REFRESH_TOKENS, placeholders), args);
+        return userIds;
+    }
 
-        log.info("만료된 게스트 사용자 정리 완료: {}명 정리", expiredGuests.size());
+    // 청크 사이 잠깐 쉬어서 DB 부하/복제 지연 완화 (종료 중 인터럽트되면 false)
+    private boolean pause() {
+        if (chunkPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
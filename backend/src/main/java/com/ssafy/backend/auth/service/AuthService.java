@@ -2,6 +2,7 @@ package com.ssafy.backend.auth.service;
 
 import com.ssafy.backend.common.enums.SocialProvider;
 import com.ssafy.backend.config.jwt.JWTUtil;
+import com.ssafy.backend.config.jwt.JwtClaims;
 import com.ssafy.backend.entity.Refresh;
 import com.ssafy.backend.entity.User;
 import com.ssafy.backend.exception.ErrorCode;
@@ -206,13 +207,14 @@ public class AuthService {
             return false;
         }
 
-        // JWT 토큰 자체 유효성 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
+        // JWT 토큰 자체 유효성 검증 + 토큰 유형 확인 (파싱 한 번)
+        JwtClaims claims;
+        try {
+            claims = jwtUtil.parse(refreshToken);
+        } catch (Exception e) {
             return false;
         }
-
-        // 토큰 유형 확인
-        if (!"refresh".equals(jwtUtil.getCategory(refreshToken))) {
+        if (claims.isExpired() || !"refresh".equals(claims.getCategory())) {
             return false;
         }
 
@@ -0,0 +1,141 @@
+package com.ssafy.backend.auth.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 삭제된 유저 목록 (stateless JWT 인증용)
+ * - 요청마다 DB에서 유저를 조회하지 않으므로, 삭제된 유저의 아직 만료되지 않은 access 토큰은 여기서 거름
+ * - 확인은 서버 메모리 Map 조회만 (요청 경로에 네트워크 호출 없음)
+ * - 공유 목록은 Redis ZSET(userId -> 삭제 시각), 추가는 pub/sub으로 전체 서버에 전파
+ *   + 주기적으로 ZSET을 다시 읽어 놓친 메시지/재시작한 서버를 맞춤
+ * - access 토큰 유효 기간이 지나면 삭제 전에 발급된 토큰은 모두 만료되므로 목록에서 제거
+ */
+@Slf4j
+@Service
+public class UserRevocationService {
+    private static final String REVOKED_USERS_KEY = "auth:revoked_users";
+    private static final String REVOKE_CHANNEL = "auth:revoked_users";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long retentionMillis;
+
+    // userId -> 삭제 시각 (epoch millis)
+    private final Map<Long, Long> revokedUsers = new ConcurrentHashMap<>();
+
+    public UserRevocationService(RedisTemplate<String, Object> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 @Value("${auth.revocation.retention-ms:86400000}") long retentionMillis) {
+        this.redisTemplate = redisTemplate;
+        this.retentionMillis = retentionMillis;
+
+        // 다른 서버(자신 포함)의 삭제 알림 수신 ("userId,userId,...;삭제 시각")
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (body != null) {
+                applyMessage(body.toString());
+            }
+        }, new ChannelTopic(REVOKE_CHANNEL));
+    }
+
+    // 삭제된 유저인지 확인 (메모리 조회만)
+    public boolean isRevoked(Long userId) {
+        Long revokedAt = revokedUsers.get(userId);
+        return revokedAt != null && revokedAt + retentionMillis > System.currentTimeMillis();
+    }
+
+    public void revoke(Long userId) {
+        revokeAll(List.of(userId));
+    }
+
+    /**
+     * 유저 삭제 반영 (ZADD 한 번 + 알림 한 번)
+     * - 트랜잭션 안에서 호출되면 커밋된 뒤에 반영 (롤백되면 반영하지 않음)
+     */
+    public void revokeAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(ids);
+                }
+            });
+            return;
+        }
+        publish(ids);
+    }
+
+    /**
+     * Redis 목록과 동기화 + 유효 기간이 지난 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-ms:60000}")
+    public void sync() {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_USERS_KEY, 0, cutoff);
+            Set<ZSetOperations.TypedTuple<Object>> tuples =
+                    redisTemplate.opsForZSet().rangeWithScores(REVOKED_USERS_KEY, 0, -1);
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                    if (tuple.getValue() != null && tuple.getScore() != null) {
+                        revokedUsers.merge(Long.parseLong(tuple.getValue().toString()),
+                                tuple.getScore().longValue(), Math::max);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("삭제 유저 목록 동기화 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+        revokedUsers.values().removeIf(revokedAt -> revokedAt <= cutoff);
+    }
+
+    private void publish(List<Long> userIds) {
+        long now = System.currentTimeMillis();
+        // 자기 서버는 바로 반영 (Redis 장애 시에도)
+        userIds.forEach(userId -> revokedUsers.put(userId, now));
+
+        try {
+            Set<ZSetOperations.TypedTuple<Object>> tuples = userIds.stream()
+                    .map(userId -> (ZSetOperations.TypedTuple<Object>) new DefaultTypedTuple<Object>(userId.toString(), (double) now))
+                    .collect(Collectors.toSet());
+            redisTemplate.opsForZSet().add(REVOKED_USERS_KEY, tuples);
+
+            String ids = userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            redisTemplate.convertAndSend(REVOKE_CHANNEL, ids + ";" + now);
+            log.info("삭제 유저 반영: {}명", userIds.size());
+        } catch (Exception e) {
+            log.error("삭제 유저 전파 실패 - 다른 서버는 다음 동기화까지 모름: count={}", userIds.size(), e);
+        }
+    }
+
+    private void applyMessage(String message) {
+        try {
+            String[] parts = message.split(";");
+            long revokedAt = Long.parseLong(parts[1]);
+            for (String userId : parts[0].split(",")) {
+                revokedUsers.merge(Long.parseLong(userId), revokedAt, Math::max);
+            }
+        } catch (Exception e) {
+            log.warn("삭제 유저 알림 형식 오류: {}", message);
+        }
+    }
+}
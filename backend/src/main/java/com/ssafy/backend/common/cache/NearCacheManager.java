@@ -0,0 +1,108 @@
+package com.ssafy.backend.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 로컬 near-cache 관리 (Redis 앞단)
+ * - 캐시마다 최대 크기 + TTL (Caffeine)
+ * - 무효화는 Redis pub/sub으로 전체 서버에 전파 -> 모든 인스턴스가 같은 시점에 오래된 값을 버림
+ * - 적중/미스 메트릭: cache.gets{cache=이름, result=hit|miss} 등 (/actuator/prometheus)
+ */
+@Slf4j
+@Component
+public class NearCacheManager {
+    private static final String INVALIDATE_CHANNEL = "near-cache:invalidate";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 캐시 이름 -> 캐시
+    private final Map<String, NearCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    public NearCacheManager(RedisTemplate<String, Object> redisTemplate,
+                            MeterRegistry meterRegistry,
+                            RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+
+        // 다른 서버(자신 포함)의 무효화 요청 수신
+        listenerContainer.addMessageListener((message, pattern) -> {
+            Object name = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (name != null) {
+                invalidateLocal(name.toString());
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    // 이름 있는 캐시 생성 (서비스 생성 시 한 번)
+    public <K, V> NearCache<K, V> create(String name, long maximumSize, Duration ttl) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+
+        NearCache<K, V> nearCache = new NearCache<>(name, cache);
+        if (caches.putIfAbsent(name, nearCache) != null) {
+            throw new IllegalStateException("이미 등록된 near-cache 이름입니다: " + name);
+        }
+        return nearCache;
+    }
+
+    private void invalidateLocal(String name) {
+        NearCache<?, ?> cache = caches.get(name);
+        if (cache != null) {
+            cache.cache.invalidateAll();
+            log.debug("near-cache 무효화: {}", name);
+        }
+    }
+
+    // 전체 서버에 무효화 전파 (Redis 장애 시에도 자기 캐시는 바로 비움)
+    private void broadcastInvalidate(String name) {
+        invalidateLocal(name);
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, name);
+        } catch (Exception e) {
+            log.warn("near-cache 무효화 전파 실패 - 다른 서버는 TTL로 만료: {}", name, e);
+        }
+    }
+
+    /**
+     * 캐시 하나 (로더가 null을 반환하면 저장하지 않음 -> 캐시 미스를 그대로 호출한 쪽에 전달)
+     */
+    public final class NearCache<K, V> {
+        private final String name;
+        private final Cache<K, V> cache;
+
+        private NearCache(String name, Cache<K, V> cache) {
+            this.name = name;
+            this.cache = cache;
+        }
+
+        public V get(K key, Function<K, V> loader) {
+            return cache.get(key, loader);
+        }
+
+        // 이 서버에만 저장 (다른 서버는 각자 로더로 채움)
+        public void put(K key, V value) {
+            cache.put(key, value);
+        }
+
+        public void invalidateAll() {
+            broadcastInvalidate(name);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ssafy.backend.common.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 서킷 브레이커
+ * - CLOSED: 모두 통과, 연속 failureThreshold번 실패하면 OPEN
+ * - OPEN: openMillis 동안 바로 거절 (느린 외부 서버를 기다리지 않음)
+ * - HALF_OPEN: OPEN 시간이 지나면 시험 호출 하나만 통과 -> 성공하면 CLOSED, 실패하면 다시 OPEN
+ * - 결과를 판단할 수 없는 종료(취소 등)는 onIgnored로 시험 호출 자리만 반환
+ * - OPEN 전에 통과한 느린 호출의 결과가 OPEN 중에 도착하면 무시 (시험 호출 성공만 CLOSED로 되돌림)
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold는 1 이상이어야 합니다: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    // 호출 가능 여부 (true를 받은 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 끝내야 함)
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.getAsLong() - openedAt < openMillis) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probing = true;
+                return true;
+            default:
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.OPEN || (state == State.HALF_OPEN && !probing)) {
+            return;
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probing = false;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.OPEN) {
+            return;
+        }
+        probing = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            consecutiveFailures = 0;
+        }
+    }
+
+    public synchronized void onIgnored() {
+        probing = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
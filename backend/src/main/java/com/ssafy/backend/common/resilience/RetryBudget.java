@@ -0,0 +1,31 @@
+package com.ssafy.backend.common.resilience;
+
+/**
+ * 재시도 예산 (토큰 버킷)
+ * - 요청마다 ratio만큼 적립(최대 maxTokens), 재시도/헤지 요청마다 1개 사용
+ * - 외부 서버가 전반적으로 실패할 때 재시도가 요청 수의 ratio 비율을 넘지 않음 -> 재시도 폭주로 장애를 키우지 않음
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,282 @@
+package com.ssafy.backend.common.timer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시드 타이밍 휠
+ * - tick 간격마다 휠 한 칸씩 전진하면서 만료된 작업을 dispatcher로 넘김
+ * - 등록/취소는 큐에 넣기만 하므로 O(1), 실제 버킷 조작은 워커 스레드 하나만 수행 (락 없음)
+ * - 정밀도는 tick 간격 (게임/대기방 타이머는 초 단위라 100ms면 충분)
+ * - tick 시각은 시작 시각 + tick 간격 * tick 번호로 계산 -> 처리가 늦어져도 오차가 누적되지 않고 다음 tick에서 따라잡음
+ */
+@Slf4j
+public class HashedWheelTimer {
+    private static final int TRANSFER_LIMIT = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor dispatcher;
+    // 만료 지연(ns) 기록용 (예정 시각 대비 실제 실행 시각)
+    private final LongConsumer lagListener;
+
+    // 등록/취소 요청 (워커 스레드가 다음 tick에 반영)
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private final LongSupplier clock;
+    private final long startTime;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick;
+
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel,
+                            Executor dispatcher, LongConsumer lagListener) {
+        this(name, tickDuration, unit, ticksPerWheel, dispatcher, lagListener, System::nanoTime);
+    }
+
+    /**
+     * 테스트용: 워커 스레드 없이 주어진 시계로 동작, tick은 호출한 쪽에서 {@link #advanceTick()}로 진행
+     */
+    HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel,
+                     Executor dispatcher, LongConsumer lagListener, LongSupplier clock) {
+        this(null, tickDuration, unit, ticksPerWheel, dispatcher, lagListener, clock);
+    }
+
+    // name이 null이면 워커 스레드를 띄우지 않음
+    private HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel,
+                             Executor dispatcher, LongConsumer lagListener, LongSupplier clock) {
+        if (Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("ticksPerWheel은 2의 거듭제곱이어야 합니다: " + ticksPerWheel);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = ticksPerWheel - 1;
+        this.dispatcher = dispatcher;
+        this.lagListener = lagListener;
+        this.clock = clock;
+        this.startTime = clock.getAsLong();
+
+        if (name == null) {
+            this.worker = null;
+            return;
+        }
+        this.worker = new Thread(this::runWorker, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // delay 후 task 실행 예약
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("이미 종료된 타이머입니다.");
+        }
+        long deadline = elapsedNanos() + unit.toNanos(Math.max(0, delay));
+        Timeout timeout = new Timeout(task, deadline);
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    // 아직 실행되지 않은 예약 수
+    public long pendingTimeouts() {
+        return pendingCount.get();
+    }
+
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            if (!waitForNextTick()) {
+                continue;
+            }
+            advanceTick();
+        }
+    }
+
+    // tick 하나 처리 (워커 스레드 또는 테스트에서만 호출)
+    void advanceTick() {
+        processCancelled();
+        transferPending();
+        wheel[(int) (tick & mask)].expire();
+        tick++;
+    }
+
+    private long elapsedNanos() {
+        return clock.getAsLong() - startTime;
+    }
+
+    // 다음 tick 시각까지 대기 (종료로 중단되면 false)
+    private boolean waitForNextTick() {
+        long target = tickNanos * (tick + 1);
+        while (true) {
+            long now = elapsedNanos();
+            long sleepMillis = (target - now + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return true;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < TRANSFER_LIMIT; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 시각이면 현재 칸에 넣어 이번 tick에 바로 실행
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void processCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * 예약 하나 (취소 가능)
+     */
+    public final class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private long remainingRounds;
+
+        // 버킷 연결 리스트 (워커 스레드만 접근)
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        // 취소 (이미 실행됐거나 취소됐으면 false)
+        public boolean cancel() {
+            if (!state.compareAndSet(INIT, CANCELLED)) {
+                return false;
+            }
+            pendingCount.decrementAndGet();
+            cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        // 실행까지 남은 시간 (ns)
+        public long remainingNanos() {
+            return Math.max(0, deadline - elapsedNanos());
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(INIT, EXPIRED)) {
+                return;
+            }
+            pendingCount.decrementAndGet();
+            lagListener.accept(Math.max(0, elapsedNanos() - deadline));
+            try {
+                dispatcher.execute(task);
+            } catch (Exception e) {
+                log.error("타이머 작업 전달 실패", e);
+            }
+        }
+    }
+
+    // 휠 한 칸 (이중 연결 리스트, 워커 스레드만 접근)
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    // 이번 바퀴에 만료 (tick 정밀도 안에서 deadline <= 현재 시각)
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.state.get() == Timeout.CANCELLED) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.ssafy.backend.common.timer;
+
+import com.ssafy.backend.memory.executor.RoomExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 단위 이름 있는 마감 시각 관리 (게임 종료, 방장 응답 없음, 대기방 경고/타임아웃 등)
+ * - 모든 타이머는 하나의 해시드 타이밍 휠 위에서 동작
+ * - 같은 방에 같은 이름으로 다시 등록하면 기존 마감은 취소되고 교체됨
+ * - 만료된 작업은 RoomExecutor의 해당 방 mailbox에서 실행되므로 방 명령과 순서가 섞이지 않음
+ */
+@Service
+public class RoomDeadlineService implements DisposableBean {
+    private static final long TICK_MILLIS = 100;
+    private static final int TICKS_PER_WHEEL = 1024; // 한 바퀴 약 102초
+
+    private final RoomExecutor roomExecutor;
+    private final HashedWheelTimer wheel;
+
+    // 방ID -> (이름 -> 마감)
+    private final Map<Long, RoomDeadlines> rooms = new ConcurrentHashMap<>();
+
+    public RoomDeadlineService(RoomExecutor roomExecutor, MeterRegistry meterRegistry) {
+        this(roomExecutor, meterRegistry, null);
+    }
+
+    /**
+     * 테스트용: 주어진 휠 사용 (null이면 워커 스레드가 있는 기본 휠 생성)
+     */
+    RoomDeadlineService(RoomExecutor roomExecutor, MeterRegistry meterRegistry, HashedWheelTimer wheel) {
+        this.roomExecutor = roomExecutor;
+
+        Timer firingLag = Timer.builder("room.timers.firing.lag")
+                .description("예정 시각 대비 타이머 실행 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        // 만료 작업은 방 mailbox로 넘기기만 하므로 워커 스레드에서 바로 전달
+        this.wheel = wheel != null ? wheel : new HashedWheelTimer("room-deadline-wheel", TICK_MILLIS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL,
+                Runnable::run, lag -> firingLag.record(lag, TimeUnit.NANOSECONDS));
+
+        Gauge.builder("room.timers.pending", this.wheel, HashedWheelTimer::pendingTimeouts)
+                .description("실행 대기 중인 방 타이머 수")
+                .register(meterRegistry);
+    }
+
+    // 마감 등록 (같은 이름이 있으면 교체)
+    public void schedule(Long roomId, String name, Duration delay, Runnable task) {
+        while (true) {
+            RoomDeadlines deadlines = rooms.computeIfAbsent(roomId, id -> new RoomDeadlines());
+            synchronized (deadlines) {
+                // 잠금을 기다리는 사이 비어서 빠진 목록이면 새로 받아서 다시 시도
+                if (deadlines.removed) {
+                    continue;
+                }
+                Deadline previous = deadlines.byName.remove(name);
+                if (previous != null) {
+                    previous.cancel();
+                }
+                Deadline deadline = new Deadline(deadlines, roomId, name, task);
+                deadline.start(delay.toNanos());
+                deadlines.byName.put(name, deadline);
+                return;
+            }
+        }
+    }
+
+    // 마감이 등록돼 있는지 (일시정지 포함)
+    public boolean has(Long roomId, String name) {
+        RoomDeadlines deadlines = rooms.get(roomId);
+        if (deadlines == null) {
+            return false;
+        }
+        synchronized (deadlines) {
+            return deadlines.byName.containsKey(name);
+        }
+    }
+
+    // 마감 취소
+    public void cancel(Long roomId, String name) {
+        RoomDeadlines deadlines = rooms.get(roomId);
+        if (deadlines == null) {
+            return;
+        }
+        synchronized (deadlines) {
+            Deadline deadline = deadlines.byName.remove(name);
+            if (deadline != null) {
+                deadline.cancel();
+            }
+            removeIfEmpty(roomId, deadlines);
+        }
+    }
+
+    // 방의 모든 마감 취소
+    public void cancelAll(Long roomId) {
+        RoomDeadlines deadlines = rooms.remove(roomId);
+        if (deadlines == null) {
+            return;
+        }
+        synchronized (deadlines) {
+            deadlines.removed = true;
+            deadlines.byName.values().forEach(Deadline::cancel);
+            deadlines.byName.clear();
+        }
+    }
+
+    // 일시정지 (남은 시간 보관)
+    public void pause(Long roomId, String name) {
+        withDeadline(roomId, name, Deadline::pause);
+    }
+
+    // 일시정지된 마감 재개 (보관한 남은 시간부터)
+    public void resume(Long roomId, String name) {
+        withDeadline(roomId, name, Deadline::resume);
+    }
+
+    // 마감 연장 (일시정지 중이면 남은 시간만 늘림)
+    public void extend(Long roomId, String name, Duration extra) {
+        withDeadline(roomId, name, deadline -> deadline.extend(extra.toNanos()));
+    }
+
+    // 남은 시간 (등록돼 있지 않으면 null)
+    public Duration remaining(Long roomId, String name) {
+        RoomDeadlines deadlines = rooms.get(roomId);
+        if (deadlines == null) {
+            return null;
+        }
+        synchronized (deadlines) {
+            Deadline deadline = deadlines.byName.get(name);
+            return deadline == null ? null : Duration.ofNanos(deadline.remainingNanos());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        wheel.stop();
+    }
+
+    private void withDeadline(Long roomId, String name, Consumer<Deadline> action) {
+        RoomDeadlines deadlines = rooms.get(roomId);
+        if (deadlines == null) {
+            return;
+        }
+        synchronized (deadlines) {
+            Deadline deadline = deadlines.byName.get(name);
+            if (deadline != null) {
+                action.accept(deadline);
+            }
+        }
+    }
+
+    // 잠금 안에서 호출
+    private void removeIfEmpty(Long roomId, RoomDeadlines deadlines) {
+        if (deadlines.byName.isEmpty()) {
+            deadlines.removed = true;
+            rooms.remove(roomId, deadlines);
+        }
+    }
+
+    // 만료 -> 목록에서 제거 후 방 mailbox에서 실행
+    private void fire(Deadline deadline) {
+        RoomDeadlines deadlines = deadline.owner;
+        synchronized (deadlines) {
+            // 그 사이 교체/취소됐으면 실행하지 않음
+            if (deadlines.byName.get(deadline.name) != deadline) {
+                return;
+            }
+            deadlines.byName.remove(deadline.name);
+            removeIfEmpty(deadline.roomId, deadlines);
+        }
+        roomExecutor.execute(deadline.roomId, deadline.task);
+    }
+
+    // 방 하나의 마감 목록 (방 단위로만 잠금)
+    private static class RoomDeadlines {
+        private final Map<String, Deadline> byName = new HashMap<>();
+        // 비어서 rooms에서 빠졌는지 (빠진 목록에는 더 이상 등록하지 않음)
+        private boolean removed;
+    }
+
+    // 이름 있는 마감 하나 (RoomDeadlines 잠금 안에서만 변경)
+    private class Deadline {
+        private final RoomDeadlines owner;
+        private final Long roomId;
+        private final String name;
+        private final Runnable task;
+        private HashedWheelTimer.Timeout timeout;
+        private long pausedRemainingNanos = -1; // 일시정지 중이 아니면 -1
+
+        Deadline(RoomDeadlines owner, Long roomId, String name, Runnable task) {
+            this.owner = owner;
+            this.roomId = roomId;
+            this.name = name;
+            this.task = task;
+        }
+
+        void start(long delayNanos) {
+            timeout = wheel.schedule(() -> fire(this), delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        void cancel() {
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        void pause() {
+            if (pausedRemainingNanos >= 0) {
+                return;
+            }
+            pausedRemainingNanos = timeout.remainingNanos();
+            timeout.cancel();
+        }
+
+        void resume() {
+            if (pausedRemainingNanos < 0) {
+                return;
+            }
+            start(pausedRemainingNanos);
+            pausedRemainingNanos = -1;
+        }
+
+        void extend(long extraNanos) {
+            if (pausedRemainingNanos >= 0) {
+                pausedRemainingNanos += extraNanos;
+                return;
+            }
+            long remaining = timeout.remainingNanos();
+            // 이미 만료돼 실행 중이면 연장하지 않음
+            if (timeout.cancel()) {
+                start(remaining + extraNanos);
+            }
+        }
+
+        long remainingNanos() {
+            return pausedRemainingNanos >= 0 ? pausedRemainingNanos : timeout.remainingNanos();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ssafy.backend.config.executor;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * app.execution-mode 값 (platform / virtual, 대소문자 무시)
+ * - 알 수 없는 값이면 기동 시 실패 -> 채널과 스케줄러 중 일부만 가상 스레드로 바뀌는 상태를 막음
+ */
+public enum ExecutionMode {
+    PLATFORM, VIRTUAL;
+
+    public static ExecutionMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return PLATFORM;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(ExecutionModeConfig.MODE_PROPERTY + " 값이 올바르지 않습니다: " + value
+                    + " (가능한 값: " + Arrays.toString(values()).toLowerCase(Locale.ROOT) + ")");
+        }
+    }
+}
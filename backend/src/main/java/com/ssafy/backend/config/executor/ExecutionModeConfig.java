@@ -0,0 +1,64 @@
+package com.ssafy.backend.config.executor;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+/**
+ * 실행 모드 설정 (app.execution-mode, ExecutionMode로 한 번 파싱해서 스케줄러와 STOMP 채널이 같이 사용)
+ * - platform(기본값): 기존 동작 (STOMP 채널은 Spring 기본 스레드 풀, @Scheduled는 기본 TaskScheduler)
+ * - virtual: STOMP inbound/outbound 채널과 @Scheduled용 TaskScheduler를 가상 스레드로 실행
+ *   -> 게임 종료 시 JPA 저장처럼 블로킹되는 작업이 채널 스레드 풀을 붙잡지 않음
+ */
+@Slf4j
+@Getter
+@Configuration
+public class ExecutionModeConfig {
+    public static final String MODE_PROPERTY = "app.execution-mode";
+
+    private final ExecutionMode mode;
+
+    public ExecutionModeConfig(@Value("${" + MODE_PROPERTY + ":platform}") String mode) {
+        this.mode = ExecutionMode.from(mode);
+    }
+
+    public boolean isVirtual() {
+        return mode == ExecutionMode.VIRTUAL;
+    }
+
+    // @Scheduled 작업이 사용하는 스케줄러 (게임/방장/대기방 타이머는 RoomDeadlineService의 타이밍 휠에서 동작)
+    // 시간 계산은 스케줄러 스레드 하나가 하고, 실제 작업은 가상 스레드에서 실행
+    @Bean(name = "taskScheduler")
+    @Conditional(VirtualModeCondition.class)
+    public TaskScheduler taskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setVirtualThreads(true);
+        scheduler.setThreadNamePrefix("timer-");
+        log.info("실행 모드: virtual (@Scheduled 스케줄러 가상 스레드 사용)");
+        return scheduler;
+    }
+
+    // 작업마다 가상 스레드를 새로 만드는 실행기 (풀/큐 없음)
+    public static SimpleAsyncTaskExecutor virtualExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    // 빈 등록 여부는 설정 클래스 생성 전에 정해지므로 같은 파서로 프로퍼티를 직접 확인
+    static class VirtualModeCondition implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return ExecutionMode.from(context.getEnvironment().getProperty(MODE_PROPERTY)) == ExecutionMode.VIRTUAL;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.ssafy.backend.config.jwt;
 
+import com.ssafy.backend.auth.service.UserRevocationService;
 import com.ssafy.backend.config.security.CustomUserDetails;
 import com.ssafy.backend.entity.User;
 import com.ssafy.backend.exception.ErrorCode;
 import com.ssafy.backend.repository.UserRepository;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,12 +24,16 @@ import java.util.Set;
 /**
  * JWT 토큰을 검증하고 인증 정보를 설정하는 필터
  * JWT 관련 에러는 여기서 직접 처리 (ControllerExceptionAdvice와 분리)
+ * - statelessAuth: 서명된 클레임으로 인증 + 삭제 유저 목록 확인 (요청마다 DB 조회 없음)
+ * - 아니면 요청마다 DB에서 유저를 조회해 삭제 여부 확인
  */
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
     private final UserRepository userRepository;
+    private final UserRevocationService userRevocationService;
+    private final boolean statelessAuth;
 
     /**
      * 매 HTTP 요청마다 실행되는 JWT 검증 로직
@@ -50,38 +56,35 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 3단계: JWT 토큰 유효성 검증
+        // 3단계: JWT 토큰 유효성 검증 (서명 검증 + 파싱은 한 번만)
         try {
-            if (jwtUtil.isExpired(accessToken)) {
+            JwtClaims claims;
+            try {
+                claims = jwtUtil.parse(accessToken);
+            } catch (ExpiredJwtException e) {
                 sendErrorResponse(response, ErrorCode.TOKEN_EXPIRED);
                 return;
             }
-
-            // 4단계: 토큰 타입 확인 (access 토큰인지 확인)
-            if (!"access".equals(jwtUtil.getCategory(accessToken))) {
-                sendErrorResponse(response, ErrorCode.INVALID_TOKEN, "유효하지 않은 토큰 타입입니다.");
+            if (claims.isExpired()) {
+                sendErrorResponse(response, ErrorCode.TOKEN_EXPIRED);
                 return;
             }
 
-            // 5단계: 토큰에서 사용자 ID 추출하여 DB에서 사용자 조회
-            Long userId = jwtUtil.getUserId(accessToken);
-            Optional<User> userOptional = userRepository.findById(userId);
-
-            if (userOptional.isEmpty()) {
-                sendErrorResponse(response, ErrorCode.USER_NOT_FOUND);
+            // 4단계: 토큰 타입 확인 (access 토큰인지 확인)
+            if (!"access".equals(claims.getCategory())) {
+                sendErrorResponse(response, ErrorCode.INVALID_TOKEN, "유효하지 않은 토큰 타입입니다.");
                 return;
             }
 
-            User user = userOptional.get();
-
-            // 6단계: 삭제된 사용자 확인
-            if (user.getDeleted()) {
-                sendErrorResponse(response, ErrorCode.INVALID_USER, "삭제된 사용자입니다.");
+            // 5~6단계: 사용자 확인
+            CustomUserDetails customUserDetails = statelessAuth
+                    ? authenticateWithClaims(claims, response)
+                    : authenticateWithDatabase(claims, response);
+            if (customUserDetails == null) {
                 return;
             }
 
             // 7단계: 인증 정보를 Spring Security Context에 설정
-            CustomUserDetails customUserDetails = new CustomUserDetails(user);
             Authentication authToken = new UsernamePasswordAuthenticationToken(
                     customUserDetails,
                     null,
@@ -98,6 +101,38 @@ public class JWTFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * stateless 모드: 서명된 클레임을 그대로 신뢰하고 삭제된 유저만 메모리 목록으로 거름 (DB 조회 없음)
+     */
+    private CustomUserDetails authenticateWithClaims(JwtClaims claims, HttpServletResponse response) throws IOException {
+        if (userRevocationService.isRevoked(claims.getUserId())) {
+            sendErrorResponse(response, ErrorCode.INVALID_USER, "삭제된 사용자입니다.");
+            return null;
+        }
+        return CustomUserDetails.fromClaims(claims);
+    }
+
+    /**
+     * DB 모드: 토큰의 사용자 ID로 DB에서 사용자 조회 후 삭제 여부 확인
+     */
+    private CustomUserDetails authenticateWithDatabase(JwtClaims claims, HttpServletResponse response) throws IOException {
+        Optional<User> userOptional = userRepository.findById(claims.getUserId());
+
+        if (userOptional.isEmpty()) {
+            sendErrorResponse(response, ErrorCode.USER_NOT_FOUND);
+            return null;
+        }
+
+        User user = userOptional.get();
+
+        // 삭제된 사용자 확인
+        if (user.getDeleted()) {
+            sendErrorResponse(response, ErrorCode.INVALID_USER, "삭제된 사용자입니다.");
+            return null;
+        }
+        return new CustomUserDetails(user);
+    }
+
     /**
      * 인증이 필요없는 공개 경로인지 확인
      */
@@ -1,6 +1,12 @@
 package com.ssafy.backend.config.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -8,66 +14,89 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * JWT 생성/검증
+ * - parse: 서명 검증 + 파싱을 한 번만 하고 클레임을 한꺼번에 반환
+ * - 검증이 끝난 토큰은 SHA-256 digest -> 클레임으로 캐시 (최대 크기 제한, 토큰 만료 시각에 함께 만료)
+ *   -> 같은 토큰으로 들어오는 요청은 서명 검증 없이 캐시에서 바로 반환
+ */
 @Component
 public class JWTUtil {
     private final SecretKey secretKey;
+    // 파서는 불변 객체라 한 번 만들어 재사용
+    private final JwtParser parser;
+    // 토큰 digest -> 검증된 클레임 (최대 크기가 0이면 캐시하지 않음)
+    private final Cache<String, JwtClaims> verifiedTokens;
 
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
+    public JWTUtil(@Value("${spring.jwt.secret}") String secret,
+                   @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheSize) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
+        parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        verifiedTokens = claimsCacheSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+    }
+
+    /**
+     * 토큰 검증 후 클레임 반환 (최근 검증한 토큰은 캐시에서 반환)
+     * @throws ExpiredJwtException 만료된 토큰
+     * @throws JwtException 서명/형식이 올바르지 않은 토큰
+     */
+    public JwtClaims parse(String token) {
+        String digest = verifiedTokens == null ? null : digest(token);
+        JwtClaims cached = digest == null ? null : verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        Claims payload = parser.parseSignedClaims(token).getPayload();
+        JwtClaims claims = new JwtClaims(
+                payload.get("category", String.class),
+                payload.get("userId", Long.class),
+                payload.get("nickname", String.class),
+                payload.get("role", String.class),
+                payload.getExpiration()
+        );
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (digest != null && claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
     }
 
     // user_id 추출
     public Long getUserId(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("userId", Long.class);
+        return parse(token).getUserId();
     }
 
     // nickname 추출
     public String getNickname(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("nickname", String.class);
+        return parse(token).getNickname();
     }
 
     // role 추출
     public String getRole(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
+        return parse(token).getRole();
     }
 
     // 만료 검증
     public Boolean isExpired(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration()
-                .before(new Date());
+        return parse(token).isExpired();
     }
 
     // 토큰 판단 (category 추출)
     public String getCategory(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("category", String.class);
+        return parse(token).getCategory();
     }
 
     // 토큰 생성
@@ -85,15 +114,39 @@ public class JWTUtil {
 
     public boolean validateToken(String token) {
         try {
-            // JWT 파싱 및 검증
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            // 토큰이 만료되었는지 확인
-            return !isExpired(token);
+            // JWT 파싱 및 검증 (만료된 토큰은 예외)
+            return !parse(token).isExpired();
         } catch (Exception e) {
             return false;
         }
     }
+
+    // 토큰 원문 대신 digest를 캐시 키로 사용 (자격 증명을 메모리에 그대로 두지 않음)
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 캐시 항목은 토큰 만료 시각까지만 유지
+    private static class UntilTokenExpiration implements Expiry<String, JwtClaims> {
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
\ No newline at end of file
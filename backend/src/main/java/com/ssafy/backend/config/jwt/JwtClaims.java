@@ -0,0 +1,23 @@
+package com.ssafy.backend.config.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임 (JWTUtil.parse 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+    private final String category;  // access | refresh
+    private final Long userId;
+    private final String nickname;
+    private final String role;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
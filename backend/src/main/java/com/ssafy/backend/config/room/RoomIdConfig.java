@@ -0,0 +1,38 @@
+package com.ssafy.backend.config.room;
+
+import com.ssafy.backend.memory.id.BitmapRoomIdAllocator;
+import com.ssafy.backend.memory.id.NodePrefixedRoomIdAllocator;
+import com.ssafy.backend.memory.id.RoomIdAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 방 ID 할당기 설정
+ * - room.id.min ~ room.id.max 범위를 비트맵 할당기로 관리
+ * - room.id.node-id가 1 이상이면 노드 번호를 앞에 붙여 서버 간 ID 충돌을 막음
+ */
+@Slf4j
+@Configuration
+public class RoomIdConfig {
+
+    @Bean
+    public RoomIdAllocator roomIdAllocator(@Value("${room.id.min:100}") long minId,
+                                           @Value("${room.id.max:999}") long maxId,
+                                           @Value("${room.id.node-id:0}") long nodeId) {
+        RoomIdAllocator local = new BitmapRoomIdAllocator(minId, maxId);
+        if (nodeId <= 0) {
+            log.info("방 ID 할당기: bitmap {}~{}", minId, maxId);
+            return local;
+        }
+
+        // 노드 내부 ID 자릿수보다 한 자리 큰 10의 거듭제곱을 노드 단위로 사용
+        long span = 10;
+        while (span <= maxId) {
+            span *= 10;
+        }
+        log.info("방 ID 할당기: node-prefixed nodeId={}, span={}, 내부 범위 {}~{}", nodeId, span, minId, maxId);
+        return new NodePrefixedRoomIdAllocator(nodeId, span, local);
+    }
+}
@@ -1,7 +1,7 @@
 package com.ssafy.backend.config.security;
 
+import com.ssafy.backend.config.jwt.JwtClaims;
 import com.ssafy.backend.entity.User;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,13 +12,43 @@ import java.util.Collection;
 /**
  * Spring Security가 사용자 정보를 이해할 수 있게 해주는 어댑터 클래스
  * 우리의 User 엔티티를 Spring Security의 UserDetails 인터페이스에 맞게 변환
+ * - stateless JWT 인증에서는 DB 조회 없이 서명된 토큰 클레임으로 생성 (이때 User 엔티티는 없음)
  */
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
     private final User user;
+    private final Long userId;
+    private final String role;
+    private final String username;
+    private final boolean enabled;
+
+    public CustomUserDetails(User user) {
+        this.user = user;
+        this.userId = user.getUserId();
+        this.role = user.getRole();
+        this.username = user.getSocialId();
+        this.enabled = !user.getDeleted();
+    }
+
+    private CustomUserDetails(Long userId, String role) {
+        this.user = null;
+        this.userId = userId;
+        this.role = role;
+        // socialId는 토큰에 없으므로 userId를 username으로 사용
+        this.username = String.valueOf(userId);
+        // 삭제된 유저는 JWT 필터에서 이미 걸러짐
+        this.enabled = true;
+    }
+
+    /**
+     * 서명 검증이 끝난 JWT 클레임으로 생성 (DB 조회 없음)
+     */
+    public static CustomUserDetails fromClaims(JwtClaims claims) {
+        return new CustomUserDetails(claims.getUserId(), claims.getRole());
+    }
 
     /**
      * JWT 필터나 Controller에서 실제 User 정보에 접근할 때 사용
+     * - 클레임으로 생성한 경우 null (userId는 getUserId 사용)
      */
     public User getUser() {
         return user;
@@ -33,10 +63,10 @@ public class CustomUserDetails implements UserDetails {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
 
         // 사용자 역할에 ROLE_ 접두사 추가
-        String role = "ROLE_" + user.getRole();
+        String authority = "ROLE_" + role;
 
         // 역할을 목록에 추가
-        authorities.add(new SimpleGrantedAuthority(role));
+        authorities.add(new SimpleGrantedAuthority(authority));
 
         return authorities;
     }
@@ -46,7 +76,7 @@ public class CustomUserDetails implements UserDetails {
      * JWT 필터에서 사용자 ID가 필요할 때 사용
      */
     public Long getUserId() {
-        return user.getUserId();
+        return userId;
     }
 
     /**
@@ -54,7 +84,7 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public String getUsername() {
-        return user.getSocialId();
+        return username;
     }
 
     /**
@@ -82,6 +112,6 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return !user.getDeleted();
+        return enabled;
     }
 }
\ No newline at end of file
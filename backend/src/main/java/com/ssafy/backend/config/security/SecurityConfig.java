@@ -1,12 +1,16 @@
 package com.ssafy.backend.config.security;
 
+import com.ssafy.backend.auth.service.UserRevocationService;
 import com.ssafy.backend.config.jwt.JWTFilter;
 import com.ssafy.backend.config.jwt.JWTUtil;
 import com.ssafy.backend.exception.ErrorCode;
 import com.ssafy.backend.repository.UserRepository;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.access.hierarchicalroles.RoleHierarchyImpl;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -45,16 +49,43 @@ public class SecurityConfig {
         return configuration.getAuthenticationManager();
     }
 
+    /**
+     * 관리 포트(management.server.port) 전용 설정
+     * - Actuator(Prometheus 메트릭 포함)는 관리 포트에서만 응답하고, 관리 포트는 nginx/외부에 노출하지 않음
+     * - 내부 네트워크의 Prometheus가 인증 없이 수집할 수 있도록 관리 포트로 들어온 요청만 허용
+     * - 관리 포트를 따로 두지 않으면(서비스 포트와 같으면) 이 설정은 어떤 요청에도 적용되지 않음
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http,
+                                                             @Value("${server.port:8080}") int serverPort,
+                                                             @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        boolean separatePort = managementPort > 0 && managementPort != serverPort;
+        http
+                .securityMatcher(request -> separatePort && request.getLocalPort() == managementPort)
+                .csrf(csrf -> csrf.disable())
+                .formLogin(form -> form.disable())
+                .httpBasic(httpBasic -> httpBasic.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+        return http.build();
+    }
+
     /**
      * Spring Security 메인 설정 OAuth + JWT 기반 인증 시스템 구성
      */
     @Bean //  HTTP 요청이 들어올 때마다 필터부터 실행
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserRepository userRepository) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   UserRepository userRepository,
+                                                   UserRevocationService userRevocationService,
+                                                   @Value("${jwt.auth.stateless:true}") boolean statelessAuth) throws Exception {
         http.csrf(csrf -> csrf.disable()) // csrf 공격 방지 비활성화
                 .cors(Customizer.withDefaults())
                 .formLogin(form -> form.disable())
                 .httpBasic(httpBasic -> httpBasic.disable()) // 아이디/비밀번호 팝업 창 비활성화
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(CompletableFuture) 재디스패치 - 원래 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증 없이 접근 가능한 경로들
                         .requestMatchers(
                                 "/api/auth/login",           // 로그인
@@ -72,13 +103,15 @@ public class SecurityConfig {
                                 "/topic/**",                 // STOMP 서버 → 클라이언트 브로드캐스트
                                 "/queue/**",                 // STOMP 서버 → 클라이언트 개인 메시지
                                 "swagger-ui/**",
-                                "v3/api-docs/**"
+                                "v3/api-docs/**",
+                                "/actuator/health"           // 헬스 체크
                         ).permitAll()
                         // 나머지는 모두 인증 필요
                         .anyRequest().authenticated()
                 )
                 // JWT 필터를 UsernamePasswordAuthenticationFilter 앞에 등록
-                .addFilterBefore(new JWTFilter(jwtUtil, userRepository), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JWTFilter(jwtUtil, userRepository, userRevocationService, statelessAuth),
+                        UsernamePasswordAuthenticationFilter.class)
                 // 세션 사용 안 함 (JWT는 Stateless)
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
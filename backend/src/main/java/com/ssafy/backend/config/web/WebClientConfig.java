@@ -1,14 +1,26 @@
 package com.ssafy.backend.config.web;
 
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
 
 @Configuration
 public class WebClientConfig {
+    // 연결 타임아웃 / 응답 대기 타임아웃 (요청 한 번 기준, 전체 대기 한도는 호출하는 쪽에서)
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(@Value("${webclient.connect-timeout-ms:3000}") int connectTimeoutMillis,
+                               @Value("${webclient.read-timeout-ms:30000}") long readTimeoutMillis) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(readTimeoutMillis));
+
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
                 .build();
     }
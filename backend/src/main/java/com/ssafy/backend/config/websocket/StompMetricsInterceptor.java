@@ -0,0 +1,62 @@
+package com.ssafy.backend.config.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 핸들러 처리 시간 측정 (stomp.handler)
+ * - /app으로 들어온 SEND 메시지만 측정 (@MessageMapping 핸들러 + 응답 브로드캐스트까지 포함)
+ * - destination의 숫자 경로(roomId 등)는 {id}로 묶어서 태그 수를 제한
+ */
+@Component
+@RequiredArgsConstructor
+public class StompMetricsInterceptor implements ExecutorChannelInterceptor {
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    // beforeHandle ~ afterMessageHandled는 같은 스레드에서 호출됨
+    private static final ThreadLocal<Long> START = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (isApplicationSend(message)) {
+            START.set(System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Long start = START.get();
+        if (start == null) {
+            return;
+        }
+        START.remove();
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        Timer.builder("stomp.handler")
+                .description("STOMP 메시지 처리 시간")
+                .tag("destination", NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}"))
+                .tag("outcome", ex == null ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private boolean isApplicationSend(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        return SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE
+                && destination != null && destination.startsWith("/app/");
+    }
+}
@@ -1,6 +1,8 @@
 package com.ssafy.backend.config.websocket;
 
+import com.ssafy.backend.config.executor.ExecutionModeConfig;
 import com.ssafy.backend.config.jwt.JWTUtil;
+import com.ssafy.backend.config.jwt.JwtClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +24,10 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JWTUtil jwtUtil;
+    private final StompMetricsInterceptor stompMetricsInterceptor;
+
+    // platform: Spring 기본 채널 스레드 풀 / virtual: 메시지마다 가상 스레드
+    private final ExecutionModeConfig executionModeConfig;
 
     // 클라이언트가 메시지를 보낼 때 사용할 endpoint 설정 (즉, /app)
     @Override
@@ -29,6 +35,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         config.enableSimpleBroker("/topic","/queue"); // 서버 -> 클라 (브로드캐스트, 개별 메시지)
         config.setApplicationDestinationPrefixes("/app"); // 클라 -> 서버
         config.setUserDestinationPrefix("/user");
+        config.setPreservePublishOrder(true); // 세션별 발행 순서 보장 (로비 delta seq 순서 유지)
     }
 
     // WebSocket 연결을 위한 엔드포인트 등록
@@ -41,6 +48,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (executionModeConfig.isVirtual()) {
+            registration.executor(ExecutionModeConfig.virtualExecutor("ws-inbound-"));
+        }
+
         registration.interceptors(new ChannelInterceptor() {
             @Override
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -52,16 +63,25 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
                 return message;
             }
-        });
+        }, stompMetricsInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (executionModeConfig.isVirtual()) {
+            registration.executor(ExecutionModeConfig.virtualExecutor("ws-outbound-"));
+        }
     }
+
     private void authenticateUser(StompHeaderAccessor accessor) {
         try {
             // JWT 토큰 추출 시도
             String token = extractJwtToken(accessor);
+            JwtClaims claims = token != null ? parseValidToken(token) : null;
 
-            if (token != null && jwtUtil.validateToken(token)) {
+            if (claims != null) {
                 // JWT에서 사용자 정보 추출
-                authenticateWithJwt(accessor, token);
+                authenticateWithJwt(accessor, claims);
             } else {
                 // JWT 실패 시 fallback으로 헤더에서 직접 추출
                 authenticateWithHeaders(accessor);
@@ -87,25 +107,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         return null;
     }
 
-    private void authenticateWithJwt(StompHeaderAccessor accessor, String token) {
+    // 검증 + 파싱 한 번 (유효하지 않거나 만료된 토큰이면 null)
+    private JwtClaims parseValidToken(String token) {
         try {
-            // JWT 토큰 유효성 재검증
-            if (!jwtUtil.validateToken(token)) {
-                log.warn("유효하지 않은 JWT 토큰");
-                return;
-            }
+            JwtClaims claims = jwtUtil.parse(token);
+            return claims.isExpired() ? null : claims;
+        } catch (Exception e) {
+            return null;
+        }
+    }
 
+    private void authenticateWithJwt(StompHeaderAccessor accessor, JwtClaims claims) {
+        try {
             // access 토큰인지 확인
-            String category = jwtUtil.getCategory(token);
+            String category = claims.getCategory();
             if (!"access".equals(category)) {
                 log.warn("WebSocket 연결에 access 토큰이 아닌 토큰 사용: {}", category);
                 return;
             }
 
             // JWT에서 사용자 정보 추출
-            Long userId = jwtUtil.getUserId(token);
-            String nickname = jwtUtil.getNickname(token);
-            String role = jwtUtil.getRole(token);
+            Long userId = claims.getUserId();
+            String nickname = claims.getNickname();
+            String role = claims.getRole();
 
             // Principal 설정 및 세션에 정보 저장
             UserPrincipal principal = new UserPrincipal(userId, nickname, role);
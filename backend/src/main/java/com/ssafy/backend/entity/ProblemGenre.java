@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "problem_genres")
+@Table(name = "problem_genres", indexes = {
+        // 장르 필터(EXISTS)와 문제별 장르 이름 조회
+        @Index(name = "idx_problem_genres_genre_problem", columnList = "genre_id, problem_id"),
+        @Index(name = "idx_problem_genres_problem_genre", columnList = "problem_id, genre_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
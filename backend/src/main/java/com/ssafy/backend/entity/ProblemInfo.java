@@ -5,7 +5,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "problem_info")
+@Table(name = "problem_info", indexes = {
+        // 문제 검색 정렬별 keyset 인덱스 (정렬 키, problem_id)
+        @Index(name = "idx_problem_info_likes", columnList = "likes, problem_id"),
+        @Index(name = "idx_problem_info_success_rate", columnList = "success_rate, problem_id"),
+        @Index(name = "idx_problem_info_difficulty", columnList = "difficulty, problem_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -31,12 +36,6 @@ public class ProblemInfo {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Difficulty difficulty;
-    
-    public void incrementLikes() {
-        this.likes = this.likes + 1;
-    }
-    
-    public void incrementPlayCount() {
-        this.playCount = this.playCount + 1;
-    }
+
+    // likes / playCount 증가는 ProblemCounterService에서 "컬럼 = 컬럼 + ?"로 반영 (엔티티 read-modify-write 사용 금지)
 }
@@ -6,7 +6,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_created_problems")
+@Table(name = "user_created_problems", indexes = {
+        @Index(name = "idx_user_created_problems_problem", columnList = "problem_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserCreatedProblem {
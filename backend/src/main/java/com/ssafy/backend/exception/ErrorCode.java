@@ -34,9 +34,15 @@ public enum ErrorCode {
     NICKNAME_CONFLICT(HttpStatus.CONFLICT, "이미 사용중인 닉네임입니다."),
     USER_CONFLICT(HttpStatus.CONFLICT, "이미 존재하는 사용자입니다."),
 
+    // ===== 게임 관련 =====
+    INVALID_GAME_STATE(HttpStatus.CONFLICT, "게임을 진행할 수 없는 상태입니다."),
+
     // ===== AI 관련 =====
     AI_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI 문제 생성에 실패했습니다."),
-    AI_PROBLEM_NOT_FOUND(HttpStatus.NOT_FOUND, "AI 문제를 찾을 수 없습니다.");
+    AI_PROBLEM_NOT_FOUND(HttpStatus.NOT_FOUND, "AI 문제를 찾을 수 없습니다."),
+    AI_TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "AI 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    AI_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "AI 응답 시간이 초과되었습니다."),
+    AI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI 서버가 불안정합니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus status; // 응답의 statusCode로 사용됨
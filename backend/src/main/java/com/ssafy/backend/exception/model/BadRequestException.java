@@ -6,4 +6,8 @@ public class BadRequestException extends BaseException{
     public BadRequestException(ErrorCode errorCode) {
         super(errorCode);
     }
+
+    public BadRequestException(ErrorCode errorCode, String customMessage) {
+        super(errorCode, customMessage);
+    }
 }
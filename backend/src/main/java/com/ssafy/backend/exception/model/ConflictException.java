@@ -7,4 +7,8 @@ public class ConflictException extends BaseException {
     public ConflictException(ErrorCode errorCode) {
         super(errorCode);
     }
+
+    public ConflictException(ErrorCode errorCode, String customMessage) {
+        super(errorCode, customMessage);
+    }
 }
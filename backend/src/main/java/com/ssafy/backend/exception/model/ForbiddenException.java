@@ -7,4 +7,8 @@ public class ForbiddenException extends BaseException {
     public ForbiddenException(ErrorCode errorCode) {
         super(errorCode);
     }
+
+    public ForbiddenException(ErrorCode errorCode, String customMessage) {
+        super(errorCode, customMessage);
+    }
 }
\ No newline at end of file
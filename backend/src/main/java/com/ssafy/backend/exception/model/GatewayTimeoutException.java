@@ -0,0 +1,10 @@
+package com.ssafy.backend.exception.model;
+
+import com.ssafy.backend.exception.ErrorCode;
+
+public class GatewayTimeoutException extends BaseException {
+
+    public GatewayTimeoutException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -7,4 +7,8 @@ public class NotFoundException extends BaseException {
     public NotFoundException(ErrorCode errorCode) {
         super(errorCode);
     }
+
+    public NotFoundException(ErrorCode errorCode, String customMessage) {
+        super(errorCode, customMessage);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.ssafy.backend.exception.model;
+
+import com.ssafy.backend.exception.ErrorCode;
+
+public class ServiceUnavailableException extends BaseException {
+
+    public ServiceUnavailableException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ssafy.backend.exception.model;
+
+import com.ssafy.backend.exception.ErrorCode;
+
+public class TooManyRequestsException extends BaseException {
+
+    public TooManyRequestsException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
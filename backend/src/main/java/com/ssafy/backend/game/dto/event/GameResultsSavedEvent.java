@@ -0,0 +1,13 @@
+package com.ssafy.backend.game.dto.event;
+
+import com.ssafy.backend.game.result.GameResult;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게임 결과 묶음이 DB에 반영된 뒤 발행 (GameResultWriter 스레드에서 발행됨)
+@Getter
+@AllArgsConstructor
+public class GameResultsSavedEvent {
+    private List<GameResult> results;
+}
@@ -0,0 +1,111 @@
+package com.ssafy.backend.game.metrics;
+
+import com.ssafy.backend.exception.ErrorCode;
+import com.ssafy.backend.exception.model.BaseException;
+import com.ssafy.backend.memory.repository.RoomRepository;
+import com.ssafy.backend.memory.type.RoomState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 진행 메트릭 (/actuator/prometheus)
+ * - game.action: 게임 액션별 처리 시간 (방 mailbox 대기 포함, 히스토그램)
+ * - game.action.errors: 액션별 실패 수 (category = BaseException의 ErrorCode, 그 외 예외는 INTERNAL_SERVER_ERROR)
+ * - game.rooms / game.active / game.answer.queue / websocket.sessions: 현재 상태 게이지
+ */
+@Component
+public class GameMetrics {
+    private final MeterRegistry meterRegistry;
+    private final RoomRepository roomRepository;
+    // 채점 대기 중인 정답 시도 수 (방 mailbox 안에서 큐에 넣고 뺄 때 갱신, 수집 스레드는 이 값만 읽음)
+    private final AtomicInteger queuedAnswers = new AtomicInteger();
+
+    public GameMetrics(MeterRegistry meterRegistry, RoomRepository roomRepository, SimpUserRegistry simpUserRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.roomRepository = roomRepository;
+
+        // 상태별 방 수
+        for (RoomState state : RoomState.values()) {
+            Gauge.builder("game.rooms", roomRepository, repository -> repository.countByState(state))
+                    .description("상태별 방 수")
+                    .tag("state", state.name())
+                    .register(meterRegistry);
+        }
+
+        // 진행 중인 게임 수
+        Gauge.builder("game.active", this, metrics -> metrics.countActiveGames())
+                .description("진행 중인 게임 수")
+                .register(meterRegistry);
+
+        // 채점 대기 중인 정답 시도 수
+        Gauge.builder("game.answer.queue", queuedAnswers, AtomicInteger::get)
+                .description("채점 대기 중인 정답 시도 수")
+                .register(meterRegistry);
+
+        // 연결된 STOMP 세션 수
+        Gauge.builder("websocket.sessions", simpUserRegistry,
+                        registry -> registry.getUsers().stream().mapToInt(user -> user.getSessions().size()).sum())
+                .description("연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    // 액션 실행 + 시간/실패 기록
+    // 서비스 진입점(방 mailbox 밖)에서만 감쌀 것 - 안쪽에서 다시 감싸면 같은 처리가 두 액션에 중복 기록됨
+    public <T> T record(String action, Supplier<T> body) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            Counter.builder("game.action.errors")
+                    .description("게임 액션 실패 수")
+                    .tag("action", action)
+                    .tag("category", categorize(e))
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            Timer.builder("game.action")
+                    .description("게임 액션 처리 시간")
+                    .tag("action", action)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void record(String action, Runnable body) {
+        record(action, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    // 정답 시도 대기 수 변경 (방 mailbox 안에서 호출, 빠질 때는 음수)
+    public void answersQueued(int delta) {
+        queuedAnswers.addAndGet(delta);
+    }
+
+    // 실패 분류: ErrorCode 이름 (메시지 문구가 바뀌어도 분류는 유지)
+    static String categorize(RuntimeException e) {
+        if (e instanceof BaseException baseException) {
+            return baseException.getErrorCode().name();
+        }
+        return ErrorCode.INTERNAL_SERVER_ERROR.name();
+    }
+
+    private long countActiveGames() {
+        return roomRepository.findByState(RoomState.PLAYING).stream()
+                .filter(room -> room.getCurrentGame() != null)
+                .count();
+    }
+}
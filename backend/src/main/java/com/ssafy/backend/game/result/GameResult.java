@@ -0,0 +1,28 @@
+package com.ssafy.backend.game.result;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 끝난 게임 한 판의 결과 (GameResultWriter가 모아서 DB에 반영, 실패 시 spill 파일에 JSON 한 줄로 보관)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameResult {
+    // 결과 ID (UUID) - 같은 결과가 재시도/spill 재반영으로 두 번 반영되지 않도록 game_result_applied에 기록
+    private String resultId;
+    // 창작문제(UUID)면 null -> UserSolvedProblem/플레이 수는 생략하고 User 통계만 반영
+    private Long problemId;
+    private LocalDateTime finishedAt;
+    private List<Participant> participants;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Participant {
+        private Long userId;
+        private boolean winner;
+    }
+}
@@ -0,0 +1,496 @@
+package com.ssafy.backend.game.result;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.game.dto.event.GameResultsSavedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게임 결과 write-behind 저장
+ * - 게임 종료 시 submit()으로 큐에 넣기만 하고 바로 반환 (게임 종료 알림이 DB를 기다리지 않음)
+ * - 전용 스레드가 큐에 쌓인 결과를 묶어서 한 트랜잭션으로 반영
+ *   - user_solved_problems: JDBC batch insert
+ *   - users 통계: 사용자별로 합친 뒤 "컬럼 = 컬럼 + ?" UPDATE 한 번씩
+ *   - problem_info.play_count는 ProblemCounterService가 따로 모아서 반영
+ * - 반영이 끝난 묶음은 GameResultsSavedEvent로 알림 (기간별 랭킹 등)
+ * - 실패하면 백오프로 재시도하고, 그래도 안 되면 로컬 spill 파일(JSON lines)에 남겼다가 DB가 돌아오면 다시 반영
+ * - 결과마다 resultId를 같은 트랜잭션에서 game_result_applied에 기록하고, 이미 기록된 결과는 건너뜀
+ *   -> 커밋 응답 유실 후 재시도, spill 재반영 도중 종료 후 재반영에도 두 번 반영되지 않음
+ * - 결과 자체 문제(제약 위반 등)로 묶음이 거부되면 반으로 나눠 다시 시도하고, 한 건만 남아도 거부되면 dead-letter 파일로 보냄
+ *   -> 반영할 수 없는 결과 하나가 뒤의 결과를 막지 않음 (DB 장애로 실패하면 나누지 않고 spill)
+ */
+@Slf4j
+@Component
+public class GameResultWriter implements DisposableBean {
+    private static final String INSERT_SOLVED =
+            "INSERT INTO user_solved_problems (user_id, problem_id, is_winner, solved_at, solve_type) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_USER_STATS =
+            "UPDATE users SET total_games = COALESCE(total_games, 0) + ?, wins = COALESCE(wins, 0) + ? WHERE user_id = ?";
+    private static final String INSERT_APPLIED =
+            "INSERT INTO game_result_applied (result_id, applied_at) VALUES (?, ?)";
+    private static final String SELECT_APPLIED =
+            "SELECT result_id FROM game_result_applied WHERE result_id IN (%s)";
+    private static final String DELETE_APPLIED_BEFORE =
+            "DELETE FROM game_result_applied WHERE applied_at < ?";
+    private static final String SOLVE_TYPE = "NORMAL";
+
+    // 한 번 반영 시도의 결과
+    private enum Outcome {
+        WRITTEN,
+        // 결과 자체 문제 (제약 위반, 잘못된 값 등) -> 다시 해도 같음
+        REJECTED,
+        // DB 연결/트랜잭션 장애 -> 나중에 다시
+        UNAVAILABLE
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final BlockingQueue<GameResult> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long replayIntervalMillis;
+    private final Path spillPath;
+    private final Path replayingPath;
+    private final Path deadLetterPath;
+    private final int appliedRetentionDays;
+
+    // spill 파일 접근 잠금 (writer 스레드 + 큐가 가득 찼을 때의 호출 스레드)
+    private final Object spillLock = new Object();
+
+    private final Counter writtenCounter;
+    private final Counter spilledCounter;
+    private final Counter deadLetteredCounter;
+    private final Counter failedCounter;
+
+    private final Thread worker;
+    private volatile boolean running = true;
+    // 다음 spill 재반영 시도 시각 (writer 스레드만 접근, 시작하자마자 한 번 시도)
+    private long nextReplayAt = 0;
+
+    public GameResultWriter(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${game.result.queue-capacity:10000}") int queueCapacity,
+                            @Value("${game.result.batch-size:200}") int batchSize,
+                            @Value("${game.result.max-attempts:3}") int maxAttempts,
+                            @Value("${game.result.backoff-ms:500}") long backoffMillis,
+                            @Value("${game.result.replay-interval-ms:30000}") long replayIntervalMillis,
+                            @Value("${game.result.spill-path:data/game-result-spill.jsonl}") String spillPath,
+                            @Value("${game.result.dead-letter-path:data/game-result-dead.jsonl}") String deadLetterPath,
+                            @Value("${game.result.applied-retention-days:30}") int appliedRetentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.replayIntervalMillis = replayIntervalMillis;
+        this.spillPath = Paths.get(spillPath);
+        this.replayingPath = Paths.get(spillPath + ".replaying");
+        this.deadLetterPath = Paths.get(deadLetterPath);
+        this.appliedRetentionDays = appliedRetentionDays;
+
+        Gauge.builder("game.results.queue", queue, BlockingQueue::size)
+                .description("DB 반영 대기 중인 게임 결과 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("game.results.written")
+                .description("DB에 반영된 게임 결과 수")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("game.results.spilled")
+                .description("spill 파일로 넘어간 게임 결과 수")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("game.results.dead_lettered")
+                .description("반영할 수 없어 dead-letter 파일로 넘어간 게임 결과 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("game.results.flush.failures")
+                .description("게임 결과 DB 반영 실패 횟수 (재시도 포함)")
+                .register(meterRegistry);
+
+        this.worker = new Thread(this::runWorker, "game-result-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // 게임 결과 등록 (DB 반영은 비동기)
+    public void submit(GameResult result) {
+        if (result.getParticipants() == null || result.getParticipants().isEmpty()) {
+            return;
+        }
+        if (!running || !queue.offer(result)) {
+            // 종료 중이거나 큐가 가득 찼으면 버리지 않고 바로 spill
+            log.warn("게임 결과 큐 사용 불가 - spill 파일에 기록: problemId={}", result.getProblemId());
+            spill(List.of(result));
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+
+        // 종료 직전에 들어와 writer가 놓친 결과는 spill로 보관
+        List<GameResult> left = new ArrayList<>();
+        queue.drainTo(left);
+        spill(left);
+    }
+
+    private void runWorker() {
+        List<GameResult> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                GameResult first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    replaySpillIfDue();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+                batch.clear();
+                replaySpillIfDue();
+            } catch (InterruptedException e) {
+                // 종료 요청 -> 아래에서 남은 결과 정리
+                break;
+            } catch (Exception e) {
+                log.error("게임 결과 writer 처리 실패", e);
+                spill(batch);
+                batch.clear();
+            }
+        }
+
+        // 종료 시 남은 결과는 한 번만 시도하고 실패하면 spill (다음 기동 때 재반영)
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            spill(writeSplitting(batch));
+        }
+    }
+
+    // 재시도 포함 반영, 끝내 실패하면 spill
+    private void write(List<GameResult> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Outcome outcome = flushOnce(batch);
+            if (outcome == Outcome.WRITTEN) {
+                return;
+            }
+            if (outcome == Outcome.REJECTED) {
+                // 재시도해도 같으므로 나눠서 반영 가능한 것만 반영
+                List<GameResult> left = writeSplitting(batch);
+                if (left.isEmpty()) {
+                    return;
+                }
+                batch = left;
+            }
+            if (attempt < maxAttempts) {
+                // 종료로 중단되면 남은 batch는 runWorker 종료 처리에서 정리
+                Thread.sleep(backoffMillis << (attempt - 1));
+            }
+        }
+        log.error("게임 결과 DB 반영 {}회 실패 - spill 파일에 기록: count={}", maxAttempts, batch.size());
+        spill(batch);
+        // DB가 안 되는 동안은 spill 재반영도 미룸
+        nextReplayAt = System.currentTimeMillis() + replayIntervalMillis;
+    }
+
+    /**
+     * 묶음 반영, 거부되면 반으로 나눠 다시 시도 (한 건만 남아도 거부되면 dead-letter)
+     * - 결과 순서는 유지
+     * @return DB 장애로 반영하지 못한 결과 (호출한 쪽에서 spill)
+     */
+    private List<GameResult> writeSplitting(List<GameResult> batch) {
+        Deque<List<GameResult>> chunks = new ArrayDeque<>();
+        chunks.push(batch);
+        while (!chunks.isEmpty()) {
+            List<GameResult> chunk = chunks.pop();
+            Outcome outcome = flushOnce(chunk);
+            if (outcome == Outcome.WRITTEN) {
+                continue;
+            }
+            if (outcome == Outcome.UNAVAILABLE) {
+                List<GameResult> left = new ArrayList<>(chunk);
+                chunks.forEach(left::addAll);
+                return left;
+            }
+            if (chunk.size() == 1) {
+                deadLetter(chunk.get(0));
+                continue;
+            }
+            int mid = chunk.size() / 2;
+            chunks.push(chunk.subList(mid, chunk.size()));
+            chunks.push(chunk.subList(0, mid));
+        }
+        return List.of();
+    }
+
+    private Outcome flushOnce(List<GameResult> batch) {
+        List<GameResult> applied;
+        try {
+            applied = transactionTemplate.execute(status -> flush(batch));
+        } catch (Exception e) {
+            failedCounter.increment();
+            Outcome outcome = classify(e);
+            log.warn("게임 결과 DB 반영 실패: count={}, outcome={}, error={}", batch.size(), outcome, e.getMessage());
+            return outcome;
+        }
+        if (applied == null || applied.isEmpty()) {
+            return Outcome.WRITTEN;
+        }
+        writtenCounter.increment(applied.size());
+
+        try {
+            eventPublisher.publishEvent(new GameResultsSavedEvent(List.copyOf(applied)));
+        } catch (Exception e) {
+            // 반영은 끝났으므로 알림 실패로 재시도/spill 하지 않음
+            log.error("게임 결과 반영 알림 실패: count={}", applied.size(), e);
+        }
+        return Outcome.WRITTEN;
+    }
+
+    // DB에 닿지 못한 실패만 장애로 보고, 나머지(제약 위반, 잘못된 값 등)는 결과 자체 문제로 봄
+    private static Outcome classify(Exception e) {
+        if (e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException) {
+            return Outcome.UNAVAILABLE;
+        }
+        return Outcome.REJECTED;
+    }
+
+    // 한 트랜잭션 안에서 호출, 이번에 반영한 결과 반환 (이미 반영된 결과는 제외)
+    private List<GameResult> flush(List<GameResult> batch) {
+        List<GameResult> pending = notApplied(batch);
+        if (pending.isEmpty()) {
+            log.debug("이미 반영된 게임 결과 건너뜀: count={}", batch.size());
+            return pending;
+        }
+
+        List<Object[]> appliedRows = new ArrayList<>(pending.size());
+        List<Object[]> solvedRows = new ArrayList<>();
+        // 키 순서대로 UPDATE 해서 잠금 순서를 고정
+        Map<Long, int[]> userStats = new TreeMap<>(); // userId -> {게임 수, 승리 수}
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (GameResult result : pending) {
+            appliedRows.add(new Object[]{result.getResultId(), now});
+            Timestamp solvedAt = Timestamp.valueOf(result.getFinishedAt());
+            for (GameResult.Participant participant : result.getParticipants()) {
+                if (result.getProblemId() != null) {
+                    solvedRows.add(new Object[]{participant.getUserId(), result.getProblemId(),
+                            participant.isWinner(), solvedAt, SOLVE_TYPE});
+                }
+                int[] stats = userStats.computeIfAbsent(participant.getUserId(), id -> new int[2]);
+                stats[0]++;
+                if (participant.isWinner()) {
+                    stats[1]++;
+                }
+            }
+        }
+
+        // 같은 결과를 동시에 반영하려 하면 PK 충돌로 트랜잭션 전체가 롤백됨
+        jdbcTemplate.batchUpdate(INSERT_APPLIED, appliedRows);
+        if (!solvedRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SOLVED, solvedRows);
+        }
+        if (!userStats.isEmpty()) {
+            List<Object[]> rows = new ArrayList<>(userStats.size());
+            userStats.forEach((userId, stats) -> rows.add(new Object[]{stats[0], stats[1], userId}));
+            jdbcTemplate.batchUpdate(UPDATE_USER_STATS, rows);
+        }
+
+        log.debug("게임 결과 DB 반영: games={}, skipped={}, solvedRows={}, users={}",
+                pending.size(), batch.size() - pending.size(), solvedRows.size(), userStats.size());
+        return pending;
+    }
+
+    // game_result_applied에 없는 결과만
+    private List<GameResult> notApplied(List<GameResult> batch) {
+        String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+        Set<String> applied = new HashSet<>(jdbcTemplate.queryForList(String.format(SELECT_APPLIED, placeholders),
+                String.class, batch.stream().map(GameResult::getResultId).toArray()));
+        if (applied.isEmpty()) {
+            return batch;
+        }
+        return batch.stream().filter(result -> !applied.contains(result.getResultId())).toList();
+    }
+
+    /**
+     * 오래된 반영 기록 정리 (보관 기간보다 오래된 spill은 재반영 시 중복 확인이 안 됨)
+     */
+    @Scheduled(cron = "${game.result.applied-purge-cron:0 30 4 * * *}")
+    public void purgeAppliedRecords() {
+        try {
+            int deleted = jdbcTemplate.update(DELETE_APPLIED_BEFORE,
+                    Timestamp.valueOf(LocalDateTime.now().minusDays(appliedRetentionDays)));
+            log.info("게임 결과 반영 기록 정리: deleted={}", deleted);
+        } catch (Exception e) {
+            log.warn("게임 결과 반영 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // spill 파일 끝에 JSON 한 줄씩 추가 (fsync까지 해야 반환)
+    private void spill(List<GameResult> results) {
+        if (append(spillPath, results)) {
+            spilledCounter.increment(results.size());
+        }
+    }
+
+    // 반영할 수 없는 결과는 dead-letter 파일로 (재반영하지 않음, 확인 후 수동 처리)
+    private void deadLetter(GameResult result) {
+        log.error("게임 결과 반영 불가 - dead-letter 파일에 기록: resultId={}, problemId={}",
+                result.getResultId(), result.getProblemId());
+        if (append(deadLetterPath, List.of(result))) {
+            deadLetteredCounter.increment();
+        }
+    }
+
+    private boolean append(Path path, List<GameResult> results) {
+        if (results.isEmpty()) {
+            return false;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (GameResult result : results) {
+            try {
+                lines.append(objectMapper.writeValueAsString(result)).append('\n');
+            } catch (IOException e) {
+                log.error("게임 결과 직렬화 실패 - 유실: problemId={}", result.getProblemId(), e);
+            }
+        }
+
+        synchronized (spillLock) {
+            try {
+                Path parent = path.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (FileChannel channel = FileChannel.open(path,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(true);
+                }
+                return true;
+            } catch (IOException e) {
+                log.error("게임 결과 파일 기록 실패 - 유실: count={}, path={}", results.size(), path, e);
+                return false;
+            }
+        }
+    }
+
+    // spill 파일이 있으면 다시 DB에 반영 (writer 스레드에서만 호출)
+    private void replaySpillIfDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextReplayAt) {
+            return;
+        }
+        nextReplayAt = now + replayIntervalMillis;
+
+        // 이전 재반영 중에 종료됐으면 남은 .replaying 파일부터 처리
+        synchronized (spillLock) {
+            if (!Files.exists(replayingPath)) {
+                if (!Files.exists(spillPath)) {
+                    return;
+                }
+                try {
+                    Files.move(spillPath, replayingPath, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    log.error("spill 파일 이동 실패: path={}", spillPath, e);
+                    return;
+                }
+            }
+        }
+
+        List<GameResult> results = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(replayingPath, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    GameResult result = objectMapper.readValue(line, GameResult.class);
+                    if (result.getResultId() == null) {
+                        // resultId 도입 전 spill 줄 -> 줄 내용으로 고정 ID (다시 읽어도 같은 ID)
+                        result = new GameResult(UUID.nameUUIDFromBytes(line.getBytes(StandardCharsets.UTF_8)).toString(),
+                                result.getProblemId(), result.getFinishedAt(), result.getParticipants());
+                    }
+                    results.add(result);
+                } catch (IOException e) {
+                    log.error("spill 파일의 손상된 줄 건너뜀: {}", line, e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("spill 파일 읽기 실패: path={}", replayingPath, e);
+            return;
+        }
+
+        // batch 단위로 반영 (거부된 결과는 dead-letter), DB 장애로 못 한 나머지는 다시 spill 파일로
+        // (반영 도중 프로세스가 죽으면 .replaying 파일 전체를 다시 읽지만 이미 반영된 결과는 resultId로 건너뜀)
+        int replayed = 0;
+        for (int from = 0; from < results.size(); from += batchSize) {
+            List<GameResult> chunk = results.subList(from, Math.min(from + batchSize, results.size()));
+            List<GameResult> left = writeSplitting(chunk);
+            if (!left.isEmpty()) {
+                List<GameResult> unwritten = new ArrayList<>(left);
+                unwritten.addAll(results.subList(from + chunk.size(), results.size()));
+                spill(unwritten);
+                replayed += chunk.size() - left.size();
+                break;
+            }
+            replayed += chunk.size();
+        }
+
+        try {
+            Files.deleteIfExists(replayingPath);
+        } catch (IOException e) {
+            log.error("spill 파일 삭제 실패: path={}", replayingPath, e);
+        }
+        log.info("spill 파일 재반영: replayed={}, total={}", replayed, results.size());
+    }
+}
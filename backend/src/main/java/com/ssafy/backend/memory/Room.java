@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Setter
 @Getter
@@ -27,10 +29,12 @@ public class Room {
         this.timeLimit = timeLimit;
     }
 
+    // 변경은 RoomExecutor의 방 작업 안에서만 일어나지만
+    // 로비 스냅샷/응답 생성 등 다른 스레드에서도 읽으므로 동시 읽기가 안전한 컬렉션 사용
     // 플레이어 입장 순서 기록
-    private final List<Long> playerOrder = new ArrayList<>();
+    private final List<Long> playerOrder = new CopyOnWriteArrayList<>();
     // 현재 방에 있는 플레이어 정보
-    private final Map<Long, Player> players = new HashMap<>();
+    private final Map<Long, Player> players = new ConcurrentHashMap<>();
 
     // 현재 방에 참가한 플레이어 수 조회
     public int getCurrentPlayerCount() {
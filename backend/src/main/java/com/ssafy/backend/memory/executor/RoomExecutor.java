@@ -0,0 +1,136 @@
+package com.ssafy.backend.memory.executor;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 단위 직렬 실행기 (방마다 mailbox 하나)
+ * - 같은 방에 대한 작업은 들어온 순서대로 한 번에 하나씩 실행 -> Room/Game 내부에 락이 필요 없음
+ * - 서로 다른 방의 작업은 가상 스레드 위에서 병렬로 실행
+ * - STOMP 인바운드 스레드, 타이머 스레드, 연결 해제 리스너 모두 이 실행기를 거쳐 방 상태를 변경해야 함
+ */
+@Slf4j
+@Component
+public class RoomExecutor implements DisposableBean {
+    // mailbox 하나가 쉬지 않고 처리할 최대 작업 수 (넘으면 다시 예약해서 다른 방에 양보)
+    private static final int DRAIN_BATCH = 64;
+
+    // 현재 스레드가 처리 중인 방ID (같은 방 작업 안에서 다시 호출하면 바로 실행)
+    private static final ThreadLocal<Long> CURRENT_ROOM = new ThreadLocal<>();
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 방ID -> mailbox
+    // 방ID 범위만큼만 생기므로 방이 삭제돼도 지우지 않음 (지우면 같은 ID의 mailbox가 둘 생길 수 있음)
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    // 방 작업 실행 후 결과 반환 (작업이 던진 예외는 호출한 쪽에 그대로 전달)
+    public <T> T call(Long roomId, Supplier<T> task) {
+        Long current = CURRENT_ROOM.get();
+        if (roomId.equals(current)) {
+            return task.get();
+        }
+        if (current != null) {
+            // 다른 방 mailbox 안에서 기다리면 두 방이 서로를 기다리는 교착 상태가 될 수 있음
+            throw new IllegalStateException("방 " + current + " 작업 중에 방 " + roomId + " 작업을 기다릴 수 없습니다.");
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        mailboxes.computeIfAbsent(roomId, Mailbox::new).enqueue(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    // 반환값 없는 방 작업 실행 (완료까지 대기)
+    public void run(Long roomId, Runnable task) {
+        call(roomId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    // 방 작업 예약만 하고 바로 반환 (타이머 콜백 등)
+    public void execute(Long roomId, Runnable task) {
+        mailboxes.computeIfAbsent(roomId, Mailbox::new).enqueue(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("방 작업 실행 실패: roomId={}", roomId, e);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdown();
+    }
+
+    private class Mailbox {
+        private final Long roomId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        // 처리 스레드가 예약/실행 중인지 여부 (동시에 하나만)
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        Mailbox(Long roomId) {
+            this.roomId = roomId;
+        }
+
+        void enqueue(Runnable task) {
+            tasks.offer(task);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            CURRENT_ROOM.set(roomId);
+            try {
+                Runnable task;
+                int processed = 0;
+                while (processed < DRAIN_BATCH && (task = tasks.poll()) != null) {
+                    task.run();
+                    processed++;
+                }
+            } finally {
+                CURRENT_ROOM.remove();
+                scheduled.set(false);
+            }
+
+            // 해제 직전에 들어온 작업이 있으면 다시 예약
+            if (!tasks.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ssafy.backend.memory.id;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비트맵 기반 방 ID 할당기
+ * - [minId, maxId] 범위를 64비트 word 배열로 관리 (비트 1 = 사용 중)
+ * - 할당/반납 모두 word 단위 CAS라 락이 없음
+ * - 마지막으로 할당한 word부터 탐색해서, 방금 반납된 ID가 곧바로 다시 쓰이는 일을 줄임
+ */
+@Slf4j
+public class BitmapRoomIdAllocator implements RoomIdAllocator {
+    private final long minId;
+    private final int size;
+    private final AtomicLongArray words;
+    // 다음 탐색을 시작할 word 위치
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public BitmapRoomIdAllocator(long minId, long maxId) {
+        if (minId < 0 || maxId < minId || maxId - minId + 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("잘못된 방 ID 범위입니다: " + minId + "~" + maxId);
+        }
+        this.minId = minId;
+        this.size = (int) (maxId - minId + 1);
+        this.words = new AtomicLongArray((size + 63) >>> 6);
+
+        // 마지막 word에서 범위를 벗어나는 비트는 처음부터 사용 중으로 막아둠
+        int tail = size & 63;
+        if (tail != 0) {
+            words.set(words.length() - 1, -1L << tail);
+        }
+    }
+
+    @Override
+    public long allocate() {
+        int wordCount = words.length();
+        int start = Math.floorMod(cursor.get(), wordCount);
+
+        for (int i = 0; i < wordCount; i++) {
+            int index = (start + i) % wordCount;
+            long bits = words.get(index);
+
+            // 빈 비트가 남아 있는 동안 CAS 재시도
+            while (bits != -1L) {
+                int bit = Long.numberOfTrailingZeros(~bits);
+                if (words.compareAndSet(index, bits, bits | (1L << bit))) {
+                    cursor.set(index);
+                    return minId + ((long) index << 6) + bit;
+                }
+                bits = words.get(index);
+            }
+        }
+        throw new RuntimeException("사용 가능한 방이 없습니다.");
+    }
+
+    @Override
+    public void release(long roomId) {
+        long offset = roomId - minId;
+        if (offset < 0 || offset >= size) {
+            log.warn("범위를 벗어난 방 ID 반납 무시: roomId={}", roomId);
+            return;
+        }
+
+        int index = (int) (offset >>> 6);
+        long mask = 1L << (offset & 63);
+        while (true) {
+            long bits = words.get(index);
+            if ((bits & mask) == 0) {
+                log.warn("이미 반납된 방 ID: roomId={}", roomId);
+                return;
+            }
+            if (words.compareAndSet(index, bits, bits & ~mask)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return size;
+    }
+}
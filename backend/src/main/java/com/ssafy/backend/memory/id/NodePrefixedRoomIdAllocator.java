@@ -0,0 +1,49 @@
+package com.ssafy.backend.memory.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 번호를 앞에 붙이는 방 ID 할당기 (서버 여러 대 운영용)
+ * - 방 ID = nodeId * span + 노드 내부 ID  (예: span 10000, 노드 3의 내부 ID 120 -> 30120)
+ * - 노드 내부 ID는 위임받은 할당기가 관리하므로 노드끼리 ID가 겹치지 않음
+ */
+@Slf4j
+public class NodePrefixedRoomIdAllocator implements RoomIdAllocator {
+    private final long nodeId;
+    private final long span;
+    private final RoomIdAllocator local;
+
+    public NodePrefixedRoomIdAllocator(long nodeId, long span, RoomIdAllocator local) {
+        if (nodeId < 1 || span < 1) {
+            throw new IllegalArgumentException("잘못된 노드 설정입니다: nodeId=" + nodeId + ", span=" + span);
+        }
+        this.nodeId = nodeId;
+        this.span = span;
+        this.local = local;
+    }
+
+    @Override
+    public long allocate() {
+        long localId = local.allocate();
+        if (localId >= span) {
+            // 내부 ID가 span을 넘으면 다른 노드 ID와 겹치므로 되돌림
+            local.release(localId);
+            throw new IllegalStateException("노드 내부 방 ID가 span을 넘었습니다: " + localId);
+        }
+        return nodeId * span + localId;
+    }
+
+    @Override
+    public void release(long roomId) {
+        if (roomId / span != nodeId) {
+            log.warn("다른 노드의 방 ID 반납 무시: roomId={}, nodeId={}", roomId, nodeId);
+            return;
+        }
+        local.release(roomId % span);
+    }
+
+    @Override
+    public int capacity() {
+        return local.capacity();
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.backend.memory.id;
+
+/**
+ * 방 ID 할당기
+ * - 방 생성 경로에서 호출되므로 구현체는 락 없이 동작해야 함
+ * - 남은 ID가 없으면 RuntimeException
+ */
+public interface RoomIdAllocator {
+
+    // 새 방 ID 할당
+    long allocate();
+
+    // 삭제된 방의 ID 반납 (재사용 가능)
+    void release(long roomId);
+
+    // 동시에 할당할 수 있는 최대 ID 수
+    int capacity();
+}
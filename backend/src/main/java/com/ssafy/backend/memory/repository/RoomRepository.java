@@ -1,48 +1,57 @@
 package com.ssafy.backend.memory.repository;
 
 import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.id.RoomIdAllocator;
 import com.ssafy.backend.memory.type.RoomState;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListSet;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 @Slf4j
 @Repository
 public class RoomRepository {
-    private static final int MIN_ROOM_ID = 100; // 3자리 최소값
-    private static final int MAX_ROOM_ID = 999; // 3자리 최대값
-    private static final int MAX_ROOMS = MAX_ROOM_ID - MIN_ROOM_ID + 1; // 900개 방
     // 방 저장 (방ID, 방 객체)
     private final ConcurrentHashMap<Long, Room> rooms = new ConcurrentHashMap<>();
-    // 사용 가능한 방ID
-    private final ConcurrentLinkedQueue<Long> availableIds = new ConcurrentLinkedQueue<>();
+    // 방ID 할당/반납 (RoomIdConfig에서 범위와 방식 설정)
+    private final RoomIdAllocator roomIdAllocator;
 
-    public RoomRepository() {
-        // 방ID를 사용 가능한 ID 풀에 추가 (100~999)
-        for (long i = MIN_ROOM_ID; i <= MAX_ROOM_ID; i++) {
-            availableIds.offer(i);
+    // 상태별 정렬 인덱스 (상태 -> 방ID 오름차순 집합)
+    // 로비 목록은 enum 순서대로 각 집합을 이어 읽기만 하면 되므로 매 요청마다 정렬하지 않음
+    private final Map<RoomState, ConcurrentSkipListSet<Long>> stateIndex = new EnumMap<>(RoomState.class);
+    // 방이 현재 어느 상태 집합에 들어가 있는지 (인덱스 이동 시 이전 위치를 찾기 위함)
+    private final ConcurrentHashMap<Long, RoomState> indexedStates = new ConcurrentHashMap<>();
+
+    public RoomRepository(RoomIdAllocator roomIdAllocator) {
+        this.roomIdAllocator = roomIdAllocator;
+        // 인덱스 집합은 생성 시점에 모두 만들어 두고 이후에는 읽기만 함
+        for (RoomState state : RoomState.values()) {
+            stateIndex.put(state, new ConcurrentSkipListSet<>());
         }
     }
 
-    // 사용 가능한 방ID 반환
+    // 사용 가능한 방ID 반환 (남은 ID가 없으면 할당기가 예외)
     public Long getNextRoomId() {
-        Long roomId = availableIds.poll();
-        if (roomId == null) {
-            throw new RuntimeException("사용 가능한 방이 없습니다.");
-        }
-        return roomId;
+        return roomIdAllocator.allocate();
     }
 
     // 방 정보 저장
     public Room save(Room room) {
         rooms.put(room.getRoomId(), room);
+        reindex(room.getRoomId(), room.getState());
         return room;
     }
 
+    // 방 상태 변경 + 인덱스 갱신 (방 상태는 반드시 이 메서드로 변경)
+    public void changeState(Room room, RoomState newState) {
+        room.setState(newState);
+        reindex(room.getRoomId(), newState);
+    }
+
     // 방ID로 특정 방 조회
     public Room findById(Long roomId) {
         return rooms.get(roomId);
@@ -57,7 +66,8 @@ public class RoomRepository {
     public void delete(Long roomId) {
         Room removed = rooms.remove(roomId);
         if (removed != null) {
-            availableIds.offer(roomId);
+            unindex(roomId);
+            roomIdAllocator.release(roomId);
         }
     }
 
@@ -79,21 +89,60 @@ public class RoomRepository {
         userToRoom.remove(userId);
     }
 
+    // 상태 순서(enum 선언 순) -> 방 번호 순으로 정렬된 전체 방 목록
     public List<Room> findAllSorted() {
-        return rooms.values().stream()
-                .sorted((r1, r2) -> {
-                    // 상태별 정렬 후 방 번호 정렬
-                    int stateCompare = r1.getState().compareTo(r2.getState());
-                    if (stateCompare != 0) return stateCompare;
-                    return r1.getRoomId().compareTo(r2.getRoomId());
-                })
-                .collect(Collectors.toList());
+        List<Room> result = new ArrayList<>(rooms.size());
+        for (RoomState state : RoomState.values()) {
+            collect(stateIndex.get(state), result);
+        }
+        return result;
     }
 
+    // 특정 상태의 방 목록 (방 번호 순)
     public List<Room> findByState(RoomState state) {
-        return rooms.values().stream()
-                .filter(room -> room.getState() == state)
-                .sorted((r1, r2) -> r1.getRoomId().compareTo(r2.getRoomId()))
-                .collect(Collectors.toList());
+        ConcurrentSkipListSet<Long> ids = stateIndex.get(state);
+        List<Room> result = new ArrayList<>();
+        collect(ids, result);
+        return result;
+    }
+
+    // 특정 상태의 방 수 (메트릭용)
+    public int countByState(RoomState state) {
+        return stateIndex.get(state).size();
+    }
+
+    private void collect(ConcurrentSkipListSet<Long> ids, List<Room> result) {
+        for (Long roomId : ids) {
+            Room room = rooms.get(roomId);
+            if (room != null) {
+                result.add(room);
+            }
+        }
+    }
+
+    // 방ID 단위로 원자적으로 인덱스 위치 이동
+    private void reindex(Long roomId, RoomState newState) {
+        if (newState == null) {
+            return;
+        }
+        indexedStates.compute(roomId, (id, oldState) -> {
+            if (oldState != null && oldState != newState) {
+                stateIndex.get(oldState).remove(id);
+            }
+            // 동시에 삭제된 방이면 인덱스에 다시 넣지 않음
+            if (!rooms.containsKey(id)) {
+                stateIndex.get(newState).remove(id);
+                return null;
+            }
+            stateIndex.get(newState).add(id);
+            return newState;
+        });
+    }
+
+    private void unindex(Long roomId) {
+        indexedStates.computeIfPresent(roomId, (id, oldState) -> {
+            stateIndex.get(oldState).remove(id);
+            return null;
+        });
     }
 }
@@ -105,12 +105,14 @@ public class ProblemController {
     public ProblemListResponseDto searchProblems(@ModelAttribute ProblemSearchRequestDto requestDto) {
         Slice<ProblemSummaryDto> slice = problemService.searchProblems(requestDto);
 
-        Long nextCursor = slice.hasContent() ?
-                Long.parseLong(slice.getContent().get(slice.getContent().size() - 1).getProblemId()) : null;
+        ProblemSummaryDto last = slice.hasContent() ? slice.getContent().get(slice.getContent().size() - 1) : null;
+        Long nextCursor = last != null ? Long.parseLong(last.getProblemId()) : null;
+        String nextCursorKey = last != null ? last.getCursorKey() : null;
 
         return ProblemListResponseDto.builder()
                 .problemList(slice.getContent())
                 .nextCursor(nextCursor)
+                .nextCursorKey(nextCursorKey)
                 .hasNext(slice.hasNext())
                 .build();
     }
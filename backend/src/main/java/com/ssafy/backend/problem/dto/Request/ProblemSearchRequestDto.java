@@ -16,6 +16,8 @@ public class ProblemSearchRequestDto {
     private String sort = "latest";
     private String keyword;
     private Long cursor;
+    // 정렬 기준 값 (인기순 likes, 성공률순 successRate, 난이도순 difficulty) - 없으면 cursor 문제에서 조회
+    private String cursorKey;
     private Integer size = 10;
     private Long problemId;
 }
@@ -13,5 +13,6 @@ public class ProblemListResponseDto {
 
     private List<ProblemSummaryDto> problemList;
     private Long nextCursor;
+    private String nextCursorKey;
     private boolean hasNext;
 }
@@ -1,5 +1,6 @@
 package com.ssafy.backend.problem.dto.Response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ssafy.backend.memory.type.Difficulty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +22,10 @@ public class ProblemSummaryDto {
     private Integer likes;
     private String source;
 
+    // 다음 페이지 커서용 정렬 키 (응답에는 nextCursorKey로만 노출)
+    @JsonIgnore
+    private String cursorKey;
+
     @Getter
     @Builder
     @AllArgsConstructor
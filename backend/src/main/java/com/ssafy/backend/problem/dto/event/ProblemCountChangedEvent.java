@@ -0,0 +1,13 @@
+package com.ssafy.backend.problem.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 문제 좋아요/플레이 수 증가분이 DB에 반영된 뒤 발행 (랭킹 증분 갱신용)
+@Getter
+@AllArgsConstructor
+public class ProblemCountChangedEvent {
+    private Long problemId;
+    private long likesDelta;
+    private long playCountDelta;
+}
@@ -0,0 +1,184 @@
+package com.ssafy.backend.problem.service;
+
+import com.ssafy.backend.problem.dto.event.ProblemCountChangedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ProblemInfo 좋아요/플레이 수 집계 카운터
+ * - 증가분은 문제별 LongAdder에 모아두고 (경합이 심해도 스트라이프로 분산) 주기적으로
+ *   "likes = likes + ?, play_count = play_count + ?" UPDATE로 한 번에 반영 -> 엔티티 read-modify-write로 인한 유실 없음
+ * - 조회 시 DB 값에 아직 반영되지 않은 증가분을 더해서 반환 (문제 상세/랭킹)
+ * - 반영이 끝난 증가분은 ProblemCountChangedEvent로 알림 (랭킹 ZSET 증분 갱신)
+ * - 정상 종료(재배포 포함) 시에는 남은 증가분을 모두 반영한 뒤 종료 (실패하면 몇 번 재시도)
+ * - 비정상 종료(kill -9, OOM 등) 시에는 마지막 반영 이후 최대 flush 주기 동안의 증가분이 유실됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProblemCounterService {
+    private static final String UPDATE_COUNTERS =
+            "UPDATE problem_info SET likes = likes + ?, play_count = play_count + ? WHERE problem_id = ?";
+    private static final int SHUTDOWN_FLUSH_ATTEMPTS = 3;
+    private static final long SHUTDOWN_RETRY_MILLIS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 문제ID -> 미반영 증가분
+    // 문제 수만큼만 생기고, 지우면 동시에 들어온 증가분이 빠진 객체에 쌓일 수 있어서 지우지 않음
+    private final Map<Long, Deltas> pending = new ConcurrentHashMap<>();
+
+    // 좋아요 1 증가
+    public void incrementLikes(Long problemId) {
+        deltas(problemId).likes.increment();
+    }
+
+    // 플레이 수 증가 (게임 한 판의 참가자 수만큼)
+    public void addPlayCount(Long problemId, int count) {
+        deltas(problemId).playCount.add(count);
+    }
+
+    // DB 값 + 미반영 좋아요 수
+    public int mergeLikes(Long problemId, Integer persisted) {
+        Deltas deltas = pending.get(problemId);
+        return (persisted != null ? persisted : 0) + (deltas == null ? 0 : (int) (deltas.likes.sum() + deltas.flushingLikes.sum()));
+    }
+
+    // DB 값 + 미반영 플레이 수
+    public int mergePlayCount(Long problemId, Integer persisted) {
+        Deltas deltas = pending.get(problemId);
+        return (persisted != null ? persisted : 0) + (deltas == null ? 0 : (int) (deltas.playCount.sum() + deltas.flushingPlayCount.sum()));
+    }
+
+    /**
+     * 미반영 증가분을 DB에 반영
+     * - 읽은 만큼만 빼므로 반영 중에 들어온 증가분은 다음 주기로 넘어감
+     * - 반영 중인 증가분은 flushing 쪽으로 옮겨두고 커밋 후에 지움 (그 사이 조회에서 빠지지 않도록)
+     * - 실패하면 뺀 만큼 다시 더해서 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${problem.counter.flush-ms:1000}")
+    public synchronized void flush() {
+        List<Object[]> rows = new ArrayList<>();
+        List<Taken> taken = new ArrayList<>();
+
+        pending.forEach((problemId, deltas) -> {
+            long likes = deltas.likes.sum();
+            long playCount = deltas.playCount.sum();
+            if (likes == 0 && playCount == 0) {
+                return;
+            }
+            deltas.flushingLikes.add(likes);
+            deltas.flushingPlayCount.add(playCount);
+            deltas.likes.add(-likes);
+            deltas.playCount.add(-playCount);
+            rows.add(new Object[]{likes, playCount, problemId});
+            taken.add(new Taken(problemId, deltas, likes, playCount));
+        });
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        boolean flushed = false;
+        try {
+            // 일부만 반영된 채 실패하면 되돌릴 때 중복되므로 한 트랜잭션으로 반영
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_COUNTERS, rows));
+            flushed = true;
+            log.debug("문제 카운터 반영: problems={}", rows.size());
+        } catch (Exception e) {
+            taken.forEach(t -> {
+                t.deltas.likes.add(t.likes);
+                t.deltas.playCount.add(t.playCount);
+            });
+            log.warn("문제 카운터 반영 실패 - 다음 주기에 재시도: problems={}, error={}", rows.size(), e.getMessage());
+        } finally {
+            taken.forEach(t -> {
+                t.deltas.flushingLikes.add(-t.likes);
+                t.deltas.flushingPlayCount.add(-t.playCount);
+            });
+        }
+
+        if (flushed) {
+            taken.forEach(t -> publishChanged(t.problemId, t.likes, t.playCount));
+        }
+    }
+
+    private void publishChanged(Long problemId, long likes, long playCount) {
+        try {
+            eventPublisher.publishEvent(new ProblemCountChangedEvent(problemId, likes, playCount));
+        } catch (Exception e) {
+            // 랭킹 갱신 실패는 정기 재계산에서 맞춰짐
+            log.error("문제 카운터 변경 알림 실패: problemId={}", problemId, e);
+        }
+    }
+
+    /**
+     * 종료 전 남은 증가분을 모두 반영
+     * - 반영에 실패하면 잠시 후 재시도, 끝내 실패하면 유실되는 양을 로그로 남김
+     */
+    @PreDestroy
+    public void drain() {
+        for (int attempt = 1; attempt <= SHUTDOWN_FLUSH_ATTEMPTS; attempt++) {
+            flush();
+            if (pendingLikes() == 0 && pendingPlayCount() == 0) {
+                log.info("종료 전 문제 카운터 반영 완료");
+                return;
+            }
+            try {
+                Thread.sleep(SHUTDOWN_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.error("종료 전 문제 카운터 반영 실패 - 유실: likes={}, playCount={}", pendingLikes(), pendingPlayCount());
+    }
+
+    private long pendingLikes() {
+        return pending.values().stream().mapToLong(deltas -> deltas.likes.sum()).sum();
+    }
+
+    private long pendingPlayCount() {
+        return pending.values().stream().mapToLong(deltas -> deltas.playCount.sum()).sum();
+    }
+
+    private Deltas deltas(Long problemId) {
+        return pending.computeIfAbsent(problemId, id -> new Deltas());
+    }
+
+    private static class Deltas {
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder playCount = new LongAdder();
+        // DB에 반영 중인 증가분
+        private final LongAdder flushingLikes = new LongAdder();
+        private final LongAdder flushingPlayCount = new LongAdder();
+    }
+
+    // 이번 주기에 빼낸 증가분 (실패 시 되돌리기 / 반영 후 알림용)
+    private static class Taken {
+        private final Long problemId;
+        private final Deltas deltas;
+        private final long likes;
+        private final long playCount;
+
+        Taken(Long problemId, Deltas deltas, long likes, long playCount) {
+            this.problemId = problemId;
+            this.deltas = deltas;
+            this.likes = likes;
+            this.playCount = playCount;
+        }
+    }
+}
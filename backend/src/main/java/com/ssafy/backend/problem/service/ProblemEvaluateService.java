@@ -5,7 +5,6 @@ import com.ssafy.backend.memory.Problem;
 import com.ssafy.backend.problem.dto.Request.ProblemCreateDto;
 import com.ssafy.backend.problem.dto.Request.ProblemEvaluateRequestDto;
 import com.ssafy.backend.repository.ProblemLikeRepository;
-import com.ssafy.backend.repository.ProblemInfoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -23,7 +22,7 @@ public class ProblemEvaluateService {
     private final MemoryProblemService memoryProblemService;
     private final ProblemService problemService;
     private final ProblemLikeRepository problemLikeRepository;
-    private final ProblemInfoRepository problemInfoRepository;
+    private final ProblemCounterService problemCounterService;
 
     // Redis Key Prefix 설정
     private static final String MEMORY_LIKED_USERS_PREFIX = "memory:liked_users:"; // 메모리 문제 좋아요 유저 Set
@@ -240,11 +239,8 @@ public class ProblemEvaluateService {
                     .build();
             problemLikeRepository.save(problemLike);
             
-            // 2. ProblemInfo의 likes 수 증가
-            problemInfoRepository.findById(problemId).ifPresent(problemInfo -> {
-                problemInfo.incrementLikes();
-                problemInfoRepository.save(problemInfo);
-            });
+            // 2. ProblemInfo의 likes 수 증가 (카운터에 모았다가 주기적으로 반영)
+            problemCounterService.incrementLikes(problemId);
             
             log.debug("ProblemLike 저장 및 ProblemInfo likes 증가: userId={}, problemId={}", userId, problemId);
         } else {
@@ -26,6 +26,7 @@ public class ProblemService {
     private final ProblemGenreRepository problemGenreRepository;
     private final UserCreatedProblemRepository userCreatedProblemRepository;
     private final ProblemInfoRepository problemInfoRepository;
+    private final ProblemCounterService problemCounterService;
 
     private final ProblemRepositoryCustom problemRepositoryCustom;
 
@@ -144,8 +145,9 @@ public class ProblemService {
                         .userId(creator.getSocialId())
                         .nickname(creator.getNickname())
                         .build())
-                .likes(problemInfo.getLikes())
-                .playCount(problemInfo.getPlayCount())
+                // 아직 DB에 반영되지 않은 증가분 포함
+                .likes(problemCounterService.mergeLikes(problemId, problemInfo.getLikes()))
+                .playCount(problemCounterService.mergePlayCount(problemId, problemInfo.getPlayCount()))
                 .successCount(problemInfo.getSuccessCount())
                 .successRate(problemInfo.getSuccessRate())
                 .source(problem.getSource().name())
@@ -2,18 +2,24 @@ package com.ssafy.backend.ranking.controller;
 
 import com.ssafy.backend.common.response.ApiResponse;
 import com.ssafy.backend.common.response.SuccessResponse;
+import com.ssafy.backend.config.security.CustomUserDetails;
+import com.ssafy.backend.exception.ErrorCode;
 import com.ssafy.backend.exception.SuccessCode;
+import com.ssafy.backend.ranking.dto.MyRankingResponse;
 import com.ssafy.backend.ranking.dto.RankingItem;
 import com.ssafy.backend.ranking.dto.RankingResponse;
+import com.ssafy.backend.ranking.dto.RankingWindow;
 import com.ssafy.backend.ranking.dto.UserRankingResponse;
 import com.ssafy.backend.ranking.service.RankingCacheService;
 import com.ssafy.backend.ranking.service.RankingService;
+import com.ssafy.backend.ranking.service.WindowedRankingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
@@ -28,6 +34,11 @@ public class RankingController {
 
     private final RankingService rankingService;
     private final RankingCacheService rankingCacheService;
+    private final WindowedRankingService windowedRankingService;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_USER_PAGE_SIZE = 100;
+    private static final int MAX_AROUND = 50;
 
     /**
      * 전체 문제 랭킹 조회
@@ -35,30 +46,43 @@ public class RankingController {
     @GetMapping
     @Operation(
             summary = "전체 문제 랭킹 조회",
-            description = "좋아요와 플레이 수를 기반으로 한 전체 문제 랭킹을 조회합니다."
+            description = "좋아요와 플레이 수를 기반으로 한 전체 문제 랭킹을 조회합니다. window로 일간/주간 랭킹을 조회할 수 있습니다."
     )
-    public ResponseEntity<SuccessResponse<RankingResponse>> getRanking(
-            @Parameter(description = "조회할 랭킹 개수", example = "10")
-            @RequestParam(defaultValue = "10") int limit) {
+    public ResponseEntity<?> getRanking(
+            @Parameter(description = "조회할 랭킹 개수 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "집계 기간 (daily | weekly | all)", example = "all")
+            @RequestParam(defaultValue = "all") String window) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        RankingWindow rankingWindow;
+        try {
+            rankingWindow = RankingWindow.from(window);
+        } catch (IllegalArgumentException e) {
+            log.warn("랭킹 조회 요청 오류: {}", e.getMessage());
+            return ApiResponse.error(ErrorCode.VALIDATION_FAILED, e.getMessage());
+        }
         try {
+            // 0. 기간별 랭킹은 시간 버킷 ZSET에서 조회
+            if (rankingWindow != RankingWindow.ALL_TIME) {
+                return ApiResponse.success(
+                        SuccessCode.GET_SUCCESS.getStatus(),
+                        SuccessCode.GET_SUCCESS.getMessage(),
+                        rankingService.buildRankingResponse(windowedRankingService.getProblemRanking(rankingWindow, size))
+                );
+            }
+
             // 1. Redis 캐시에서 조회
-            List<RankingItem> ranking = rankingCacheService.getCachedRanking(limit);
+            List<RankingItem> ranking = rankingCacheService.getCachedRanking(size);
 
             if (ranking == null) {
                 // 2. 캐시 미스시 DB에서 계산
                 log.warn("⚠️ 랭킹 캐시 미스 - DB에서 조회");
-                ranking = rankingService.calculateRankingFromDB();
+                // DB 조회 후 캐시에 저장 (증분 갱신 기준이 되도록 전체 문제 저장)
+                log.info("💾 랭킹 데이터를 캐시에 저장합니다...");
+                List<RankingItem> scored = rankingCacheService.reloadRanking(rankingService::calculateAllScoresFromDB);
 
-                // DB 조회 후 캐시에 저장
-                if (ranking != null && !ranking.isEmpty()) {
-                    log.info("💾 랭킹 데이터를 캐시에 저장합니다...");
-                    rankingCacheService.cacheRanking(ranking);
-                }
-
-                // 상위 limit개만 자르기
-                if (ranking != null && ranking.size() > limit) {
-                    ranking = ranking.subList(0, limit);
-                }
+                // 상위 limit개만 순위 부여
+                ranking = rankingService.rankTop(scored, size);
             }
 
             /// 3. 응답 생성
@@ -92,8 +116,7 @@ public class RankingController {
     @Operation(summary = "랭킹 캐시 강제 갱신")
     public ResponseEntity<SuccessResponse<String>> refreshRanking() {
         try {
-            List<RankingItem> ranking = rankingService.calculateRankingFromDB();
-            rankingCacheService.cacheRanking(ranking);
+            List<RankingItem> ranking = rankingCacheService.reloadRanking(rankingService::calculateAllScoresFromDB);
 
             return ApiResponse.success(
                     SuccessCode.UPDATE_SUCCESS.getStatus(),
@@ -112,49 +135,75 @@ public class RankingController {
     }
 
     /**
-     * 유저 랭킹 조회
+     * 유저 랭킹 조회 (커서 페이지)
      */
     @GetMapping("/users")
     @Operation(
             summary = "전체 유저 랭킹 조회",
-            description = "총 게임 수를 기준으로 한 전체 유저 랭킹을 조회합니다."
+            description = "총 게임 수를 기준으로 한 전체 유저 랭킹을 조회합니다. 응답의 nextCursor/nextCursorKey를 cursor/cursorKey로 넘기면 다음 페이지를 조회합니다. "
+                    + "window로 일간/주간 랭킹(기간 내 게임 수, 상위 limit명)을 조회할 수 있습니다. 기간별 랭킹은 커서를 지원하지 않습니다."
     )
-    public ResponseEntity<SuccessResponse<UserRankingResponse>> getUserRanking(
-            @Parameter(description = "조회할 랭킹 개수", example = "10")
-            @RequestParam(defaultValue = "10") int limit) {
+    public ResponseEntity<?> getUserRanking(
+            @Parameter(description = "조회할 랭킹 개수 (최대 100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "이전 페이지 마지막 유저 ID (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "이전 페이지 마지막 유저의 총 게임 수 (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursorKey,
+            @Parameter(description = "집계 기간 (daily | weekly | all)", example = "all")
+            @RequestParam(defaultValue = "all") String window) {
+        int size = Math.max(1, Math.min(limit, MAX_USER_PAGE_SIZE));
+        RankingWindow rankingWindow;
         try {
-            // 1) Redis 캐시 조회
+            rankingWindow = RankingWindow.from(window);
+        } catch (IllegalArgumentException e) {
+            log.warn("유저 랭킹 조회 요청 오류: {}", e.getMessage());
+            return ApiResponse.error(ErrorCode.VALIDATION_FAILED, e.getMessage());
+        }
+        if (rankingWindow != RankingWindow.ALL_TIME && (cursor != null || cursorKey != null)) {
+            // 기간별 랭킹은 상위 limit명만 조회
+            return ApiResponse.error(ErrorCode.VALIDATION_FAILED, "기간별 랭킹은 커서를 지원하지 않습니다");
+        }
+        try {
+            // 0) 기간별 랭킹은 시간 버킷 ZSET에서 조회
+            if (rankingWindow != RankingWindow.ALL_TIME) {
+                return ApiResponse.success(
+                        SuccessCode.GET_SUCCESS.getStatus(),
+                        SuccessCode.GET_SUCCESS.getMessage(),
+                        rankingService.buildUserRankingResponse(windowedRankingService.getUserRanking(rankingWindow, size))
+                );
+            }
+
+            // 1) Redis 캐시 조회 (다음 페이지 여부 확인용으로 1명 더)
             List<UserRankingResponse.UserRankingItem> userRanking =
-                    rankingCacheService.getCachedUserRanking(limit);
+                    rankingCacheService.getCachedUserRanking(cursor, cursorKey, size + 1);
 
-            if (userRanking == null || userRanking.isEmpty()) {
-                // 2) 캐시 미스 → DB 조회
+            if (userRanking == null) {
+                // 2) 캐시 미스 → DB 조회 후 전체 적재
                 log.warn("⚠️ 유저 랭킹 캐시 미스 - DB에서 조회");
-                userRanking = rankingService.calculateUserRankingFromDB();
-
-                // 3) 캐시에 저장
-                if (userRanking != null && !userRanking.isEmpty()) {
+                List<UserRankingResponse.UserRankingItem> all = rankingService.calculateUserRankingFromDB();
+                if (!all.isEmpty()) {
                     log.info("💾 유저 랭킹 데이터를 캐시에 저장합니다...");
-                    rankingCacheService.cacheUserRanking(userRanking);
+                    rankingCacheService.cacheUserRanking(all);
+                    userRanking = rankingCacheService.getCachedUserRanking(cursor, cursorKey, size + 1);
                 }
 
-                // 4) 상위 limit 개로 자르기
-                if (userRanking != null && userRanking.size() > limit) {
-                    userRanking = userRanking.subList(0, limit);
+                // 3) Redis를 쓸 수 없으면 첫 페이지만 DB 결과로 응답
+                if (userRanking == null) {
+                    userRanking = cursor == null ? all.subList(0, Math.min(size + 1, all.size())) : Collections.emptyList();
                 }
             }
 
-            // 5) 응답 생성
-            UserRankingResponse body = rankingService.buildUserRankingResponse(
-                    userRanking != null ? userRanking : Collections.emptyList()
-            );
-
+            // 4) 응답 생성
             return ApiResponse.success(
                     SuccessCode.GET_SUCCESS.getStatus(),
                     SuccessCode.GET_SUCCESS.getMessage(),
-                    body
+                    rankingService.buildUserRankingPage(userRanking, size)
             );
 
+        } catch (IllegalArgumentException e) {
+            log.warn("유저 랭킹 조회 요청 오류: {}", e.getMessage());
+            return ApiResponse.error(ErrorCode.VALIDATION_FAILED, e.getMessage());
         } catch (Exception e) {
             log.error("유저 랭킹 조회 실패", e);
             UserRankingResponse empty = UserRankingResponse.builder()
@@ -170,6 +219,52 @@ public class RankingController {
         }
     }
 
+    /**
+     * 내 유저 랭킹 + 주변 순위 조회
+     */
+    @GetMapping("/users/me")
+    @Operation(
+            summary = "내 유저 랭킹 조회",
+            description = "총 게임 수 기준 내 순위와 앞뒤 around명의 순위를 조회합니다. 게임 기록이 없으면 me가 비어 있습니다."
+    )
+    public ResponseEntity<?> getMyUserRanking(
+            @Parameter(description = "앞뒤로 함께 조회할 인원 (최대 50)", example = "5")
+            @RequestParam(defaultValue = "5") int around,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            return ApiResponse.error(ErrorCode.INVALID_USER);
+        }
+        int window = Math.max(0, Math.min(around, MAX_AROUND));
+        try {
+            MyRankingResponse response = rankingCacheService.getMyRanking(userDetails.getUserId(), window);
+
+            if (response == null) {
+                // 캐시 미스 → DB 조회 후 전체 적재
+                log.warn("⚠️ 유저 랭킹 캐시 미스 - DB에서 조회");
+                rankingCacheService.cacheUserRanking(rankingService.calculateUserRankingFromDB());
+                response = rankingCacheService.getMyRanking(userDetails.getUserId(), window);
+            }
+            if (response == null) {
+                // 아직 게임 기록이 있는 유저가 없음 (또는 Redis 장애)
+                response = MyRankingResponse.builder()
+                        .around(Collections.emptyList())
+                        .totalCount(0L)
+                        .lastUpdated(java.time.LocalDateTime.now())
+                        .build();
+            }
+
+            return ApiResponse.success(
+                    SuccessCode.GET_SUCCESS.getStatus(),
+                    SuccessCode.GET_SUCCESS.getMessage(),
+                    response
+            );
+
+        } catch (Exception e) {
+            log.error("내 유저 랭킹 조회 실패: userId={}", userDetails.getUserId(), e);
+            return ApiResponse.error(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     /**
      * 유저 랭킹 캐시 강제 갱신 (관리자용)
      */
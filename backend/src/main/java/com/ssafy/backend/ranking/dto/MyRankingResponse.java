@@ -0,0 +1,24 @@
+package com.ssafy.backend.ranking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내 유저 랭킹 + 내 주변 순위
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyRankingResponse {
+
+    private UserRankingResponse.UserRankingItem me;  // 내 순위 (랭킹에 없으면 null)
+    private List<UserRankingResponse.UserRankingItem> around;  // 내 앞뒤 순위
+    private Long totalCount;  // 랭킹 전체 인원
+    private LocalDateTime lastUpdated;  // 갱신 시간
+}
@@ -0,0 +1,24 @@
+package com.ssafy.backend.ranking.dto;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 랭킹 집계 기간 (hours: 합칠 시간 버킷 수, 전체 기간은 0)
+@Getter
+@RequiredArgsConstructor
+public enum RankingWindow {
+    DAILY("daily", 24),
+    WEEKLY("weekly", 24 * 7),
+    ALL_TIME("all", 0);
+
+    private final String code;
+    private final int hours;
+
+    public static RankingWindow from(String code) {
+        return Arrays.stream(values())
+                .filter(window -> window.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 랭킹 기간입니다: " + code));
+    }
+}
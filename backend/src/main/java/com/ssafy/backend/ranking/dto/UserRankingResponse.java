@@ -15,6 +15,9 @@ import java.util.List;
 public class UserRankingResponse {
 
     private List<UserRankingItem> ranking;  // 랭킹 리스트
+    private Long nextCursor;  // 다음 페이지 커서 (마지막 항목의 userId, 다음 페이지가 없으면 null)
+    private Long nextCursorKey;  // 다음 페이지 커서 키 (마지막 항목의 총 게임 수, 다음 페이지가 없으면 null)
+    private boolean hasNext;  // 다음 페이지 존재 여부
     private LocalDateTime lastUpdated;  // 갱신 시간
 
     @Getter
@@ -23,7 +26,9 @@ public class UserRankingResponse {
     @AllArgsConstructor
     public static class UserRankingItem {
 
+        private Long userId;  // 유저 ID
         private String nickname;  // 닉네임
         private Long totalGame;  // 총 게임 수
+        private Long rank;  // 순위 (1부터)
     }
 }
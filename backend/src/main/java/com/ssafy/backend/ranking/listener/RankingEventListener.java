@@ -0,0 +1,82 @@
+package com.ssafy.backend.ranking.listener;
+
+import com.ssafy.backend.entity.User;
+import com.ssafy.backend.game.dto.event.GameResultsSavedEvent;
+import com.ssafy.backend.game.result.GameResult;
+import com.ssafy.backend.problem.dto.event.ProblemCountChangedEvent;
+import com.ssafy.backend.ranking.service.RankingCacheService;
+import com.ssafy.backend.ranking.service.WindowedRankingService;
+import com.ssafy.backend.repository.ProblemRepository;
+import com.ssafy.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankingEventListener {
+    private final RankingCacheService rankingCacheService;
+    private final ProblemRepository problemRepository;
+    private final WindowedRankingService windowedRankingService;
+    private final UserRepository userRepository;
+
+    // 좋아요/플레이 수 증가분 DB 반영 -> 랭킹 ZSET 점수 증분 갱신
+    @EventListener
+    public void handleProblemCountChanged(ProblemCountChangedEvent event) {
+        try {
+            boolean added = rankingCacheService.applyCountDelta(
+                    event.getProblemId(), event.getLikesDelta(), event.getPlayCountDelta());
+
+            // 랭킹에 처음 들어온 문제는 제목 저장
+            if (added) {
+                problemRepository.findById(event.getProblemId())
+                        .ifPresent(problem -> rankingCacheService.cacheRankingDetail(problem.getId(), problem.getTitle()));
+            }
+        } catch (Exception e) {
+            // 누락된 증분은 정기 재검증에서 보정됨
+            log.error("랭킹 증분 갱신 실패: problemId={}", event.getProblemId(), e);
+        }
+
+        try {
+            windowedRankingService.recordProblemCounts(
+                    event.getProblemId(), event.getLikesDelta(), event.getPlayCountDelta());
+        } catch (Exception e) {
+            log.error("기간별 문제 랭킹 갱신 실패: problemId={}", event.getProblemId(), e);
+        }
+    }
+
+    // 게임 결과 DB 반영 -> 전체 유저 랭킹 증분 갱신 + 기간별 유저 랭킹 버킷에 게임 수 누적
+    @EventListener
+    public void handleGameResultsSaved(GameResultsSavedEvent event) {
+        try {
+            Map<Long, Long> gamesByUser = new HashMap<>();
+            for (GameResult result : event.getResults()) {
+                result.getParticipants().forEach(participant ->
+                        gamesByUser.merge(participant.getUserId(), 1L, Long::sum));
+            }
+            List<Long> added = rankingCacheService.applyUserGames(gamesByUser);
+
+            // 랭킹에 처음 들어온 유저는 닉네임 저장
+            if (!added.isEmpty()) {
+                rankingCacheService.cacheUserNicknames(userRepository.findAllById(added).stream()
+                        .collect(Collectors.toMap(User::getUserId, User::getNickname)));
+            }
+        } catch (Exception e) {
+            // 누락된 증분은 정기 재검증에서 보정됨
+            log.error("유저 랭킹 증분 갱신 실패: count={}", event.getResults().size(), e);
+        }
+
+        try {
+            windowedRankingService.recordGameResults(event.getResults());
+        } catch (Exception e) {
+            log.error("기간별 유저 랭킹 갱신 실패: count={}", event.getResults().size(), e);
+        }
+    }
+}
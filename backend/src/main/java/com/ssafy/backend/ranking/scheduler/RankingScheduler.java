@@ -4,6 +4,7 @@ import com.ssafy.backend.ranking.dto.RankingItem;
 import com.ssafy.backend.ranking.dto.UserRankingResponse;
 import com.ssafy.backend.ranking.service.RankingCacheService;
 import com.ssafy.backend.ranking.service.RankingService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,22 +19,33 @@ public class RankingScheduler {
 
     private final RankingService rankingService;
     private final RankingCacheService rankingCacheService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 10분마다 랭킹 캐시 갱신
+     * - 문제 랭킹은 좋아요/플레이 이벤트로, 유저 랭킹은 게임 결과 반영 이벤트로 실시간 증분 갱신되므로
+     *   여기서는 DB 기준으로 재검증만 하고 어긋난 항목을 보고/보정
      */
     @Scheduled(fixedRate = 600000)
     public void updateRankingCache() {
         try {
             log.info("🔄 랭킹 캐시 갱신 시작...");
 
-            // 문제 랭킹
-            List<RankingItem> problemRanking = rankingService.calculateRankingFromDB();
-            rankingCacheService.cacheRanking(problemRanking);
+            // 문제 랭킹 재검증
+            List<RankingItem> problemRanking = rankingService.calculateAllScoresFromDB();
+            int drift = rankingCacheService.reconcileRanking(problemRanking);
+            meterRegistry.counter("ranking.reconcile.drift").increment(drift);
+            if (drift > 0) {
+                log.warn("⚠️ 문제 랭킹 drift 보정: {}개 / 전체 {}개", drift, problemRanking.size());
+            }
 
-            // 유저 랭킹 (총 게임 수 기준)
+            // 유저 랭킹 재검증 (총 게임 수 기준)
             List<UserRankingResponse.UserRankingItem> userRanking = rankingService.calculateUserRankingFromDB();
-            rankingCacheService.cacheUserRanking(userRanking);
+            int userDrift = rankingCacheService.reconcileUserRanking(userRanking);
+            meterRegistry.counter("ranking.user.reconcile.drift").increment(userDrift);
+            if (userDrift > 0) {
+                log.warn("⚠️ 유저 랭킹 drift 보정: {}명 / 전체 {}명", userDrift, userRanking.size());
+            }
 
             log.info("✅ 랭킹 캐시 갱신 완료: 문제 {}개, 유저 {}명",
                     problemRanking.size(), userRanking.size());
@@ -1,150 +1,617 @@
 package com.ssafy.backend.ranking.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.common.cache.NearCacheManager;
+import com.ssafy.backend.common.cache.NearCacheManager.NearCache;
+import com.ssafy.backend.ranking.dto.MyRankingResponse;
 import com.ssafy.backend.ranking.dto.RankingItem;
 import com.ssafy.backend.ranking.dto.UserRankingResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * 랭킹 Redis 캐시
+ * - 문제 랭킹은 버전별 키 묶음(ZSET + 좋아요/플레이 수/제목 Hash)에 저장하고 current 포인터로 가리킴
+ *   - 버전 번호는 INCR 카운터로 발급 -> 여러 서버가 동시에 적재해도 키가 겹치지 않음
+ *   - 전체 재적재: 적재 표시(SET NX, 한 번에 한 서버만)를 먼저 걸고 DB를 읽어 새 버전 키에 파이프라인으로 쓴 뒤 포인터만 바꿈
+ *     -> 읽는 쪽은 비어 있거나 덜 채워진 랭킹을 보지 않음
+ *   - 적재 중에 들어온 증분은 현재 버전에 반영하면서 재생 목록에도 쌓고, 새 버전에 재생한 뒤 목록이 비었을 때만 포인터 교체 (Lua로 원자적)
+ *   - 이전 버전 키는 바로 지우지 않고 잠시 뒤 만료 (포인터를 먼저 읽은 요청이 끝날 때까지)
+ *   - 증분 갱신/보정은 현재 버전 키에 반영
+ * - 유저 랭킹은 userId를 멤버로, 총 게임 수를 점수로 하는 ZSET 하나 + 닉네임 Hash
+ *   - 전체 재적재: 임시 키에 쓰고 RENAME으로 교체, 이후에는 게임 결과 반영 시 ZINCRBY로 증분 갱신
+ *   - 커서 페이지는 (총 게임 수, userId) 커서 다음부터 ZREVRANGEBYSCORE로 조회, 내 순위/내 주변 순위는 ZREVRANK(O(log n)) 기준으로 범위 조회
+ * - 조회 결과는 서버 로컬 near-cache에 짧게 보관 (전체 재적재/보정 시 전체 서버에 무효화 전파, 증분 갱신은 TTL로 반영)
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RankingCacheService {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
 
+    // limit -> 조회 결과
+    private final NearCache<Integer, List<RankingItem>> rankingNearCache;
+    private final NearCache<Integer, List<UserRankingResponse.UserRankingItem>> userRankingNearCache;
+
+    public RankingCacheService(RedisTemplate<String, Object> redisTemplate,
+                               NearCacheManager nearCacheManager,
+                               @Value("${ranking.near-cache.ttl-seconds:10}") long nearCacheTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.rankingNearCache = nearCacheManager.create("ranking", 64, Duration.ofSeconds(nearCacheTtlSeconds));
+        this.userRankingNearCache = nearCacheManager.create("user-ranking", 64, Duration.ofSeconds(nearCacheTtlSeconds));
+    }
+
+    // 현재 문제 랭킹 버전 포인터
+    private static final String RANKING_VERSION_KEY = "problem_ranking:current";
+    // 버전 번호 발급 (INCR)
+    private static final String RANKING_VERSION_SEQ_KEY = "problem_ranking:version_seq";
+    // 전체 재적재 중 표시 (값: 적재 중인 버전) / 적재 중에 들어온 증분 ("problemId:likes:playCount")
+    private static final String RANKING_LOADING_KEY = "problem_ranking:loading";
+    private static final String RANKING_REPLAY_KEY = "problem_ranking:replay";
+    // 적재 표시 유지 시간 (적재하던 서버가 죽어도 다음 적재가 막히지 않도록)
+    private static final Duration LOADING_TTL = Duration.ofMinutes(5);
+    // 포인터 교체 전 재생 반복 최대 횟수 (증분이 계속 들어와 목록이 비지 않을 때)
+    private static final int MAX_REPLAY_ROUNDS = 100;
+    // 버전별 키 (뒤에 ":{version}")
     private static final String RANKING_ZSET_KEY = "problem_ranking_zset";
-    private static final String RANKING_DETAILS_PREFIX = "problem_ranking_detail:";
-    private static final String RANKING_USER_ZSET_KEY = "user_ranking_zset";
-    private static final String USER_RANKING_DETAILS_PREFIX = "user_ranking_detail:";
+    private static final String RANKING_TITLE_KEY = "problem_ranking_title";
+    private static final String RANKING_LIKES_KEY = "problem_ranking_likes";
+    private static final String RANKING_PLAY_COUNT_KEY = "problem_ranking_play_count";
+    // 교체된 이전 버전 키 유지 시간
+    private static final Duration OLD_VERSION_TTL = Duration.ofMinutes(1);
+    // 파이프라인 명령 하나에 담을 최대 항목 수
+    private static final int WRITE_CHUNK = 500;
+    private static final double SCORE_EPSILON = 1e-6;
+
+    // 유저 랭킹 (userId -> 총 게임 수)
+    private static final String USER_RANKING_ZSET_KEY = "user_ranking:games";
+    // userId -> 닉네임
+    private static final String USER_RANKING_NICKNAME_KEY = "user_ranking:nickname";
+    // 전체 재적재 중인 임시 키 (뒤에 ":{timestamp}")
+    private static final String USER_RANKING_LOADING_KEY = "user_ranking:games:loading";
+    private static final String UNKNOWN_NICKNAME = "알 수 없음";
+
+    // 유저 랭킹 커서 페이지: (점수, 멤버) 다음부터 limit명 (같은 점수는 멤버 역순이라 그 안에서 커서 멤버보다 앞선 수만큼 건너뜀)
+    // 반환: [첫 항목의 0부터 순위, 멤버, 점수, 멤버, 점수, ...] / ZSET이 없으면 nil / 커서 점수를 알 수 없으면 {-1}
+    // KEYS[1]: 유저 랭킹 ZSET / ARGV[1]: 커서 멤버, ARGV[2]: limit, ARGV[3]: 커서 점수 (없으면 커서 멤버의 현재 점수)
+    private static final RedisScript<List> USER_PAGE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local member = ARGV[1]
+            local score = ARGV[3] or redis.call('ZSCORE', KEYS[1], member)
+            if not score then
+                return {-1}
+            end
+            local first = redis.call('ZCOUNT', KEYS[1], '(' .. score, '+inf')
+            local lo, hi = 0, redis.call('ZCOUNT', KEYS[1], score, score)
+            while lo < hi do
+                local mid = math.floor((lo + hi) / 2)
+                local tied = redis.call('ZREVRANGE', KEYS[1], first + mid, first + mid)[1]
+                if tied >= member then
+                    lo = mid + 1
+                else
+                    hi = mid
+                end
+            end
+            local page = redis.call('ZREVRANGEBYSCORE', KEYS[1], score, '-inf', 'WITHSCORES', 'LIMIT', lo, ARGV[2])
+            table.insert(page, 1, first + lo)
+            return page
+            """, List.class);
+
+    // 적재 시작: 다른 서버가 적재 중이 아니면 표시를 걸고 이전 재생 목록 비움
+    // KEYS[1]: 적재 표시, KEYS[2]: 재생 목록 / ARGV[1]: 버전, ARGV[2]: 표시 유지 시간(초)
+    private static final RedisScript<Long> BEGIN_RELOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then
+                redis.call('DEL', KEYS[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 증분 반영 전: 현재 버전을 읽고, 적재 중이면 재생 목록에 추가 (포인터 교체와 원자적으로)
+    // KEYS[1]: 포인터, KEYS[2]: 적재 표시, KEYS[3]: 재생 목록 / ARGV[1]: 증분
+    private static final RedisScript<Object> RECORD_DELTA_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current and redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('RPUSH', KEYS[3], ARGV[1])
+            end
+            return current
+            """, Object.class);
+
+    // 포인터 교체: 적재 표시가 내 것이고 재생 목록이 비어 있을 때만 (1 교체, 0 목록 남음, -1 표시 잃음)
+    // KEYS[1]: 포인터, KEYS[2]: 적재 표시, KEYS[3]: 재생 목록 / ARGV[1]: 새 버전
+    private static final RedisScript<Long> SWAP_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+                return -1
+            end
+            if redis.call('LLEN', KEYS[3]) > 0 then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            redis.call('DEL', KEYS[2], KEYS[3])
+            return 1
+            """, Long.class);
+
+    // 적재 실패 시 표시 해제 (내 것일 때만)
+    private static final RedisScript<Long> END_RELOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
 
     /**
-     * Redis ZSET + String에 랭킹 저장
+     * 문제 랭킹 전체 적재 (새 버전에 쓰고 포인터 교체)
+     * - 적재 표시를 건 뒤에 loader(DB 조회)를 호출 -> 조회 이후에 반영된 증분은 재생 목록으로 빠짐없이 따라옴
+     *   (조회 직전에 커밋되고 표시 이후에 알림이 온 증분은 두 번 반영될 수 있음, 정기 재검증에서 보정)
+     * - 다른 서버가 적재 중이면 조회 결과만 반환하고 적재하지 않음
+     * - 이후에는 applyCountDelta로 증분 갱신되므로 TTL 없이 유지
+     * @return loader가 읽은 전체 랭킹
      */
-    public void cacheRanking(List<RankingItem> ranking) {
+    public List<RankingItem> reloadRanking(Supplier<List<RankingItem>> loader) {
+        Long version;
+        try {
+            version = redisTemplate.opsForValue().increment(RANKING_VERSION_SEQ_KEY);
+            Long started = redisTemplate.execute(BEGIN_RELOAD_SCRIPT, List.of(RANKING_LOADING_KEY, RANKING_REPLAY_KEY),
+                    version, LOADING_TTL.getSeconds());
+            if (version == null || !Long.valueOf(1).equals(started)) {
+                log.info("다른 서버에서 랭킹 적재 중 - 적재 생략");
+                return loader.get();
+            }
+        } catch (Exception e) {
+            log.error("❌ 랭킹 적재 시작 실패", e);
+            return loader.get();
+        }
+
+        RankingKeys keys = new RankingKeys(version.toString());
+        List<RankingItem> ranking;
+        try {
+            ranking = loader.get();
+        } catch (RuntimeException e) {
+            releaseReload(version, keys);
+            throw e;
+        }
+        boolean swapped = false;
         try {
             log.info("🔄 Redis ZSET 랭킹 캐시 시작...");
+            if (ranking.isEmpty()) {
+                return ranking;
+            }
 
-            // 1. 기존 데이터 삭제
-            deleteExistingCache();
-
-            // 2. ZSET + String으로 저장
-            ranking.forEach(item -> {
-                try {
-                    // ZSET: problemId + score (정렬용)
-                    redisTemplate.opsForZSet().add(
-                            RANKING_ZSET_KEY,
-                            item.getProblemId().toString(),
-                            item.getScore()
-                    );
-
-                    // String: JSON으로 직렬화하여 저장
-                    Map<String, Object> details = Map.of(
-                            "title", item.getTitle(),
-                            "likes", item.getLikes(),
-                            "playCount", item.getPlayCount()
-                    );
-
-                    String detailKey = RANKING_DETAILS_PREFIX + item.getProblemId();
-                    String detailJson = objectMapper.writeValueAsString(details);
-
-                    redisTemplate.opsForValue().set(detailKey, detailJson, Duration.ofMinutes(15));
-
-                } catch (Exception e) {
-                    log.error("❌ 개별 랭킹 아이템 저장 실패: problemId={}", item.getProblemId(), e);
+            // 1. 새 버전 키에 파이프라인으로 저장
+            for (int from = 0; from < ranking.size(); from += WRITE_CHUNK) {
+                writeRankingItems(keys, ranking.subList(from, Math.min(from + WRITE_CHUNK, ranking.size())));
+            }
+
+            // 2. 적재 중에 들어온 증분을 새 버전에 재생하고, 재생 목록이 비었을 때 포인터 교체
+            RankingKeys previous = currentKeys();
+            for (int round = 0; round < MAX_REPLAY_ROUNDS && !swapped; round++) {
+                replayDeltas(keys, previous);
+                Long result = redisTemplate.execute(SWAP_VERSION_SCRIPT,
+                        List.of(RANKING_VERSION_KEY, RANKING_LOADING_KEY, RANKING_REPLAY_KEY), version);
+                if (result != null && result < 0) {
+                    log.warn("⚠️ 랭킹 적재 표시 만료 - 적재 취소: version={}", version);
+                    return ranking;
                 }
-            });
+                swapped = Long.valueOf(1).equals(result);
+            }
+            if (!swapped) {
+                log.warn("⚠️ 랭킹 증분 재생이 끝나지 않아 적재 취소: version={}", version);
+                return ranking;
+            }
 
-            // 3. ZSET TTL 설정
-            redisTemplate.expire(RANKING_ZSET_KEY, Duration.ofMinutes(15));
+            // 3. 이전 버전은 잠시 뒤 만료
+            if (previous != null) {
+                previous.all().forEach(key -> redisTemplate.expire(key, OLD_VERSION_TTL));
+            }
 
-            log.info("✅ Redis ZSET 랭킹 캐시 완료: {}개 문제", ranking.size());
+            rankingNearCache.invalidateAll();
+            log.info("✅ Redis ZSET 랭킹 캐시 완료: {}개 문제, version={}", ranking.size(), version);
 
         } catch (Exception e) {
             log.error("❌ Redis ZSET 캐시 실패", e);
+        } finally {
+            if (!swapped) {
+                releaseReload(version, keys);
+            }
         }
+        return ranking;
     }
 
+    /**
+     * 좋아요/플레이 수 증가분을 랭킹 점수에 반영 (ZINCRBY)
+     * - 플레이 점수는 log 스케일이라 HINCRBY로 받은 증가 후 플레이 수 기준으로 변화량 계산
+     *   (여러 서버가 동시에 올려도 HINCRBY 결과가 서로 겹치지 않으므로 합이 맞음)
+     * - 전체 재적재 중이면 재생 목록에도 쌓아 새 버전에 다시 반영 (포인터 교체 전에 재생)
+     * @return ZSET에 새로 들어온 문제이면 true (제목이 아직 없음)
+     */
+    public boolean applyCountDelta(Long problemId, long likesDelta, long playCountDelta) {
+        Object version = redisTemplate.execute(RECORD_DELTA_SCRIPT,
+                List.of(RANKING_VERSION_KEY, RANKING_LOADING_KEY, RANKING_REPLAY_KEY),
+                problemId + ":" + likesDelta + ":" + playCountDelta);
+        if (version == null) {
+            // 아직 적재 전 -> 적재 시 DB 값으로 채워짐
+            return false;
+        }
+        return applyDelta(new RankingKeys(version.toString()), problemId, likesDelta, playCountDelta);
+    }
+
+    // 한 버전에 증분 반영 (ZINCRBY, 새로 들어온 문제이면 true)
+    private boolean applyDelta(RankingKeys keys, Long problemId, long likesDelta, long playCountDelta) {
+        String member = problemId.toString();
+        double scoreDelta = 0;
+
+        if (likesDelta != 0) {
+            redisTemplate.opsForHash().increment(keys.likes, member, likesDelta);
+            scoreDelta += RankingScore.likeDelta(likesDelta);
+        }
+        if (playCountDelta != 0) {
+            Long playCount = redisTemplate.opsForHash().increment(keys.playCount, member, playCountDelta);
+            long after = playCount != null ? playCount : playCountDelta;
+            scoreDelta += RankingScore.playDelta(after - playCountDelta, after);
+        }
+
+        Double score = redisTemplate.opsForZSet().incrementScore(keys.zset, member, scoreDelta);
+        return score != null && Math.abs(score - scoreDelta) < SCORE_EPSILON;
+    }
+
+    /**
+     * 문제 제목 저장 (현재 버전)
+     */
+    public void cacheRankingDetail(Long problemId, String title) {
+        RankingKeys keys = currentKeys();
+        if (keys != null) {
+            redisTemplate.opsForHash().put(keys.title, problemId.toString(), title);
+        }
+    }
+
+    /**
+     * 문제 제목 일괄 조회 (현재 버전 제목 Hash에서 HMGET 한 번, 없는 문제는 결과에서 빠짐)
+     */
+    public Map<Long, String> getTitles(List<Long> problemIds) {
+        RankingKeys keys = currentKeys();
+        if (keys == null || problemIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> members = problemIds.stream().map(id -> (Object) id.toString()).collect(Collectors.toList());
+        List<Object> titles = redisTemplate.opsForHash().multiGet(keys.title, members);
+
+        Map<Long, String> result = new HashMap<>();
+        for (int i = 0; i < problemIds.size(); i++) {
+            if (titles.get(i) != null) {
+                result.put(problemIds.get(i), titles.get(i).toString());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * DB 기준 점수와 Redis 랭킹 비교 후 어긋난 항목 보정
+     * - 증분 갱신 누락(서버 비정상 종료, Redis 일시 장애 등)을 찾아내는 용도
+     * - 비교 도중 들어온 증분과 겹치면 일시적인 drift로 잡힐 수 있음 (다음 주기에 다시 맞춰짐)
+     * @return 어긋난 항목 수 (랭킹이 비어 있어 새로 적재했으면 0)
+     */
+    public int reconcileRanking(List<RankingItem> expected) {
+        RankingKeys keys = currentKeys();
+        Set<ZSetOperations.TypedTuple<Object>> tuples = keys == null ? null
+                : redisTemplate.opsForZSet().rangeWithScores(keys.zset, 0, -1);
+        if (tuples == null || tuples.isEmpty()) {
+            log.info("랭킹 ZSET 비어 있음 - 전체 적재");
+            reloadRanking(() -> expected);
+            return 0;
+        }
+
+        Map<String, Double> actual = new HashMap<>();
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                actual.put(tuple.getValue().toString(), tuple.getScore());
+            }
+        }
+
+        List<RankingItem> drifted = new ArrayList<>();
+        for (RankingItem item : expected) {
+            String member = item.getProblemId().toString();
+            Double score = actual.remove(member);
+            if (score == null || Math.abs(score - item.getScore()) > SCORE_EPSILON) {
+                log.warn("⚠️ 랭킹 drift: problemId={}, redis={}, db={}", member, score, item.getScore());
+                drifted.add(item);
+            }
+        }
+        actual.forEach((member, score) -> log.warn("⚠️ 랭킹 drift: problemId={}, redis={}, db=없음", member, score));
+
+        // 어긋난 항목만 현재 버전에 다시 쓰고, DB 기준으로 랭킹 대상이 아닌 항목은 제거
+        if (!drifted.isEmpty()) {
+            writeRankingItems(keys, drifted);
+        }
+        if (!actual.isEmpty()) {
+            Object[] members = actual.keySet().toArray();
+            pipelined(ops -> {
+                ops.opsForZSet().remove(keys.zset, members);
+                ops.opsForHash().delete(keys.title, members);
+                ops.opsForHash().delete(keys.likes, members);
+                ops.opsForHash().delete(keys.playCount, members);
+            });
+        }
+        int drift = drifted.size() + actual.size();
+        if (drift > 0) {
+            rankingNearCache.invalidateAll();
+        }
+        return drift;
+    }
+
+    /**
+     * 유저 랭킹 전체 적재 (임시 키에 쓰고 RENAME으로 교체)
+     * - 이후에는 applyUserGames로 증분 갱신되므로 TTL 없이 유지
+     * - 적재 중에 들어온 증분은 교체 시 빠질 수 있음 (다음 정기 재검증에서 보정됨)
+     */
     public void cacheUserRanking(List<UserRankingResponse.UserRankingItem> ranking) {
-        // 상위 10명
-        if (ranking.size() > 10) ranking = ranking.subList(0, 10);
+        if (ranking.isEmpty()) {
+            return;
+        }
+        String loadingKey = USER_RANKING_LOADING_KEY + ":" + System.currentTimeMillis();
         try {
-            for (UserRankingResponse.UserRankingItem item : ranking) {
-                String member = item.getNickname();
-                long games = item.getTotalGame() == null ? 0L : item.getTotalGame();
-
-                // ZSET에 닉네임, 점수 저장
-                redisTemplate.opsForZSet().add(RANKING_USER_ZSET_KEY, member, (double) games);
-
-                Map<String, Object> details = Map.of(
-                        "nickname", member,
-                        "totalGames", games
-                );
-                String detailKey = USER_RANKING_DETAILS_PREFIX + member;
-                String detailJson = objectMapper.writeValueAsString(details);
-                redisTemplate.opsForValue().set(detailKey, detailJson, Duration.ofMinutes(15));
-            }
-            redisTemplate.expire(RANKING_USER_ZSET_KEY, Duration.ofMinutes(15));
+            for (int from = 0; from < ranking.size(); from += WRITE_CHUNK) {
+                writeUserRankingItems(loadingKey, ranking.subList(from, Math.min(from + WRITE_CHUNK, ranking.size())));
+            }
+            redisTemplate.rename(loadingKey, USER_RANKING_ZSET_KEY);
+
+            userRankingNearCache.invalidateAll();
             log.info("✅ Redis 유저 랭킹 캐시 완료: {}명 유저", ranking.size());
         } catch (Exception e) {
             log.error("❌ 유저 랭킹 캐시 실패", e);
+            redisTemplate.delete(loadingKey);
+        }
+    }
+
+    /**
+     * 게임 수 증가분을 유저 랭킹에 반영 (ZINCRBY, 파이프라인 한 번)
+     * @return 랭킹에 새로 들어온 유저 ID (닉네임이 아직 없음)
+     */
+    public List<Long> applyUserGames(Map<Long, Long> gamesByUser) {
+        if (gamesByUser.isEmpty() || !Boolean.TRUE.equals(redisTemplate.hasKey(USER_RANKING_ZSET_KEY))) {
+            // 아직 적재 전 -> 적재 시 DB 값으로 채워짐
+            return List.of();
+        }
+
+        List<Long> userIds = new ArrayList<>(gamesByUser.keySet());
+        List<Object> scores = pipelined(ops -> userIds.forEach(userId ->
+                ops.opsForZSet().incrementScore(USER_RANKING_ZSET_KEY, userId.toString(), gamesByUser.get(userId))));
+
+        List<Long> added = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            Object score = scores.get(i);
+            if (score instanceof Number number
+                    && Math.abs(number.doubleValue() - gamesByUser.get(userIds.get(i))) < SCORE_EPSILON) {
+                added.add(userIds.get(i));
+            }
+        }
+        return added;
+    }
+
+    /**
+     * 유저 닉네임 저장
+     */
+    public void cacheUserNicknames(Map<Long, String> nicknames) {
+        if (nicknames.isEmpty()) {
+            return;
+        }
+        Map<String, Object> entries = new HashMap<>();
+        nicknames.forEach((userId, nickname) -> entries.put(userId.toString(), nickname));
+        redisTemplate.opsForHash().putAll(USER_RANKING_NICKNAME_KEY, entries);
+    }
+
+    /**
+     * DB 기준 총 게임 수와 Redis 유저 랭킹 비교 후 어긋난 항목 보정
+     * - 닉네임은 변경될 수 있으므로 비교 없이 전부 다시 씀
+     * @return 어긋난 항목 수 (랭킹이 비어 있어 새로 적재했으면 0)
+     */
+    public int reconcileUserRanking(List<UserRankingResponse.UserRankingItem> expected) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples =
+                redisTemplate.opsForZSet().rangeWithScores(USER_RANKING_ZSET_KEY, 0, -1);
+        if (tuples == null || tuples.isEmpty()) {
+            log.info("유저 랭킹 ZSET 비어 있음 - 전체 적재");
+            cacheUserRanking(expected);
+            return 0;
+        }
+
+        Map<String, Double> actual = new HashMap<>();
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                actual.put(tuple.getValue().toString(), tuple.getScore());
+            }
+        }
+
+        List<UserRankingResponse.UserRankingItem> drifted = new ArrayList<>();
+        for (UserRankingResponse.UserRankingItem item : expected) {
+            String member = item.getUserId().toString();
+            Double score = actual.remove(member);
+            if (score == null || score.longValue() != item.getTotalGame()) {
+                log.warn("⚠️ 유저 랭킹 drift: userId={}, redis={}, db={}", member, score, item.getTotalGame());
+                drifted.add(item);
+            }
         }
+        actual.forEach((member, score) -> log.warn("⚠️ 유저 랭킹 drift: userId={}, redis={}, db=없음", member, score));
+
+        for (int from = 0; from < expected.size(); from += WRITE_CHUNK) {
+            List<UserRankingResponse.UserRankingItem> chunk = expected.subList(from, Math.min(from + WRITE_CHUNK, expected.size()));
+            Map<Long, String> nicknames = new HashMap<>();
+            chunk.forEach(item -> nicknames.put(item.getUserId(), item.getNickname()));
+            cacheUserNicknames(nicknames);
+        }
+        if (!drifted.isEmpty()) {
+            writeUserRankingItems(USER_RANKING_ZSET_KEY, drifted);
+        }
+        if (!actual.isEmpty()) {
+            Object[] members = actual.keySet().toArray();
+            pipelined(ops -> {
+                ops.opsForZSet().remove(USER_RANKING_ZSET_KEY, members);
+                ops.opsForHash().delete(USER_RANKING_NICKNAME_KEY, members);
+            });
+        }
+        int drift = drifted.size() + actual.size();
+        if (drift > 0) {
+            userRankingNearCache.invalidateAll();
+        }
+        return drift;
     }
 
     /**
-     * Redis ZSET에서 랭킹 조회 (String 기반)
+     * 랭킹 조회 (near-cache -> Redis, 미스면 null)
      */
     public List<RankingItem> getCachedRanking(int limit) {
+        return rankingNearCache.get(limit, this::loadRanking);
+    }
+
+    /**
+     * 유저 랭킹 상위 limit명 조회 (near-cache -> Redis, 미스면 null)
+     */
+    public List<UserRankingResponse.UserRankingItem> getCachedUserRanking(int limit) {
+        return userRankingNearCache.get(limit, l -> loadUserRange(0, l));
+    }
+
+    /**
+     * 유저 랭킹 커서 페이지 조회 (커서 다음 순위부터 limit명, 미스면 null)
+     * - 커서는 이전 페이지 마지막 항목의 (총 게임 수, userId) -> 그 값보다 뒤인 항목부터 조회하므로
+     *   커서 유저의 게임 수가 그 사이 바뀌어도 중복/누락 없음 (다른 유저의 순위 변동은 반영될 수 있음)
+     * - cursorKey가 없으면 커서 유저의 현재 게임 수를 기준으로 함 (예전 클라이언트 호환)
+     * - 첫 페이지(cursor 없음)는 상위 조회와 같이 near-cache 사용
+     * @throws IllegalArgumentException 랭킹에 없는 cursor (cursorKey 없이)
+     */
+    public List<UserRankingResponse.UserRankingItem> getCachedUserRanking(Long cursor, Long cursorKey, int limit) {
+        if (cursor == null) {
+            return getCachedUserRanking(limit);
+        }
+
+        List<Object> args = new ArrayList<>(List.of(cursor.toString(), Math.max(1, limit)));
+        if (cursorKey != null) {
+            args.add(cursorKey);
+        }
+        List<?> result;
+        try {
+            result = redisTemplate.execute(USER_PAGE_SCRIPT, List.of(USER_RANKING_ZSET_KEY), args.toArray());
+        } catch (Exception e) {
+            log.error("❌ 유저 랭킹 커서 조회 실패: cursor={}", cursor, e);
+            return null;
+        }
+        if (result == null || result.isEmpty()) {
+            log.warn("⚠️ 유저 랭킹 캐시 미스");
+            return null;
+        }
+        long start = toLong(result.get(0));
+        if (start < 0) {
+            throw new IllegalArgumentException("유효하지 않은 랭킹 커서입니다: " + cursor);
+        }
+
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new LinkedHashSet<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            tuples.add(new DefaultTypedTuple<>(result.get(i), Double.valueOf(result.get(i + 1).toString())));
+        }
+        return toUserItems(tuples, start);
+    }
+
+    /**
+     * 내 순위 + 앞뒤 around명 조회 (ZREVRANK 한 번 + 범위 조회 한 번, 미스면 null)
+     * - 게임 기록이 없어 랭킹에 없는 유저는 me가 null이고 주변 순위도 비어 있음
+     */
+    public MyRankingResponse getMyRanking(Long userId, int around) {
+        try {
+            List<Object> results = pipelined(ops -> {
+                ops.opsForZSet().reverseRank(USER_RANKING_ZSET_KEY, userId.toString());
+                ops.opsForZSet().zCard(USER_RANKING_ZSET_KEY);
+            });
+            Object rank = results.get(0);
+            long totalCount = toLong(results.get(1));
+            if (totalCount == 0) {
+                log.warn("⚠️ 유저 랭킹 캐시 미스");
+                return null;
+            }
+
+            List<UserRankingResponse.UserRankingItem> window = List.of();
+            if (rank instanceof Number number) {
+                long start = Math.max(0, number.longValue() - around);
+                window = loadUserRange(start, (int) (number.longValue() - start) + around + 1);
+            }
+            UserRankingResponse.UserRankingItem me = window == null ? null : window.stream()
+                    .filter(item -> userId.equals(item.getUserId()))
+                    .findFirst()
+                    .orElse(null);
+
+            return MyRankingResponse.builder()
+                    .me(me)
+                    .around(window != null ? window : List.of())
+                    .totalCount(totalCount)
+                    .lastUpdated(LocalDateTime.now())
+                    .build();
+        } catch (Exception e) {
+            log.error("❌ 내 유저 랭킹 조회 실패: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Redis ZSET에서 랭킹 조회
+     * - ZREVRANGE 한 번 + 제목/좋아요/플레이 수 HMGET을 파이프라인으로 한 번에
+     */
+    private List<RankingItem> loadRanking(int limit) {
         try {
             // 1. ZSET에서 점수와 함께 problemId 조회
-            Set<org.springframework.data.redis.core.ZSetOperations.TypedTuple<Object>> tuples =
-                    redisTemplate.opsForZSet().reverseRangeWithScores(RANKING_ZSET_KEY, 0, limit - 1);
+            RankingKeys keys = currentKeys();
+            Set<ZSetOperations.TypedTuple<Object>> tuples = keys == null ? null
+                    : redisTemplate.opsForZSet().reverseRangeWithScores(keys.zset, 0, limit - 1);
 
             if (tuples == null || tuples.isEmpty()) {
                 log.warn("⚠️ ZSET 랭킹 캐시 미스");
                 return null;
             }
 
-            // 2. score와 problemId 함께 처리
+            // 2. 제목/좋아요/플레이 수를 HMGET으로 조회 (파이프라인 한 번)
+            List<Object> members = tuples.stream()
+                    .map(tuple -> (Object) tuple.getValue().toString())
+                    .collect(Collectors.toList());
+            List<Object> results = pipelined(ops -> {
+                ops.opsForHash().multiGet(keys.title, members);
+                ops.opsForHash().multiGet(keys.likes, members);
+                ops.opsForHash().multiGet(keys.playCount, members);
+            });
+            List<?> titles = (List<?>) results.get(0);
+            List<?> likes = (List<?>) results.get(1);
+            List<?> playCounts = (List<?>) results.get(2);
+
+            // 3. score와 problemId 함께 처리
             List<RankingItem> ranking = new ArrayList<>();
             AtomicInteger rank = new AtomicInteger(1);
+            int index = 0;
 
-            for (org.springframework.data.redis.core.ZSetOperations.TypedTuple<Object> tuple : tuples) {
-                try {
-                    String problemId = tuple.getValue().toString();
-                    Double score = tuple.getScore();
-
-                    String detailKey = RANKING_DETAILS_PREFIX + problemId;
-                    Object detailObj = redisTemplate.opsForValue().get(detailKey);
-
-                    if (detailObj != null && score != null) {
-                        String detailJson = detailObj.toString();
-                        Map<String, Object> details = objectMapper.readValue(
-                                detailJson,
-                                new TypeReference<Map<String, Object>>() {}
-                        );
-
-                        ranking.add(RankingItem.builder()
-                                .problemId(Long.parseLong(problemId))
-                                .title((String) details.get("title"))
-                                .likes((Integer) details.get("likes"))
-                                .playCount((Integer) details.get("playCount"))
-                                .score(score)
-                                .rank(rank.getAndIncrement())
-                                .build());
-                    }
-                } catch (Exception e) {
-                    log.error("❌ 개별 랭킹 데이터 파싱 실패: tuple={}", tuple, e);
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                int i = index++;
+                Object title = titles.get(i);
+                if (title == null || tuple.getScore() == null) {
+                    continue;
                 }
+                ranking.add(RankingItem.builder()
+                        .problemId(Long.parseLong(tuple.getValue().toString()))
+                        .title(title.toString())
+                        .likes(toInt(likes.get(i)))
+                        .playCount(toInt(playCounts.get(i)))
+                        .score(tuple.getScore())
+                        .rank(rank.getAndIncrement())
+                        .build());
             }
 
             if (ranking.isEmpty()) {
@@ -153,7 +620,7 @@ public class RankingCacheService {
             }
 
             log.debug("✅ ZSET 랭킹 캐시 히트: {}개 문제", ranking.size());
-            return ranking;
+            return Collections.unmodifiableList(ranking);
 
         } catch (Exception e) {
             log.error("❌ ZSET 랭킹 조회 실패", e);
@@ -161,50 +628,162 @@ public class RankingCacheService {
         }
     }
 
-    public List<UserRankingResponse.UserRankingItem> getCachedUserRanking(int limit) {
+    /**
+     * 유저 랭킹 범위 조회 (start 순위부터 count명, 0부터 시작)
+     * - ZREVRANGE 한 번 + 닉네임 HMGET 한 번
+     * - 랭킹이 비어 있으면 null, start가 끝을 넘으면 빈 리스트
+     */
+    private List<UserRankingResponse.UserRankingItem> loadUserRange(long start, int count) {
         try {
-            // Redis ZSET에서 점수가 높은 순서대로 랭킹을 가져옴
-            var tuples = redisTemplate.opsForZSet()
-                    .reverseRangeWithScores(RANKING_USER_ZSET_KEY, 0, Math.max(0, limit - 1));
+            Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(USER_RANKING_ZSET_KEY, start, start + Math.max(1, count) - 1);
 
             if (tuples == null || tuples.isEmpty()) {
-                log.warn("⚠️ 유저 랭킹 캐시 미스");
-                return null;
+                if (start == 0) {
+                    log.warn("⚠️ 유저 랭킹 캐시 미스");
+                    return null;
+                }
+                return List.of();
             }
 
-            List<UserRankingResponse.UserRankingItem> list = new ArrayList<>();
-            for (var t : tuples) {
-                if (t == null || t.getValue() == null || t.getScore() == null) continue;
-                String nickname = t.getValue().toString();
-                long games = t.getScore().longValue();
-                list.add(UserRankingResponse.UserRankingItem.builder()
-                        .nickname(nickname)
-                        .totalGame(games)
-                        .build());
-            }
-            return list;
+            return toUserItems(tuples, start);
         } catch (Exception e) {
             log.error("❌ 유저 랭킹 캐시 조회 실패", e);
             return null;
         }
     }
 
-    /**
-     * 기존 캐시 데이터 삭제
-     */
-    private void deleteExistingCache() {
-        try {
-            // ZSET 삭제
-            redisTemplate.delete(RANKING_ZSET_KEY);
+    // ZSET 항목 -> 유저 랭킹 항목 (닉네임 한 번에 조회, 순위는 start + 1부터)
+    private List<UserRankingResponse.UserRankingItem> toUserItems(Set<ZSetOperations.TypedTuple<Object>> tuples, long start) {
+        if (tuples.isEmpty()) {
+            return List.of();
+        }
+        List<Object> members = tuples.stream()
+                .map(tuple -> (Object) tuple.getValue().toString())
+                .collect(Collectors.toList());
+        List<Object> nicknames = redisTemplate.opsForHash().multiGet(USER_RANKING_NICKNAME_KEY, members);
+
+        List<UserRankingResponse.UserRankingItem> list = new ArrayList<>();
+        long rank = start + 1;
+        int index = 0;
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            Object nickname = nicknames.get(index++);
+            list.add(UserRankingResponse.UserRankingItem.builder()
+                    .userId(Long.parseLong(tuple.getValue().toString()))
+                    .nickname(nickname != null ? nickname.toString() : UNKNOWN_NICKNAME)
+                    .totalGame(tuple.getScore() == null ? 0L : tuple.getScore().longValue())
+                    .rank(rank++)
+                    .build());
+        }
+        return Collections.unmodifiableList(list);
+    }
 
-            // String 키들 삭제
-            Set<String> detailKeys = redisTemplate.keys(RANKING_DETAILS_PREFIX + "*");
-            if (detailKeys != null && !detailKeys.isEmpty()) {
-                redisTemplate.delete(detailKeys);
+    // 재생 목록의 증분을 새 버전에 반영 (새로 들어온 문제는 이전 버전에서 제목 복사)
+    private void replayDeltas(RankingKeys keys, RankingKeys previous) {
+        Object entry;
+        while ((entry = redisTemplate.opsForList().leftPop(RANKING_REPLAY_KEY)) != null) {
+            String[] parts = entry.toString().split(":");
+            Long problemId = Long.valueOf(parts[0]);
+            boolean added = applyDelta(keys, problemId, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            if (added && previous != null) {
+                Object title = redisTemplate.opsForHash().get(previous.title, problemId.toString());
+                if (title != null) {
+                    redisTemplate.opsForHash().put(keys.title, problemId.toString(), title);
+                }
             }
+        }
+    }
 
+    // 적재 실패/취소 -> 표시 해제 후 쓰다 만 새 버전 키 삭제
+    private void releaseReload(Long version, RankingKeys keys) {
+        try {
+            redisTemplate.execute(END_RELOAD_SCRIPT, List.of(RANKING_LOADING_KEY), version);
+            redisTemplate.delete(keys.all());
         } catch (Exception e) {
-            log.error("❌ 기존 캐시 삭제 실패", e);
+            log.error("❌ 랭킹 적재 정리 실패: version={}", version, e);
+        }
+    }
+
+    // 현재 버전 키 (적재 전이면 null)
+    private RankingKeys currentKeys() {
+        Object version = redisTemplate.opsForValue().get(RANKING_VERSION_KEY);
+        return version == null ? null : new RankingKeys(version.toString());
+    }
+
+    // 항목들을 파이프라인으로 저장 (ZADD / HSET 각각 한 번)
+    private void writeRankingItems(RankingKeys keys, List<RankingItem> items) {
+        Set<ZSetOperations.TypedTuple<Object>> scores = new HashSet<>();
+        Map<String, Object> titles = new HashMap<>();
+        Map<String, Object> likes = new HashMap<>();
+        Map<String, Object> playCounts = new HashMap<>();
+        for (RankingItem item : items) {
+            String member = item.getProblemId().toString();
+            scores.add(new DefaultTypedTuple<>(member, item.getScore()));
+            titles.put(member, item.getTitle());
+            likes.put(member, item.getLikes());
+            playCounts.put(member, item.getPlayCount());
+        }
+
+        pipelined(ops -> {
+            ops.opsForZSet().add(keys.zset, scores);
+            ops.opsForHash().putAll(keys.title, titles);
+            ops.opsForHash().putAll(keys.likes, likes);
+            ops.opsForHash().putAll(keys.playCount, playCounts);
+        });
+    }
+
+    // 유저 항목들을 파이프라인으로 저장 (ZADD / 닉네임 HSET 각각 한 번)
+    private void writeUserRankingItems(String zsetKey, List<UserRankingResponse.UserRankingItem> items) {
+        Set<ZSetOperations.TypedTuple<Object>> scores = new HashSet<>();
+        Map<String, Object> nicknames = new HashMap<>();
+        for (UserRankingResponse.UserRankingItem item : items) {
+            String member = item.getUserId().toString();
+            scores.add(new DefaultTypedTuple<>(member, item.getTotalGame() == null ? 0.0 : item.getTotalGame().doubleValue()));
+            nicknames.put(member, item.getNickname());
+        }
+
+        pipelined(ops -> {
+            ops.opsForZSet().add(zsetKey, scores);
+            ops.opsForHash().putAll(USER_RANKING_NICKNAME_KEY, nicknames);
+        });
+    }
+
+    // 명령들을 파이프라인 한 번으로 전송하고 결과 반환
+    private List<Object> pipelined(Consumer<RedisOperations<String, Object>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        });
+    }
+
+    private int toInt(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    // 한 버전의 문제 랭킹 키 묶음
+    private static class RankingKeys {
+        private final String zset;
+        private final String title;
+        private final String likes;
+        private final String playCount;
+
+        RankingKeys(String version) {
+            this.zset = RANKING_ZSET_KEY + ":" + version;
+            this.title = RANKING_TITLE_KEY + ":" + version;
+            this.likes = RANKING_LIKES_KEY + ":" + version;
+            this.playCount = RANKING_PLAY_COUNT_KEY + ":" + version;
+        }
+
+        List<String> all() {
+            return List.of(zset, title, likes, playCount);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.ssafy.backend.ranking.service;
+
+/**
+ * 문제 랭킹 점수 공식: 좋아요 × 3.0 + log(플레이수 + 1) × 2.0
+ * - 전체 재계산(RankingService)과 증분 갱신(RankingCacheService)이 같은 공식을 쓰도록 한 곳에 모음
+ */
+public final class RankingScore {
+    public static final double LIKE_WEIGHT = 3.0;
+    public static final double PLAY_WEIGHT = 2.0;
+
+    private RankingScore() {
+    }
+
+    public static double of(long likes, long playCount) {
+        return likes * LIKE_WEIGHT + Math.log(playCount + 1) * PLAY_WEIGHT;
+    }
+
+    // 좋아요 증가분에 따른 점수 변화
+    public static double likeDelta(long likesDelta) {
+        return likesDelta * LIKE_WEIGHT;
+    }
+
+    // 플레이 수가 before -> after로 바뀔 때 점수 변화
+    public static double playDelta(long before, long after) {
+        return (Math.log(after + 1) - Math.log(before + 1)) * PLAY_WEIGHT;
+    }
+}
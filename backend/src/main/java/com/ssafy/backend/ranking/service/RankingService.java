@@ -1,6 +1,5 @@
 package com.ssafy.backend.ranking.service;
 
-import com.ssafy.backend.entity.User;
 import com.ssafy.backend.ranking.dto.RankingItem;
 import com.ssafy.backend.ranking.dto.RankingResponse;
 import com.ssafy.backend.ranking.dto.UserRankingResponse;
@@ -13,6 +12,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.Comparator;
 
@@ -28,39 +28,25 @@ public class RankingService {
      * DB에서 랭킹 계산 (Redis 캐시 미스시 사용)
      */
     public List<RankingItem> calculateRankingFromDB() {
+        return rankTop(calculateAllScoresFromDB(), 50); // 상위 50개만
+    }
+
+    /**
+     * DB 기준 전체 문제 점수 계산 (정렬/순위 없음)
+     * - Redis 랭킹 ZSET 초기 적재와 정기 재검증(drift 확인)에 사용
+     * - ZSET은 DB에 반영된 증가분만 따라가므로 아직 반영되지 않은 카운터 증가분은 포함하지 않음
+     */
+    public List<RankingItem> calculateAllScoresFromDB() {
         try {
             log.info("🔄 DB에서 랭킹 계산 시작...");
 
-            // 1. DB에서 RankingItem 조회 (좋아요 COUNT 포함)
-            List<RankingItem> problems = problemRepositoryCustom.findAllProblemsForRanking();
-
-
-            // 2. 점수 계산 & 정렬
-            List<RankingItem> rankedProblems = problems.stream()
+            // DB에서 RankingItem 조회 (ProblemInfo의 좋아요/플레이 수)
+            List<RankingItem> problems = problemRepositoryCustom.findAllProblemsForRanking().stream()
                     .map(this::calculateScore)
-                    .sorted(
-                            Comparator.comparing(RankingItem::getScore).reversed()
-                                    .thenComparing(RankingItem::getLikes, Comparator.reverseOrder())
-                                    .thenComparing(RankingItem::getPlayCount, Comparator.reverseOrder())
-                    )
-                    .limit(50) // 상위 50개만
                     .collect(Collectors.toList());
 
-            // 3. 순위 부여
-            AtomicInteger rank = new AtomicInteger(1);
-            List<RankingItem> finalRanking = rankedProblems.stream()
-                    .map(item -> RankingItem.builder()
-                            .problemId(item.getProblemId())
-                            .title(item.getTitle())
-                            .likes(item.getLikes())
-                            .playCount(item.getPlayCount())
-                            .score(item.getScore())
-                            .rank(rank.getAndIncrement())
-                            .build())
-                    .collect(Collectors.toList());
-
-            log.info("✅ 랭킹 계산 완료: {}개 문제", finalRanking.size());
-            return finalRanking;
+            log.info("✅ 랭킹 계산 완료: {}개 문제", problems.size());
+            return problems;
 
         } catch (Exception e) {
             log.error("❌ 랭킹 계산 실패", e);
@@ -68,20 +54,39 @@ public class RankingService {
         }
     }
 
+    /**
+     * 점수순 정렬 후 상위 limit개에 순위 부여
+     */
+    public List<RankingItem> rankTop(List<RankingItem> scored, int limit) {
+        AtomicInteger rank = new AtomicInteger(1);
+        return scored.stream()
+                .sorted(
+                        Comparator.comparing(RankingItem::getScore).reversed()
+                                .thenComparing(RankingItem::getLikes, Comparator.reverseOrder())
+                                .thenComparing(RankingItem::getPlayCount, Comparator.reverseOrder())
+                )
+                .limit(limit)
+                .map(item -> RankingItem.builder()
+                        .problemId(item.getProblemId())
+                        .title(item.getTitle())
+                        .likes(item.getLikes())
+                        .playCount(item.getPlayCount())
+                        .score(item.getScore())
+                        .rank(rank.getAndIncrement())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     /**
      * 로그 스케일 점수 계산: 좋아요 × 3.0 + log(플레이수 + 1) × 2.0
      */
     private RankingItem calculateScore(RankingItem item) {
-        double likeScore = item.getLikes() * 3.0;
-        double playScore = Math.log(item.getPlayCount() + 1) * 2.0;
-        double finalScore = likeScore + playScore;
-
         return RankingItem.builder()
                 .problemId(item.getProblemId())
                 .title(item.getTitle())
                 .likes(item.getLikes())
                 .playCount(item.getPlayCount())
-                .score(finalScore)
+                .score(RankingScore.of(item.getLikes(), item.getPlayCount()))
                 .build();
     }
 
@@ -96,12 +101,22 @@ public class RankingService {
                 .build();
     }
 
+    /**
+     * DB 기준 전체 유저 랭킹 (게임 기록이 있는 유저, 총 게임 수 내림차순)
+     * - 유저 랭킹 ZSET 초기 적재와 정기 재검증(drift 확인)에 사용
+     * - 동점이면 ZREVRANGE와 같은 순서(userId 문자열 역순)로 정렬
+     */
     public List<UserRankingResponse.UserRankingItem> calculateUserRankingFromDB() {
-        List<User> users = userRepository.findTop10ByOrderByTotalGamesDesc();
+        List<UserRepository.UserGameCount> users = userRepository.findByTotalGamesGreaterThanAndDeletedFalse(0);
+        AtomicLong rank = new AtomicLong(1);
         return users.stream()
+                .sorted(Comparator.comparing(UserRepository.UserGameCount::getTotalGames).reversed()
+                        .thenComparing(u -> u.getUserId().toString(), Comparator.reverseOrder()))
                 .map(u -> UserRankingResponse.UserRankingItem.builder()
+                        .userId(u.getUserId())
                         .nickname(u.getNickname())
-                        .totalGame(u.getTotalGames() == null ? 0L : u.getTotalGames().longValue())
+                        .totalGame(u.getTotalGames().longValue())
+                        .rank(rank.getAndIncrement())
                         .build())
                 .collect(Collectors.toList());
     }
@@ -112,4 +127,19 @@ public class RankingService {
                 .lastUpdated(LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * 커서 페이지 응답 생성 (limit + 1명을 받아 넘치면 다음 페이지가 있음)
+     */
+    public UserRankingResponse buildUserRankingPage(List<UserRankingResponse.UserRankingItem> items, int limit) {
+        boolean hasNext = items.size() > limit;
+        List<UserRankingResponse.UserRankingItem> page = hasNext ? items.subList(0, limit) : items;
+        return UserRankingResponse.builder()
+                .ranking(page)
+                .nextCursor(hasNext ? page.get(page.size() - 1).getUserId() : null)
+                .nextCursorKey(hasNext ? page.get(page.size() - 1).getTotalGame() : null)
+                .hasNext(hasNext)
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,297 @@
+package com.ssafy.backend.ranking.service;
+
+import com.ssafy.backend.entity.User;
+import com.ssafy.backend.game.result.GameResult;
+import com.ssafy.backend.ranking.dto.RankingItem;
+import com.ssafy.backend.ranking.dto.RankingWindow;
+import com.ssafy.backend.ranking.dto.UserRankingResponse;
+import com.ssafy.backend.repository.ProblemRepository;
+import com.ssafy.backend.repository.UserRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기간별(일간/주간) 랭킹
+ * - 좋아요/플레이/게임 수 증가분을 1시간 단위 버킷 ZSET에 ZINCRBY로 누적 (버킷은 주간 기간 + 여유만큼만 보관)
+ * - 조회 시 기간에 해당하는 버킷을 ZUNIONSTORE로 합친 결과 ZSET을 짧게 보관하고, 그 안에서 ZREVRANGE로 조회
+ *   (합친 결과가 비면 ZSET 대신 빈 결과 표시 키를 같은 시간 보관 -> 빈 기간에 매 요청마다 버킷을 다시 합치지 않음)
+ *   -> user_solved_problems / problem_likes를 훑지 않고 결과 ZSET이 있으면 O(log n + limit)
+ * - 버킷 시각은 서버 로컬 시각 기준 (GameResult.finishedAt과 같은 기준)
+ * - 문제 점수는 log 스케일이라 버킷끼리 바로 더할 수 없으므로 좋아요/플레이 합계를 각각 합친 뒤 Lua로 점수 계산
+ */
+@Slf4j
+@Service
+public class WindowedRankingService {
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    // 시간 버킷 (뒤에 ":{yyyyMMddHH}")
+    private static final String PROBLEM_LIKES_BUCKET = "ranking:window:problem_likes";
+    private static final String PROBLEM_PLAYS_BUCKET = "ranking:window:problem_plays";
+    private static final String USER_GAMES_BUCKET = "ranking:window:user_games";
+    // 기간별 합친 결과 (뒤에 ":{daily|weekly}")
+    private static final String PROBLEM_LIKES_WINDOW = "ranking:window:problem_likes_sum";
+    private static final String PROBLEM_PLAYS_WINDOW = "ranking:window:problem_plays_sum";
+    private static final String PROBLEM_WINDOW = "ranking:window:problem";
+    private static final String USER_WINDOW = "ranking:window:user";
+    // 결과 키 뒤에 붙는 빈 결과 표시 키
+    private static final String EMPTY_SUFFIX = ":empty";
+
+    // 주간 기간 + 하루 여유
+    private static final Duration BUCKET_TTL = Duration.ofHours(RankingWindow.WEEKLY.getHours() + 24);
+
+    // 좋아요/플레이 합계 ZSET -> 점수 ZSET (Lua 안에서 원자적으로 교체)
+    private static final RedisScript<Long> PROBLEM_SCORE_SCRIPT = new DefaultRedisScript<>("""
+            -- KEYS[1]: 결과 ZSET, KEYS[2]: 좋아요 합계 ZSET, KEYS[3]: 플레이 합계 ZSET, KEYS[4]: 빈 결과 표시 키
+            -- ARGV[1]: 좋아요 가중치, ARGV[2]: 플레이 가중치, ARGV[3]: 결과 TTL(초), ARGV[4]: 합계 TTL(초)
+            local scores = {}
+            local likes = redis.call('ZRANGE', KEYS[2], 0, -1, 'WITHSCORES')
+            for i = 1, #likes, 2 do
+                scores[likes[i]] = tonumber(likes[i + 1]) * tonumber(ARGV[1])
+            end
+            local plays = redis.call('ZRANGE', KEYS[3], 0, -1, 'WITHSCORES')
+            for i = 1, #plays, 2 do
+                scores[plays[i]] = (scores[plays[i]] or 0) + math.log(tonumber(plays[i + 1]) + 1) * tonumber(ARGV[2])
+            end
+            redis.call('DEL', KEYS[1])
+            local count = 0
+            for member, score in pairs(scores) do
+                redis.call('ZADD', KEYS[1], score, member)
+                count = count + 1
+            end
+            if count > 0 then
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+            else
+                redis.call('SET', KEYS[4], 1, 'EX', ARGV[3])
+            end
+            -- 합계는 결과 ZSET과 같이 읽으므로 결과보다 오래 남도록 버킷 TTL 사용
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            redis.call('EXPIRE', KEYS[3], ARGV[4])
+            return count
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RankingCacheService rankingCacheService;
+    private final ProblemRepository problemRepository;
+    private final UserRepository userRepository;
+
+    // 합친 결과 ZSET 보관 시간 (이 간격마다 버킷에서 다시 합침)
+    private final Duration windowTtl;
+
+    public WindowedRankingService(RedisTemplate<String, Object> redisTemplate,
+                                  RankingCacheService rankingCacheService,
+                                  ProblemRepository problemRepository,
+                                  UserRepository userRepository,
+                                  @Value("${ranking.window.refresh-seconds:60}") long refreshSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.rankingCacheService = rankingCacheService;
+        this.problemRepository = problemRepository;
+        this.userRepository = userRepository;
+        this.windowTtl = Duration.ofSeconds(refreshSeconds);
+    }
+
+    /**
+     * 문제 좋아요/플레이 증가분을 현재 시간 버킷에 누적
+     */
+    public void recordProblemCounts(Long problemId, long likesDelta, long playCountDelta) {
+        String bucket = bucketOf(LocalDateTime.now());
+        String member = problemId.toString();
+        pipelined(ops -> {
+            if (likesDelta != 0) {
+                incrementBucket(ops, PROBLEM_LIKES_BUCKET + ":" + bucket, member, likesDelta);
+            }
+            if (playCountDelta != 0) {
+                incrementBucket(ops, PROBLEM_PLAYS_BUCKET + ":" + bucket, member, playCountDelta);
+            }
+        });
+    }
+
+    /**
+     * 끝난 게임의 참가자별 게임 수를 게임 종료 시각의 버킷에 누적
+     * - spill 파일에서 늦게 재반영된 결과도 원래 시각의 버킷으로 들어감 (보관 기간이 지난 결과는 제외)
+     */
+    public void recordGameResults(List<GameResult> results) {
+        LocalDateTime oldest = LocalDateTime.now().minus(BUCKET_TTL);
+        pipelined(ops -> {
+            for (GameResult result : results) {
+                if (result.getFinishedAt() == null || result.getFinishedAt().isBefore(oldest)) {
+                    continue;
+                }
+                String key = USER_GAMES_BUCKET + ":" + bucketOf(result.getFinishedAt());
+                result.getParticipants().forEach(participant ->
+                        incrementBucket(ops, key, participant.getUserId().toString(), 1));
+            }
+        });
+    }
+
+    /**
+     * 기간별 문제 랭킹 상위 limit개
+     */
+    public List<RankingItem> getProblemRanking(RankingWindow window, int limit) {
+        requireWindowed(window);
+        String resultKey = PROBLEM_WINDOW + ":" + window.getCode();
+        String likesKey = PROBLEM_LIKES_WINDOW + ":" + window.getCode();
+        String playsKey = PROBLEM_PLAYS_WINDOW + ":" + window.getCode();
+
+        if (!isFresh(resultKey)) {
+            // 버킷 합치기 -> 점수 계산 (같은 결과를 여러 서버가 동시에 만들어도 덮어쓰기만 함)
+            union(bucketKeys(PROBLEM_LIKES_BUCKET, window), likesKey);
+            union(bucketKeys(PROBLEM_PLAYS_BUCKET, window), playsKey);
+            redisTemplate.execute(PROBLEM_SCORE_SCRIPT, List.of(resultKey, likesKey, playsKey, resultKey + EMPTY_SUFFIX),
+                    RankingScore.LIKE_WEIGHT, RankingScore.PLAY_WEIGHT, windowTtl.getSeconds(), BUCKET_TTL.getSeconds());
+        }
+
+        Set<ZSetOperations.TypedTuple<Object>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(resultKey, 0, Math.max(0, limit - 1));
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> problemIds = tuples.stream()
+                .map(tuple -> Long.parseLong(tuple.getValue().toString()))
+                .collect(Collectors.toList());
+        Object[] members = problemIds.stream().map(String::valueOf).toArray();
+        List<Double> likes = redisTemplate.opsForZSet().score(likesKey, members);
+        List<Double> plays = redisTemplate.opsForZSet().score(playsKey, members);
+        Map<Long, String> titles = findTitles(problemIds);
+
+        List<RankingItem> ranking = new ArrayList<>();
+        int index = 0;
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            int i = index++;
+            Long problemId = problemIds.get(i);
+            ranking.add(RankingItem.builder()
+                    .problemId(problemId)
+                    .title(titles.get(problemId))
+                    .likes(toInt(likes, i))
+                    .playCount(toInt(plays, i))
+                    .score(tuple.getScore())
+                    .rank(i + 1)
+                    .build());
+        }
+        return ranking;
+    }
+
+    /**
+     * 기간별 유저 랭킹 상위 limit명 (기간 내 게임 수 기준)
+     */
+    public List<UserRankingResponse.UserRankingItem> getUserRanking(RankingWindow window, int limit) {
+        requireWindowed(window);
+        String resultKey = USER_WINDOW + ":" + window.getCode();
+
+        if (!isFresh(resultKey)) {
+            Long size = union(bucketKeys(USER_GAMES_BUCKET, window), resultKey);
+            if (size == null || size == 0) {
+                // 합친 결과가 비면 ZUNIONSTORE가 결과 키를 지우므로 빈 결과 표시 키를 대신 남김
+                redisTemplate.opsForValue().set(resultKey + EMPTY_SUFFIX, 1, windowTtl);
+            } else {
+                redisTemplate.expire(resultKey, windowTtl);
+            }
+        }
+
+        Set<ZSetOperations.TypedTuple<Object>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(resultKey, 0, Math.max(0, limit - 1));
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> userIds = tuples.stream()
+                .map(tuple -> Long.parseLong(tuple.getValue().toString()))
+                .collect(Collectors.toList());
+        Map<Long, String> nicknames = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, User::getNickname));
+
+        List<UserRankingResponse.UserRankingItem> ranking = new ArrayList<>();
+        long rank = 1;
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            Long userId = Long.parseLong(tuple.getValue().toString());
+            ranking.add(UserRankingResponse.UserRankingItem.builder()
+                    .userId(userId)
+                    .nickname(nicknames.getOrDefault(userId, "알 수 없음"))
+                    .totalGame(tuple.getScore() == null ? 0L : tuple.getScore().longValue())
+                    .rank(rank++)
+                    .build());
+        }
+        return ranking;
+    }
+
+    // 제목은 전체 랭킹 제목 Hash에서 먼저 찾고, 없는 문제만 DB에서 PK로 조회
+    private Map<Long, String> findTitles(List<Long> problemIds) {
+        Map<Long, String> titles = new HashMap<>(rankingCacheService.getTitles(problemIds));
+        List<Long> missing = problemIds.stream().filter(id -> !titles.containsKey(id)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            problemRepository.findAllById(missing).forEach(problem -> titles.put(problem.getId(), problem.getTitle()));
+        }
+        return titles;
+    }
+
+    // 결과 ZSET이나 빈 결과 표시 키가 남아 있으면 다시 합치지 않음 (EXISTS 한 번)
+    private boolean isFresh(String resultKey) {
+        Long existing = redisTemplate.countExistingKeys(List.of(resultKey, resultKey + EMPTY_SUFFIX));
+        return existing != null && existing > 0;
+    }
+
+    private Long union(List<String> bucketKeys, String destKey) {
+        return redisTemplate.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), destKey);
+    }
+
+    // 현재 시각부터 거슬러 올라가며 기간에 해당하는 버킷 키
+    private List<String> bucketKeys(String prefix, RankingWindow window) {
+        LocalDateTime hour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        List<String> keys = new ArrayList<>(window.getHours());
+        for (int i = 0; i < window.getHours(); i++) {
+            keys.add(prefix + ":" + bucketOf(hour.minusHours(i)));
+        }
+        return keys;
+    }
+
+    private void incrementBucket(RedisOperations<String, Object> ops, String key, String member, long delta) {
+        ops.opsForZSet().incrementScore(key, member, delta);
+        ops.expire(key, BUCKET_TTL);
+    }
+
+    private String bucketOf(LocalDateTime time) {
+        return time.format(BUCKET_FORMAT);
+    }
+
+    private void requireWindowed(RankingWindow window) {
+        if (window.getHours() <= 0) {
+            throw new IllegalArgumentException("기간별 랭킹이 아닙니다: " + window.getCode());
+        }
+    }
+
+    private int toInt(List<Double> values, int index) {
+        if (values == null || values.get(index) == null) {
+            return 0;
+        }
+        return values.get(index).intValue();
+    }
+
+    private void pipelined(Consumer<RedisOperations<String, Object>> commands) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        });
+    }
+}
@@ -1,12 +1,20 @@
 package com.ssafy.backend.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ssafy.backend.common.enums.Source;
 import com.ssafy.backend.entity.*;
+import com.ssafy.backend.exception.ErrorCode;
+import com.ssafy.backend.exception.model.BadRequestException;
+import com.ssafy.backend.memory.type.Difficulty;
 import com.ssafy.backend.problem.dto.Request.ProblemSearchRequestDto;
 import com.ssafy.backend.problem.dto.Response.ProblemSummaryDto;
 import com.ssafy.backend.ranking.dto.RankingItem;
@@ -16,8 +24,8 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.function.Function;
 
 @Repository
 @RequiredArgsConstructor
@@ -25,6 +33,14 @@ public class ProblemRepositoryImpl implements ProblemRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
+    /**
+     * 문제 검색 (keyset 페이지네이션, 페이지당 쿼리 한 번)
+     * - 정렬마다 (정렬 키, id) 복합 커서: 인기순 likes+id, 성공률순 successRate+id, 난이도순 difficulty+id, 최신순 id
+     *   -> 커서 이후 행만 인덱스 순서대로 읽고 pageSize + 1개에서 멈춤 (exec/problem_search_indexes.sql)
+     * - 커서 키(cursorKey)가 없으면 커서 문제의 현재 값을 같은 쿼리 안의 서브쿼리로 읽음 (예전 클라이언트 호환)
+     * - 장르 필터는 EXISTS 세미조인, 장르 이름은 문제별 listagg 서브쿼리, 작성자는 left join으로 한 번에 조회
+     * - 키워드는 대소문자 구분 없는 컬레이션에 맡기고 LOWER()를 씌우지 않음
+     */
     @Override
     public Slice<ProblemSummaryDto> searchProblems(ProblemSearchRequestDto requestDto) {
 
@@ -40,10 +56,11 @@ public class ProblemRepositoryImpl implements ProblemRepositoryCustom {
         BooleanBuilder builder = new BooleanBuilder();
 
         int pageSize = requestDto.getSize() != null ? requestDto.getSize() : 10;
+        String sort = requestDto.getSort() != null ? requestDto.getSort() : "latest";
 
-        // 커서 기반 페이징 처리
+        // 커서 기반 페이징 처리 (정렬 키 + id)
         if (requestDto.getCursor() != null) {
-            builder.and(problem.id.lt(requestDto.getCursor()));
+            builder.and(afterCursor(sort, requestDto.getCursor(), requestDto.getCursorKey()));
         }
 
         // 필터 조건 (난이도, 출처, 키워드, 장르)
@@ -61,102 +78,66 @@ public class ProblemRepositoryImpl implements ProblemRepositoryCustom {
         }
 
         if (requestDto.getKeyword() != null && !requestDto.getKeyword().isBlank()) {
-            builder.and(problem.title.containsIgnoreCase(requestDto.getKeyword()));
+            builder.and(problem.title.contains(requestDto.getKeyword()));
         }
 
         if (requestDto.getGenre() != null && !requestDto.getGenre().isEmpty()) {
-            List<Long> genreFilteredIds = queryFactory
-                    .select(problemGenre.problemId)
+            builder.and(JPAExpressions.selectOne()
                     .from(problemGenre)
                     .join(genre).on(problemGenre.genreId.eq(genre.id))
-                    .where(genre.name.in(requestDto.getGenre()))
-                    .fetch();
-
-            if (genreFilteredIds.isEmpty()) {
-                return new SliceImpl<>(List.of(), PageRequest.of(0, pageSize), false);
-            }
-
-            builder.and(problem.id.in(genreFilteredIds));
-        }
-
-        // 정렬 조건
-        OrderSpecifier<?> order;
-        switch (requestDto.getSort()) {
-            case "popular" -> order = info.likes.desc(); // 인기순
-            case "difficulty" -> order = info.difficulty.desc(); // 난이도순
-            case "rating" -> order = info.successRate.desc(); // 성공률순
-            default -> order = problem.id.desc();  // 최신순
+                    .where(problemGenre.problemId.eq(problem.id), genre.name.in(requestDto.getGenre()))
+                    .exists());
         }
 
-        // 문제 목록 조회 (Problem + ProblemInfo 조인)
-        List<Problem> problems = queryFactory
-                .selectFrom(problem)
-                .join(info).on(problem.id.eq(info.id)).fetchJoin()
+        // 문제별 장르 이름 (콤마로 이어붙임)
+        JPQLQuery<String> genreNames = JPAExpressions
+                .select(Expressions.stringTemplate("listagg({0}, ',')", genre.name))
+                .from(problemGenre)
+                .join(genre).on(problemGenre.genreId.eq(genre.id))
+                .where(problemGenre.problemId.eq(problem.id));
+
+        // 작성자 기록이 여러 개면 첫 번째만 (행 중복 방지)
+        QUserCreatedProblem firstUcp = new QUserCreatedProblem("firstUcp");
+        JPQLQuery<Long> firstCreatorId = JPAExpressions
+                .select(firstUcp.id.min())
+                .from(firstUcp)
+                .where(firstUcp.problemId.eq(problem.id));
+
+        // 문제 목록 조회 (Problem + ProblemInfo + 작성자 + 장르, 쿼리 한 번)
+        List<Tuple> rows = queryFactory
+                .select(problem.id, problem.title, problem.content, problem.answer, problem.source,
+                        info.difficulty, info.likes, info.successRate,
+                        user.userId, user.nickname,
+                        genreNames)
+                .from(problem)
+                .join(info).on(problem.id.eq(info.id))
+                .leftJoin(ucp).on(ucp.problemId.eq(problem.id), ucp.id.eq(firstCreatorId))
+                .leftJoin(user).on(user.userId.eq(ucp.userId))
                 .where(builder)
-                .orderBy(order)
+                .orderBy(orderOf(sort))
                 .limit(pageSize + 1)
                 .fetch();
 
         // hasNext 처리 (다음 페이지 존재 여부)
-        boolean hasNext = problems.size() > pageSize;
-        if (hasNext) problems.remove(pageSize);
-
-        // 문제 ID 목록 추출
-        List<Long> problemIds = problems.stream().map(Problem::getId).toList();
-
-        // 문제 ID로 Genre 매핑 조회
-        Map<Long, List<String>> genreMap = queryFactory
-                .select(problemGenre.problemId, genre.name)
-                .from(problemGenre)
-                .join(genre).on(problemGenre.genreId.eq(genre.id))
-                .where(problemGenre.problemId.in(problemIds))
-                .fetch()
-                .stream()
-                .collect(Collectors.groupingBy(
-                        tuple -> tuple.get(problemGenre.problemId),
-                        Collectors.mapping(tuple -> tuple.get(genre.name), Collectors.toList())
-                ));
-
-        // 문제 ID로 User(작성자) 매핑 조회
-        Map<Long, ProblemSummaryDto.creatorInfo> creatorMap = queryFactory
-                .select(problem.id, user.userId, user.nickname)
-                .from(problem)
-                .join(ucp).on(problem.id.eq(ucp.problemId))
-                .join(user).on(ucp.userId.eq(user.userId))
-                .where(problem.id.in(problemIds))
-                .fetch()
-                .stream()
-                .collect(Collectors.toMap(
-                        tuple -> tuple.get(problem.id),
-                        tuple -> new ProblemSummaryDto.creatorInfo(
-                                tuple.get(user.userId),
-                                tuple.get(user.nickname)
-                        ),
-                        (existing, replacement) -> existing
-                ));
-
-        // ProblemInfo 엔티티 별도 조회 (likes, difficulty 등)
-        Map<Long, ProblemInfo> infoMap = queryFactory
-                .selectFrom(info)
-                .where(info.id.in(problemIds))
-                .fetch()
-                .stream()
-                .collect(Collectors.toMap(ProblemInfo::getId, i -> i));
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
 
         // DTO 변환
-        List<ProblemSummaryDto> result = problems.stream()
-                .map(p -> {
-                    ProblemInfo pi = infoMap.get(p.getId());
+        List<ProblemSummaryDto> result = rows.stream()
+                .map(row -> {
+                    String genres = row.get(genreNames);
+                    Long creatorId = row.get(user.userId);
                     return ProblemSummaryDto.builder()
-                            .problemId(p.getId().toString())
-                            .title(p.getTitle())
-                            .content(p.getContent())
-                            .answer(p.getAnswer())
-                            .genres(genreMap.getOrDefault(p.getId(), List.of()))
-                            .difficulty(pi != null ? pi.getDifficulty() : null)
-                            .creator(creatorMap.get(p.getId()))
-                            .likes(pi != null ? pi.getLikes() : 0)
-                            .source(p.getSource().name().toLowerCase())
+                            .problemId(row.get(problem.id).toString())
+                            .title(row.get(problem.title))
+                            .content(row.get(problem.content))
+                            .answer(row.get(problem.answer))
+                            .genres(genres == null || genres.isEmpty() ? List.of() : List.of(genres.split(",")))
+                            .difficulty(row.get(info.difficulty))
+                            .creator(creatorId != null ? new ProblemSummaryDto.creatorInfo(creatorId, row.get(user.nickname)) : null)
+                            .likes(row.get(info.likes))
+                            .source(row.get(problem.source).name().toLowerCase())
+                            .cursorKey(cursorKeyOf(sort, row))
                             .build();
                 })
                 .toList();
@@ -165,26 +146,94 @@ public class ProblemRepositoryImpl implements ProblemRepositoryCustom {
         return new SliceImpl<>(result, PageRequest.of(0, pageSize), hasNext);
     }
 
+    // 정렬 조건 (정렬 키가 같으면 id로 순서 고정)
+    private OrderSpecifier<?>[] orderOf(String sort) {
+        QProblem problem = QProblem.problem;
+        QProblemInfo info = QProblemInfo.problemInfo;
+        return switch (sort) {
+            case "popular" -> new OrderSpecifier<?>[]{info.likes.desc(), problem.id.desc()}; // 인기순
+            case "difficulty" -> new OrderSpecifier<?>[]{info.difficulty.desc(), problem.id.desc()}; // 난이도순
+            case "rating" -> new OrderSpecifier<?>[]{info.successRate.desc(), problem.id.desc()}; // 성공률순
+            default -> new OrderSpecifier<?>[]{problem.id.desc()}; // 최신순
+        };
+    }
+
+    // 커서 다음 행 조건: (키 < 커서 키) OR (키 = 커서 키 AND id < 커서 id)
+    // 커서 키가 정렬 기준 타입으로 읽히지 않으면 400 (VALIDATION_FAILED)
+    private BooleanExpression afterCursor(String sort, Long cursorId, String cursorKey) {
+        QProblem problem = QProblem.problem;
+        QProblemInfo info = QProblemInfo.problemInfo;
+        QProblemInfo cursorInfo = new QProblemInfo("cursorInfo");
+        BooleanExpression sameKeyAfterId = problem.id.lt(cursorId);
+
+        return switch (sort) {
+            case "popular" -> {
+                Expression<Integer> key = cursorKey != null
+                        ? Expressions.constant(parseCursorKey(cursorKey, Integer::valueOf))
+                        : JPAExpressions.select(cursorInfo.likes).from(cursorInfo).where(cursorInfo.id.eq(cursorId));
+                yield info.likes.lt(key).or(info.likes.eq(key).and(sameKeyAfterId));
+            }
+            case "rating" -> {
+                Expression<Double> key = cursorKey != null
+                        ? Expressions.constant(parseCursorKey(cursorKey, ProblemRepositoryImpl::finiteDouble))
+                        : JPAExpressions.select(cursorInfo.successRate).from(cursorInfo).where(cursorInfo.id.eq(cursorId));
+                yield info.successRate.lt(key).or(info.successRate.eq(key).and(sameKeyAfterId));
+            }
+            case "difficulty" -> {
+                Expression<Difficulty> key = cursorKey != null
+                        ? Expressions.constant(parseCursorKey(cursorKey, Difficulty::valueOf))
+                        : JPAExpressions.select(cursorInfo.difficulty).from(cursorInfo).where(cursorInfo.id.eq(cursorId));
+                yield info.difficulty.lt(key).or(info.difficulty.eq(key).and(sameKeyAfterId));
+            }
+            default -> sameKeyAfterId;
+        };
+    }
+
+    private static <T> T parseCursorKey(String cursorKey, Function<String, T> parser) {
+        try {
+            return parser.apply(cursorKey.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(ErrorCode.VALIDATION_FAILED, "올바르지 않은 커서 값입니다: " + cursorKey);
+        }
+    }
+
+    private static Double finiteDouble(String value) {
+        double parsed = Double.parseDouble(value);
+        if (!Double.isFinite(parsed)) {
+            throw new NumberFormatException(value);
+        }
+        return parsed;
+    }
+
+    // 다음 페이지 요청에 넘길 정렬 키 (최신순은 id만 사용)
+    private String cursorKeyOf(String sort, Tuple row) {
+        QProblemInfo info = QProblemInfo.problemInfo;
+        return switch (sort) {
+            case "popular" -> String.valueOf(row.get(info.likes));
+            case "rating" -> String.valueOf(row.get(info.successRate));
+            case "difficulty" -> row.get(info.difficulty).name();
+            default -> null;
+        };
+    }
+
     @Override
     public List<RankingItem> findAllProblemsForRanking() {
         QProblem problem = QProblem.problem;
         QProblemInfo info = QProblemInfo.problemInfo;
-        QProblemLike likes = QProblemLike.problemLike;
 
         return queryFactory
                 .select(Projections.constructor(RankingItem.class,
                         problem.id,
                         problem.title,
-                        // 좋아요 수 서브쿼리로 COUNT
-                        JPAExpressions.select(likes.count().intValue())
-                                .from(likes)
-                                .where(likes.problemId.eq(problem.id)),
+                        // 좋아요 수는 ProblemCounterService가 원자적으로 누적하는 ProblemInfo.likes 사용 (ProblemLike COUNT 서브쿼리 제거)
+                        info.likes,
                         info.playCount
                 ))
                 .from(problem)
                 .join(info).on(problem.id.eq(info.id))
                 .where(
-                        info.playCount.goe(1) // 최소 1회 이상 플레이
+                        // 플레이 또는 좋아요가 한 번이라도 있는 문제 (증분 갱신으로 ZSET에 들어오는 조건과 동일)
+                        info.playCount.goe(1).or(info.likes.goe(1))
                 )
                 .fetch();
     }
@@ -4,7 +4,6 @@ import com.ssafy.backend.common.enums.SocialProvider;
 import com.ssafy.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,15 +12,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findBySocialIdAndProvider(String socialId, SocialProvider provider);
 
-    // 게스트 정리용
-    List<User> findByProviderAndExpiresAtBefore(SocialProvider provider, LocalDateTime dateTime);
-    
     boolean existsBySocialIdAndDeletedFalse(String socialId);
     
     boolean existsByNicknameAndDeletedFalse(String nickname);
 
     Optional<User> findByUserId(Long userId);
 
-    List<User> findTop10ByOrderByTotalGamesDesc();
+    // 유저 랭킹 전체 적재/재검증용 (게임 기록이 있는 유저, 랭킹에 필요한 컬럼만)
+    List<UserGameCount> findByTotalGamesGreaterThanAndDeletedFalse(Integer totalGames);
+
+    interface UserGameCount {
+        Long getUserId();
+
+        String getNickname();
+
+        Integer getTotalGames();
+    }
 
 }
@@ -1,7 +1,9 @@
 package com.ssafy.backend.repository;
 
 import com.ssafy.backend.entity.UserSolvedProblem;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,6 +17,10 @@ public interface UserSolvedProblemRepository extends JpaRepository<UserSolvedPro
     List<UserSolvedProblem> findByProblemId(Long problemId);
     
     Optional<UserSolvedProblem> findByUserIdAndProblemId(Long userId, Long problemId);
+
+    // 정답 처리용 (같은 유저의 정답 시도가 동시에 와도 한 번만 반영되도록 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserSolvedProblem> findForUpdateByUserIdAndProblemId(Long userId, Long problemId);
     
     long countByUserIdAndIsWinner(Long userId, Boolean isWinner);
 }
\ No newline at end of file
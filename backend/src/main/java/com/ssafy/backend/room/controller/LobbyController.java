@@ -0,0 +1,25 @@
+package com.ssafy.backend.room.controller;
+
+import com.ssafy.backend.room.service.LobbySnapshotCache;
+import com.ssafy.backend.websocket.service.WebSocketNotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class LobbyController {
+    private final LobbySnapshotCache lobbySnapshotCache;
+    private final WebSocketNotificationService webSocketNotificationService;
+
+    // 로비 스냅샷 - /app/lobby/snapshot 구독 시 구독자에게만 1회 응답
+    // 클라이언트는 응답의 seq 이후 delta만 적용하고, seq가 건너뛰면 다시 구독해서 재동기화
+    // 응답은 캐시에 직렬화돼 있는 ROOM_LIST 프레임 바이트 (content-type: application/json으로 직접 전송)
+    @SubscribeMapping("/lobby/snapshot")
+    public void getLobbySnapshot(SimpMessageHeaderAccessor headerAccessor) {
+        webSocketNotificationService.sendRawToSubscriber(headerAccessor, lobbySnapshotCache.getFrame());
+    }
+}
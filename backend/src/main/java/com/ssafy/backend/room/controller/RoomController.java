@@ -3,6 +3,7 @@ package com.ssafy.backend.room.controller;
 import com.ssafy.backend.memory.Room;
 import com.ssafy.backend.room.dto.request.*;
 import com.ssafy.backend.room.dto.response.*;
+import com.ssafy.backend.room.service.LobbySnapshotCache;
 import com.ssafy.backend.room.service.RoomService;
 import com.ssafy.backend.websocket.service.WebSocketNotificationService;
 import com.ssafy.backend.websocket.util.WebSocketUtils;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RoomController {
     private final RoomService roomService;
+    private final LobbySnapshotCache lobbySnapshotCache;
     private final WebSocketNotificationService webSocketNotificationService;
 
     // 방 생성
@@ -35,11 +37,6 @@ public class RoomController {
             // 방장에게는 정답 포함해서 전송
             RoomResponse hostResponse = RoomResponse.from(room, true);
             webSocketNotificationService.sendToUser(userId, "/queue/room", "ROOM_CREATED", hostResponse);
-
-            // 로비
-            RoomListRequest roomListRequest = new RoomListRequest();
-            RoomListResponse response = roomService.getRooms(roomListRequest);
-            webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_LIST", response);
         } catch (Exception e) {
             webSocketNotificationService.sendToUser(userId, "/queue/room", "ERROR", e.getMessage());
         }
@@ -63,11 +60,6 @@ public class RoomController {
             PlayerResponse newPlayerResponse = PlayerResponse.from(result.getJoinedPlayer());
             webSocketNotificationService.sendToTopic("/topic/room/" + request.getRoomId(), "PLAYER_JOINED", newPlayerResponse);
 
-            // 로비
-            RoomListRequest roomListRequest = new RoomListRequest();
-            RoomListResponse response = roomService.getRooms(roomListRequest);
-            webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_LIST", response);
-
         } catch (Exception e) {
             webSocketNotificationService.sendToUser(userId, "/queue/room", "ERROR", e.getMessage());
         }
@@ -105,11 +97,6 @@ public class RoomController {
                 RoomResponse hostResponse = RoomResponse.from(result.getRoom(), true);
                 webSocketNotificationService.sendToUser(result.getNewHost().getUserId(), "/queue/room", "ROOM_UPDATED", hostResponse);
 
-                // 로비
-                RoomListRequest roomListRequest = new RoomListRequest();
-                RoomListResponse response = roomService.getRooms(roomListRequest);
-                webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_LIST", response);
-
                 log.info("방장이 변경되었습니다: roomId={}, oldHost={}, newHost={}", request.getRoomId(), leavingUserId, result.getNewHost().getUserId());
 
             } else { // 일반 참가자가 나간 경우
@@ -117,11 +104,6 @@ public class RoomController {
                 PlayerResponse newHostResponse = PlayerResponse.from(result.getNewHost());
                 webSocketNotificationService.sendToTopic("/topic/room/" + request.getRoomId(), "HOST_CHANGED", newHostResponse);
 
-                // 로비
-                RoomListRequest roomListRequest = new RoomListRequest();
-                RoomListResponse response = roomService.getRooms(roomListRequest);
-                webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_LIST", response);
-
                 log.info("참가자가 퇴장했습니다: roomId={}, userId={}", request.getRoomId(), leavingUserId);
             }
 
@@ -141,6 +123,13 @@ public class RoomController {
                 roomListRequest = new RoomListRequest();
             }
 
+            // 필터가 없으면 캐시된 로비 스냅샷 프레임을 그대로 전송
+            String state = roomListRequest.getState();
+            if (state == null || state.trim().isEmpty()) {
+                webSocketNotificationService.sendRawToUser(userId, "/queue/room", lobbySnapshotCache.getFrame());
+                return;
+            }
+
             RoomListResponse response = roomService.getRooms(roomListRequest);
             webSocketNotificationService.sendToUser(userId, "/queue/room", "ROOM_LIST", response);
 
@@ -182,11 +171,6 @@ public class RoomController {
 
             webSocketNotificationService.sendToTopic("/topic/room/" + request.getRoomId(), "ROOM_SETTINGS_CHANGED", broadcastResponse);
 
-            // 로비
-            RoomListRequest roomListRequest = new RoomListRequest();
-            RoomListResponse response = roomService.getRooms(roomListRequest);
-            webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_LIST", response);
-
             log.info("방 설정 변경 완료: roomId={}, userId={}, maxPlayers={}, timeLimit={}",
                     request.getRoomId(), userId, request.getMaxPlayers(), request.getTimeLimit());
 
@@ -242,11 +226,6 @@ public class RoomController {
                 // 새 방장에게는 정답 포함된 방 정보 개별 전송
                 RoomResponse hostResponse = RoomResponse.from(result.getRoom(), true);
                 webSocketNotificationService.sendToUser(result.getNewHost().getUserId(), "/queue/room", "ROOM_UPDATED", hostResponse);
-
-                // 로비
-                RoomListRequest roomListRequest = new RoomListRequest();
-                RoomListResponse response = roomService.getRooms(roomListRequest);
-                webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_LIST", response);
             } else {
                 // 거절한 경우 - 기존 방장에게만 알림
                 webSocketNotificationService.sendToUser(result.getOldHost().getUserId(), "/queue/room", "HOST_TRANSFER_DECLINED",
@@ -281,11 +260,6 @@ public class RoomController {
             ProblemUpdateSuccessResponse hostResponse = ProblemUpdateSuccessResponse.from(result.getUpdatedProblem(), true);
             webSocketNotificationService.sendToUser(userId, "/queue/room", "PROBLEM_UPDATE_SUCCESS", hostResponse);
 
-            // 로비
-            RoomListRequest roomListRequest = new RoomListRequest();
-            RoomListResponse response = roomService.getRooms(roomListRequest);
-            webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_LIST", response);
-
             log.info("방 문제 변경 완료: roomId={}, userId={}, problemId={}, problemType={}",
                     result.getRoom().getRoomId(), userId, request.getProblemId(), request.getProblemType());
 
@@ -0,0 +1,11 @@
+package com.ssafy.backend.room.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 로비에 노출되는 방 정보가 바뀌었을 때 발행 (방이 저장소에 없으면 삭제로 처리)
+@Getter
+@AllArgsConstructor
+public class LobbyRoomChangedEvent {
+    private Long roomId;
+}
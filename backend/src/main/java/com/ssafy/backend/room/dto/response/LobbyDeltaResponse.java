@@ -0,0 +1,36 @@
+package com.ssafy.backend.room.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 로비 변경분(delta) 메시지
+ * - ROOM_UPSERT: room에 최신 방 정보가 담김
+ * - ROOM_REMOVED: room은 null, roomId만 담김
+ * seq는 로비 전체에서 단조 증가하므로 클라이언트는 seq가 건너뛰면 스냅샷으로 재동기화한다.
+ */
+@Builder
+@Getter
+@ToString
+public class LobbyDeltaResponse {
+    private long seq;
+    private Long roomId;
+    private RoomResponse room;
+
+    public static LobbyDeltaResponse upsert(long seq, RoomResponse room) {
+        return LobbyDeltaResponse.builder()
+                .seq(seq)
+                .roomId(room.getRoomId())
+                .room(room)
+                .build();
+    }
+
+    public static LobbyDeltaResponse removed(long seq, Long roomId) {
+        return LobbyDeltaResponse.builder()
+                .seq(seq)
+                .roomId(roomId)
+                .room(null)
+                .build();
+    }
+}
@@ -14,8 +14,13 @@ public class RoomListResponse {
     private List<RoomResponse> rooms;
     private Integer totalCount;
     private String appliedFilter;
+    private Long seq; // 스냅샷 기준 로비 시퀀스 (이 값 이후의 delta만 적용하면 됨)
 
     public static RoomListResponse of(List<Room> rooms, String appliedFilter) {
+        return of(rooms, appliedFilter, null);
+    }
+
+    public static RoomListResponse of(List<Room> rooms, String appliedFilter, Long seq) {
         List<RoomResponse> roomResponses = rooms.stream()
                 .map(RoomResponse::from)
                 .collect(Collectors.toList());
@@ -24,6 +29,7 @@ public class RoomListResponse {
                 .rooms(roomResponses)
                 .totalCount(rooms.size())
                 .appliedFilter(appliedFilter)
+                .seq(seq)
                 .build();
     }
 }
@@ -0,0 +1,30 @@
+package com.ssafy.backend.room.listener;
+
+import com.ssafy.backend.room.dto.event.LobbyRoomChangedEvent;
+import com.ssafy.backend.room.service.LobbyFeedService;
+import com.ssafy.backend.room.service.LobbySnapshotCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LobbyEventListener {
+    private final LobbyFeedService lobbyFeedService;
+    private final LobbySnapshotCache lobbySnapshotCache;
+
+    // 방 정보 변경 -> 로비에 delta 전송 + 스냅샷 캐시 무효화
+    @EventListener
+    public void handleLobbyRoomChanged(LobbyRoomChangedEvent event) {
+        lobbySnapshotCache.markDirty();
+
+        try {
+            lobbyFeedService.publishRoomChanged(event.getRoomId());
+        } catch (Exception e) {
+            // 로비 알림 실패가 방/게임 처리 자체를 실패시키면 안 됨
+            log.error("로비 delta 전송 실패: roomId={}", event.getRoomId(), e);
+        }
+    }
+}
@@ -2,10 +2,8 @@ package com.ssafy.backend.room.listener;
 
 import com.ssafy.backend.room.dto.event.AllReadyTimerEvent;
 import com.ssafy.backend.room.dto.event.CancelRoomTimerEvent;
-import com.ssafy.backend.room.dto.request.RoomListRequest;
 import com.ssafy.backend.room.dto.response.LeaveRoomResult;
 import com.ssafy.backend.room.dto.response.PlayerResponse;
-import com.ssafy.backend.room.dto.response.RoomListResponse;
 import com.ssafy.backend.room.dto.response.RoomResponse;
 import com.ssafy.backend.room.service.RoomService;
 import com.ssafy.backend.room.service.RoomTimerService;
@@ -65,11 +63,6 @@ public class RoomEventListener {
             // 새 방장에게는 정답 포함된 방 정보 개별 전송
             RoomResponse hostResponse = RoomResponse.from(result.getRoom(), true);
             webSocketNotificationService.sendToUser(result.getNewHost().getUserId(), "/queue/room", "ROOM_UPDATED", hostResponse);
-
-            // 로비
-            RoomListRequest roomListRequest = new RoomListRequest();
-            RoomListResponse response = roomService.getRooms(roomListRequest);
-            webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_LIST", response);
         };
 
         // 3. 타이머 설정
@@ -0,0 +1,60 @@
+package com.ssafy.backend.room.service;
+
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.repository.RoomRepository;
+import com.ssafy.backend.room.dto.response.LobbyDeltaResponse;
+import com.ssafy.backend.room.dto.response.RoomListResponse;
+import com.ssafy.backend.room.dto.response.RoomResponse;
+import com.ssafy.backend.websocket.service.WebSocketNotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로비 변경 피드
+ * - 방 하나가 바뀔 때마다 전체 ROOM_LIST 대신 ROOM_UPSERT / ROOM_REMOVED delta만 /topic/lobby로 전송
+ * - 모든 delta는 단조 증가하는 seq를 가짐
+ * - 뒤처진 클라이언트는 getSnapshot()으로 받은 seq 이후의 delta만 적용하면 됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LobbyFeedService {
+    public static final String LOBBY_TOPIC = "/topic/lobby";
+    public static final String ROOM_UPSERT = "ROOM_UPSERT";
+    public static final String ROOM_REMOVED = "ROOM_REMOVED";
+
+    private final RoomRepository roomRepository;
+    private final WebSocketNotificationService webSocketNotificationService;
+
+    // 마지막으로 발행한 로비 시퀀스 (lock 안에서만 증가)
+    private volatile long seq = 0L;
+
+    // 방 변경분 발행 - 저장소에 방이 없으면 삭제로 간주
+    // seq 부여와 브로커 전송을 한 번에 묶어야 seq 순서대로 나간다
+    public synchronized void publishRoomChanged(Long roomId) {
+        Room room = roomRepository.findById(roomId);
+        long next = seq + 1;
+
+        if (room == null) {
+            webSocketNotificationService.sendToTopic(LOBBY_TOPIC, ROOM_REMOVED, LobbyDeltaResponse.removed(next, roomId));
+        } else {
+            webSocketNotificationService.sendToTopic(LOBBY_TOPIC, ROOM_UPSERT, LobbyDeltaResponse.upsert(next, RoomResponse.from(room)));
+        }
+        seq = next;
+
+        log.debug("로비 delta 발행: seq={}, roomId={}, removed={}", next, roomId, room == null);
+    }
+
+    // 현재 로비 스냅샷 (구독 직후 / 재동기화용)
+    public RoomListResponse getSnapshot() {
+        // seq를 먼저 읽어야 스냅샷이 최소한 seq까지의 변경을 모두 포함한다
+        // (그 이후 변경이 일부 섞여도 delta는 방 단위 전체 상태라 다시 적용해도 안전)
+        long snapshotSeq = seq;
+        return RoomListResponse.of(roomRepository.findAllSorted(), null, snapshotSeq);
+    }
+
+    public long getCurrentSeq() {
+        return seq;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ssafy.backend.room.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.backend.common.response.WebSocketResponse;
+import com.ssafy.backend.room.dto.response.RoomListResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 직렬화된 로비 스냅샷(ROOM_LIST 프레임) 캐시
+ * - 방 변경 시 dirty 표시만 하고, 실제 재생성은 요청이 올 때 한 번
+ * - 프레임의 seq가 현재 delta seq보다 뒤처지면 다시 만듦 -> 받은 스냅샷과 이후 delta 사이에 빈 seq가 생기지 않음
+ * - 입장/퇴장/게임 종료가 몰려도 변경 사이의 요청들은 RoomResponse 생성 + JSON 직렬화 결과 하나를 같이 씀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LobbySnapshotCache {
+    private final LobbyFeedService lobbyFeedService;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean dirty = true;
+    private volatile Frame frame;
+
+    // 직렬화된 프레임과 그 스냅샷의 seq (한 번에 교체해야 서로 어긋나지 않음)
+    private static class Frame {
+        private final byte[] bytes;
+        private final long seq;
+
+        Frame(byte[] bytes, long seq) {
+            this.bytes = bytes;
+            this.seq = seq;
+        }
+    }
+
+    // 방 변경 알림 - 직렬화는 하지 않고 표시만
+    public void markDirty() {
+        dirty = true;
+    }
+
+    // 현재 ROOM_LIST 프레임 (JSON 바이트)
+    public byte[] getFrame() {
+        Frame current = frame;
+        if (isFresh(current)) {
+            return current.bytes;
+        }
+        return rebuild();
+    }
+
+    // dirty가 아니어도 delta seq가 앞서 있으면 뒤처진 프레임 (delta 발행 실패 시에는 dirty만 남음)
+    private boolean isFresh(Frame current) {
+        return current != null && !dirty && current.seq >= lobbyFeedService.getCurrentSeq();
+    }
+
+    private synchronized byte[] rebuild() {
+        // 대기하는 동안 다른 스레드가 이미 다시 만들었으면 그대로 사용
+        Frame current = frame;
+        if (isFresh(current)) {
+            return current.bytes;
+        }
+
+        // 스냅샷을 읽기 전에 내려야 그 사이 변경이 다음 재생성에 반영됨
+        dirty = false;
+        try {
+            RoomListResponse snapshot = lobbyFeedService.getSnapshot();
+            byte[] rebuilt = objectMapper.writeValueAsBytes(new WebSocketResponse<>("ROOM_LIST", snapshot));
+            frame = new Frame(rebuilt, snapshot.getSeq());
+            return rebuilt;
+        } catch (JsonProcessingException e) {
+            dirty = true;
+            throw new RuntimeException("로비 스냅샷 직렬화에 실패했습니다.", e);
+        }
+    }
+}
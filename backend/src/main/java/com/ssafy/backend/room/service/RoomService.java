@@ -3,6 +3,7 @@ package com.ssafy.backend.room.service;
 import com.ssafy.backend.memory.Player;
 import com.ssafy.backend.memory.Problem;
 import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.executor.RoomExecutor;
 import com.ssafy.backend.memory.repository.RoomRepository;
 import com.ssafy.backend.memory.type.PlayerRole;
 import com.ssafy.backend.memory.type.PlayerState;
@@ -11,6 +12,7 @@ import com.ssafy.backend.memory.type.RoomState;
 import com.ssafy.backend.problem.dto.Request.ProblemSearchRequestDto;
 import com.ssafy.backend.room.dto.event.AllReadyTimerEvent;
 import com.ssafy.backend.room.dto.event.CancelRoomTimerEvent;
+import com.ssafy.backend.room.dto.event.LobbyRoomChangedEvent;
 import com.ssafy.backend.room.dto.request.RoomProblemUpdateRequest;
 import com.ssafy.backend.room.dto.response.*;
 import com.ssafy.backend.problem.dto.Response.ProblemSummaryDto;
@@ -18,7 +20,6 @@ import com.ssafy.backend.problem.service.MemoryProblemService;
 import com.ssafy.backend.repository.ProblemRepositoryCustom;
 import com.ssafy.backend.room.dto.request.RoomCreateRequest;
 import com.ssafy.backend.room.dto.request.RoomListRequest;
-import com.ssafy.backend.websocket.service.WebSocketNotificationService;
 
 import java.util.Collections;
 import java.util.List;
@@ -34,10 +35,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RoomService {
     private final RoomRepository roomRepository;
-    private final WebSocketNotificationService webSocketNotificationService;
     private final MemoryProblemService memoryProblemService;
     private final ProblemRepositoryCustom problemRepositoryCustom;
     private final ApplicationEventPublisher eventPublisher;
+    private final LobbyFeedService lobbyFeedService;
+    private final RoomExecutor roomExecutor;
 
     // 방 생성
     public Room createRoom(int maxPlayers, int timeLimit, Long userId, String nickname, RoomCreateRequest.ProblemInfo problemInfo) {
@@ -47,52 +49,48 @@ public class RoomService {
             leaveRoom(currentRoomId, userId); // 기존 방에서 나가기
         }
 
+        // 문제 정보 검증 (DB 조회가 있을 수 있어 방 작업 밖에서 처리)
+        Problem selectedProblem = validateAndGetProblem(problemInfo);
+
         // 방 생성
         Long roomId = roomRepository.getNextRoomId();
-        Room room = new Room(roomId, maxPlayers, timeLimit);
-        room.setState(RoomState.WAITING);
-
-        // 방장으로 입장
-        Player host = new Player(userId, nickname);
-        host.setRole(PlayerRole.HOST);
-        host.setState(PlayerState.READY); // 게임 중 상태 (아직 게임 시작 전이므로 의미없음)
-        host.setReadyState(ReadyState.READY); // 방장의 대기방 준비 상태는 READY로 시작
+        return roomExecutor.call(roomId, () -> {
+            Room room = new Room(roomId, maxPlayers, timeLimit);
+            roomRepository.changeState(room, RoomState.WAITING);
 
-        room.getPlayers().put(userId, host);
-        room.getPlayerOrder().add(userId);
-        room.setHostId(userId);
+            // 방장으로 입장
+            Player host = new Player(userId, nickname);
+            host.setRole(PlayerRole.HOST);
+            host.setState(PlayerState.READY); // 게임 중 상태 (아직 게임 시작 전이므로 의미없음)
+            host.setReadyState(ReadyState.READY); // 방장의 대기방 준비 상태는 READY로 시작
 
-        // 문제 정보 검증 및 설정 추가
-        Problem selectedProblem = validateAndGetProblem(problemInfo);
-        room.setSelectedProblem(selectedProblem);
+            room.getPlayers().put(userId, host);
+            room.getPlayerOrder().add(userId);
+            room.setHostId(userId);
+            room.setSelectedProblem(selectedProblem);
 
-        // 저장
-        roomRepository.save(room);
-        roomRepository.setUserRoom(userId, roomId);
+            // 저장
+            roomRepository.save(room);
+            roomRepository.setUserRoom(userId, roomId);
+            eventPublisher.publishEvent(new LobbyRoomChangedEvent(roomId));
 
-        return room;
+            return room;
+        });
     }
 
     // 방 입장
     public JoinRoomResult joinRoom(Long roomId, Long userId, String nickname) {
-        Room room = roomRepository.findById(roomId);
-        if (room == null) {
-            throw new RuntimeException("방을 찾을 수 없습니다.");
+        // 이미 다른 방에 있다면 입장 가능 여부를 먼저 확인한 뒤 퇴장
+        // (다른 방 작업을 이 방 작업 안에서 기다리면 교착 상태가 될 수 있어 밖에서 처리)
+        Long currentRoomId = roomRepository.getCurrentRoom(userId);
+        if (currentRoomId != null && !currentRoomId.equals(roomId)) {
+            roomExecutor.run(roomId, () -> validateJoin(roomRepository.findById(roomId), userId));
+            leaveRoom(currentRoomId, userId);
         }
 
-        synchronized (room) {
-            if (!room.canJoin()) {
-                throw new RuntimeException("입장할 수 없는 방입니다.");
-            }
-            if (room.hasPlayer(userId)) {
-                throw new RuntimeException("이미 참가한 방입니다.");
-            }
-
-            // 이미 다른 방에 있다면 퇴장
-            Long currentRoomId = roomRepository.getCurrentRoom(userId);
-            if (currentRoomId != null && !currentRoomId.equals(roomId)) {
-                leaveRoom(currentRoomId, userId);
-            }
+        return roomExecutor.call(roomId, () -> {
+            Room room = roomRepository.findById(roomId);
+            validateJoin(room, userId);
 
             // 플레이어 추가
             Player player = new Player(userId, nickname);
@@ -105,56 +103,74 @@ public class RoomService {
 
             roomRepository.save(room);
             roomRepository.setUserRoom(userId, roomId);
+            eventPublisher.publishEvent(new LobbyRoomChangedEvent(roomId));
 
             // 결과 반환
             boolean isHost = userId.equals(room.getHostId());
             return JoinRoomResult.success(room, player, isHost);
+        });
+    }
+
+    // 입장 가능 여부 확인
+    private void validateJoin(Room room, Long userId) {
+        if (room == null) {
+            throw new RuntimeException("방을 찾을 수 없습니다.");
+        }
+        if (!room.canJoin()) {
+            throw new RuntimeException("입장할 수 없는 방입니다.");
+        }
+        if (room.hasPlayer(userId)) {
+            throw new RuntimeException("이미 참가한 방입니다.");
         }
     }
 
     // 방 퇴장
     public LeaveRoomResult leaveRoom(Long roomId, Long userId) {
-        Room room = roomRepository.findById(roomId);
-        if (room == null || !room.hasPlayer(userId)) {
-            // 이미 없으면 삭제된 것으로 처리
-            return LeaveRoomResult.roomDeleted(userId);
-        }
+        return roomExecutor.call(roomId, () -> {
+            Room room = roomRepository.findById(roomId);
+            if (room == null || !room.hasPlayer(userId)) {
+                // 이미 없으면 삭제된 것으로 처리
+                return LeaveRoomResult.roomDeleted(userId);
+            }
 
-        // 퇴장 전 상태 확인
-        boolean wasHost = userId.equals(room.getHostId());
+            // 퇴장 전 상태 확인
+            boolean wasHost = userId.equals(room.getHostId());
 
-        // 플레이어 제거
-        room.getPlayers().remove(userId);
-        room.getPlayerOrder().remove(userId);
-        roomRepository.removeUserRoom(userId);
+            // 플레이어 제거
+            room.getPlayers().remove(userId);
+            room.getPlayerOrder().remove(userId);
+            roomRepository.removeUserRoom(userId);
 
-        // 방이 비었으면 삭제
-        if (room.isEmpty()) {
-            room.setHostId(null);
-            roomRepository.delete(roomId);
-            webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_DELETED", roomId);
-            return LeaveRoomResult.roomDeleted(userId);
-        }
+            // 방이 비었으면 삭제
+            if (room.isEmpty()) {
+                room.setHostId(null);
+                roomRepository.delete(roomId);
+                eventPublisher.publishEvent(new LobbyRoomChangedEvent(roomId));
+                return LeaveRoomResult.roomDeleted(userId);
+            }
 
-        // 방장이 나갔으면 방장 이양
-        if (wasHost) {
-            // 첫 번째 남은 플레이어를 방장으로
-            Long newHostId = room.getPlayerOrder().get(0);
-            Player newHost = room.getPlayer(newHostId);
-            newHost.setRole(PlayerRole.HOST);
-            newHost.setReadyState(ReadyState.READY);
-            room.setHostId(newHostId);
+            // 방장이 나갔으면 방장 이양
+            if (wasHost) {
+                // 첫 번째 남은 플레이어를 방장으로
+                Long newHostId = room.getPlayerOrder().get(0);
+                Player newHost = room.getPlayer(newHostId);
+                newHost.setRole(PlayerRole.HOST);
+                newHost.setReadyState(ReadyState.READY);
+                room.setHostId(newHostId);
 
-            // 다시 새로운 타이머 설정
-            eventPublisher.publishEvent(new AllReadyTimerEvent(roomId, newHostId));
+                // 다시 새로운 타이머 설정
+                eventPublisher.publishEvent(new AllReadyTimerEvent(roomId, newHostId));
 
-            roomRepository.save(room);
-            return LeaveRoomResult.hostChanged(room, newHost, userId);
-        } else {
-            // 일반 참가자가 나간 경우
-            roomRepository.save(room);
-            return LeaveRoomResult.participantLeft(room, userId);
-        }
+                roomRepository.save(room);
+                eventPublisher.publishEvent(new LobbyRoomChangedEvent(roomId));
+                return LeaveRoomResult.hostChanged(room, newHost, userId);
+            } else {
+                // 일반 참가자가 나간 경우
+                roomRepository.save(room);
+                eventPublisher.publishEvent(new LobbyRoomChangedEvent(roomId));
+                return LeaveRoomResult.participantLeft(room, userId);
+            }
+        });
     }
 
     // 방 목록 조회
@@ -173,7 +189,8 @@ public class RoomService {
                 allRooms = Collections.emptyList();
             }
         } else {
-            allRooms = roomRepository.findAllSorted();
+            // 필터가 없으면 로비 스냅샷 (delta 재동기화용 seq 포함)
+            return lobbyFeedService.getSnapshot();
         }
 
         return RoomListResponse.of(allRooms, state);
@@ -181,100 +198,105 @@ public class RoomService {
 
     // 방장 권한 넘기기 요청
     public TransferHostRequestResult requestHostTransfer(Long roomId, Long requesterId, Long targetUserId) {
-        Room room = roomRepository.findById(roomId);
-        if (room == null) {
-            throw new RuntimeException("방을 찾을 수 없습니다.");
-        }
+        return roomExecutor.call(roomId, () -> {
+            Room room = roomRepository.findById(roomId);
+            if (room == null) {
+                throw new RuntimeException("방을 찾을 수 없습니다.");
+            }
 
-        // 요청자가 방장인지 확인
-        if (!requesterId.equals(room.getHostId())) {
-            throw new RuntimeException("방장만 권한을 넘길 수 있습니다.");
-        }
+            // 요청자가 방장인지 확인
+            if (!requesterId.equals(room.getHostId())) {
+                throw new RuntimeException("방장만 권한을 넘길 수 있습니다.");
+            }
 
-        // 대상자가 방에 있는지 확인
-        if (!room.hasPlayer(targetUserId)) {
-            throw new RuntimeException("해당 사용자는 방에 없습니다.");
-        }
+            // 대상자가 방에 있는지 확인
+            if (!room.hasPlayer(targetUserId)) {
+                throw new RuntimeException("해당 사용자는 방에 없습니다.");
+            }
 
-        // 이미 진행 중인 권한 넘기기 요청이 있는지 확인
-        if (room.hasPendingHostTransfer()) {
-            throw new RuntimeException("이미 진행 중인 권한 넘기기 요청이 있습니다.");
-        }
+            // 이미 진행 중인 권한 넘기기 요청이 있는지 확인
+            if (room.hasPendingHostTransfer()) {
+                throw new RuntimeException("이미 진행 중인 권한 넘기기 요청이 있습니다.");
+            }
 
-        // 권한 넘기기 요청 상태 설정
-        room.setPendingHostTransfer(targetUserId);
-        roomRepository.save(room);
+            // 권한 넘기기 요청 상태 설정
+            room.setPendingHostTransfer(targetUserId);
+            roomRepository.save(room);
 
-        // 요청자와 대상자 정보 조회
-        Player requester = room.getPlayer(requesterId);
-        Player target = room.getPlayer(targetUserId);
+            // 요청자와 대상자 정보 조회
+            Player requester = room.getPlayer(requesterId);
+            Player target = room.getPlayer(targetUserId);
 
-        return TransferHostRequestResult.success(room, requester, target);
+            return TransferHostRequestResult.success(room, requester, target);
+        });
     }
 
     // 방장 권한 넘기기 응답
     public TransferHostResponseResult respondToHostTransfer(Long roomId, Long responderId, boolean accept) {
-        Room room = roomRepository.findById(roomId);
-        if (room == null) {
-            throw new RuntimeException("방을 찾을 수 없습니다.");
-        }
+        return roomExecutor.call(roomId, () -> {
+            Room room = roomRepository.findById(roomId);
+            if (room == null) {
+                throw new RuntimeException("방을 찾을 수 없습니다.");
+            }
 
-        // 진행 중인 권한 넘기기 요청이 있는지 확인
-        if (!room.hasPendingHostTransfer()) {
-            throw new RuntimeException("진행 중인 권한 넘기기 요청이 없습니다.");
-        }
+            // 진행 중인 권한 넘기기 요청이 있는지 확인
+            if (!room.hasPendingHostTransfer()) {
+                throw new RuntimeException("진행 중인 권한 넘기기 요청이 없습니다.");
+            }
 
-        // 응답자가 대상자인지 확인
-        if (!room.isValidHostTransferTarget(responderId)) {
-            throw new RuntimeException("권한 넘기기 요청 대상자가 아닙니다.");
-        }
+            // 응답자가 대상자인지 확인
+            if (!room.isValidHostTransferTarget(responderId)) {
+                throw new RuntimeException("권한 넘기기 요청 대상자가 아닙니다.");
+            }
 
-        Long oldHostId = room.getHostId();
-        Player oldHost = room.getPlayer(oldHostId);
-        Player newHost = room.getPlayer(responderId);
+            Long oldHostId = room.getHostId();
+            Player oldHost = room.getPlayer(oldHostId);
+            Player newHost = room.getPlayer(responderId);
 
-        if (accept) {
-            // 수락한 경우: 권한 변경
-            // 기존 방장의 역할을 참가자로 변경
-            oldHost.setRole(PlayerRole.PARTICIPANT);
-            oldHost.setReadyState(ReadyState.WAITING); // 이전 방장은 WAITING 상태로 변경
+            if (accept) {
+                // 수락한 경우: 권한 변경
+                // 기존 방장의 역할을 참가자로 변경
+                oldHost.setRole(PlayerRole.PARTICIPANT);
+                oldHost.setReadyState(ReadyState.WAITING); // 이전 방장은 WAITING 상태로 변경
 
-            // 새 방장의 역할을 방장으로 변경
-            newHost.setRole(PlayerRole.HOST);
-            newHost.setReadyState(ReadyState.READY); // 새 방장은 READY 상태로 변경
+                // 새 방장의 역할을 방장으로 변경
+                newHost.setRole(PlayerRole.HOST);
+                newHost.setReadyState(ReadyState.READY); // 새 방장은 READY 상태로 변경
 
-            // 방의 hostId 변경
-            room.setHostId(responderId);
+                // 방의 hostId 변경
+                room.setHostId(responderId);
 
-            // 기존의 방 게임 시작 타이머 삭제
-            eventPublisher.publishEvent(new CancelRoomTimerEvent(roomId));
+                // 기존의 방 게임 시작 타이머 삭제
+                eventPublisher.publishEvent(new CancelRoomTimerEvent(roomId));
 
-            // 권한 넘기기 요청 상태 초기화
-            room.clearPendingHostTransfer();
+                // 권한 넘기기 요청 상태 초기화
+                room.clearPendingHostTransfer();
 
-            roomRepository.save(room);
+                roomRepository.save(room);
+                eventPublisher.publishEvent(new LobbyRoomChangedEvent(roomId));
 
-            log.info("방장 권한 이양 완료: roomId={}, oldHostId={}, newHostId={}", 
-                    room.getRoomId(), oldHostId, responderId);
+                log.info("방장 권한 이양 완료: roomId={}, oldHostId={}, newHostId={}", 
+                        room.getRoomId(), oldHostId, responderId);
 
-            return TransferHostResponseResult.accepted(room, oldHost, newHost);
-        } else {
-            // 거절한 경우: 상태만 초기화
-            room.clearPendingHostTransfer();
-            roomRepository.save(room);
+                return TransferHostResponseResult.accepted(room, oldHost, newHost);
+            } else {
+                // 거절한 경우: 상태만 초기화
+                room.clearPendingHostTransfer();
+                roomRepository.save(room);
 
-            return TransferHostResponseResult.declined(room, oldHost, newHost);
-        }
+                return TransferHostResponseResult.declined(room, oldHost, newHost);
+            }
+        });
     }
 
     // 방 설정 변경
     public RoomSettingsUpdateResult updateRoomSettings(Long roomId, Long userId, String nickname, Integer maxPlayers, Integer timeLimit) {
-        Room room = roomRepository.findById(roomId);
-        if (room == null) {
-            throw new RuntimeException("방을 찾을 수 없습니다.");
-        }
+        return roomExecutor.call(roomId, () -> {
+            Room room = roomRepository.findById(roomId);
+            if (room == null) {
+                throw new RuntimeException("방을 찾을 수 없습니다.");
+            }
 
-        synchronized (room) {
             // 방장 권한 확인
             if (!room.getHostId().equals(userId)) {
                 throw new RuntimeException("방장만 방 설정을 변경할 수 있습니다.");
@@ -306,12 +328,13 @@ public class RoomService {
 
             // 저장
             roomRepository.save(room);
+            eventPublisher.publishEvent(new LobbyRoomChangedEvent(roomId));
 
             log.info("방 설정이 변경되었습니다: roomId={}, hostId={}, maxPlayers={}, timeLimit={}",
                     roomId, userId, updatedMaxPlayers, updatedTimeLimit);
 
             return RoomSettingsUpdateResult.success(room, updatedMaxPlayers, updatedTimeLimit, userId, nickname);
-        }
+        });
     }
 
     // 문제 설정 변경
@@ -322,13 +345,26 @@ public class RoomService {
             throw new RuntimeException("현재 참여 중인 방이 없습니다.");
         }
 
-        // 방 조회
-        Room room = roomRepository.findById(currentRoomId);
-        if (room == null) {
-            throw new RuntimeException("방을 찾을 수 없습니다.");
+        // 문제 유효성 검증 및 조회 (DB 조회가 있을 수 있어 방 작업 밖에서 처리)
+        Problem selectedProblem;
+        try {
+            RoomCreateRequest.ProblemInfo problemInfo = new RoomCreateRequest.ProblemInfo();
+            problemInfo.setProblemId(request.getProblemId());
+            problemInfo.setProblemType(request.getProblemType());
+            selectedProblem = validateAndGetProblem(problemInfo);
+        } catch (Exception e) {
+            log.error("문제 변경 중 오류: roomId={}, userId={}, problemId={}, error={}",
+                    currentRoomId, userId, request.getProblemId(), e.getMessage());
+            throw new RuntimeException("문제 변경 중 오류가 발생했습니다: " + e.getMessage());
         }
 
-        synchronized (room) {
+        return roomExecutor.call(currentRoomId, () -> {
+            // 방 조회
+            Room room = roomRepository.findById(currentRoomId);
+            if (room == null) {
+                throw new RuntimeException("방을 찾을 수 없습니다.");
+            }
+
             // 권한 확인 - 방장만 문제 변경 가능
             if (!room.getHostId().equals(userId)) {
                 throw new RuntimeException("방장만 문제를 변경할 수 있습니다.");
@@ -339,42 +375,28 @@ public class RoomService {
                 throw new RuntimeException("게임이 시작된 방의 문제는 변경할 수 없습니다.");
             }
 
-            try {
-                // 문제 정보 생성 및 검증
-                RoomCreateRequest.ProblemInfo problemInfo = new RoomCreateRequest.ProblemInfo();
-                problemInfo.setProblemId(request.getProblemId());
-                problemInfo.setProblemType(request.getProblemType());
-
-                // 문제 유효성 검증 및 조회
-                Problem selectedProblem = validateAndGetProblem(problemInfo);
-
-                // 방에 문제 설정
-                room.setSelectedProblem(selectedProblem);
-
-                // 저장
-                roomRepository.save(room);
+            // 방에 문제 설정
+            room.setSelectedProblem(selectedProblem);
 
-                log.info("방 문제 변경됨: roomId={}, hostId={}, problemId={}, problemType={}",
-                        room.getRoomId(), userId, request.getProblemId(), request.getProblemType());
+            // 저장
+            roomRepository.save(room);
+            eventPublisher.publishEvent(new LobbyRoomChangedEvent(room.getRoomId()));
 
-                return ProblemUpdateResult.success(room, selectedProblem, userId, nickname);
+            log.info("방 문제 변경됨: roomId={}, hostId={}, problemId={}, problemType={}",
+                    room.getRoomId(), userId, request.getProblemId(), request.getProblemType());
 
-            } catch (Exception e) {
-                log.error("문제 변경 중 오류: roomId={}, userId={}, problemId={}, error={}",
-                        room.getRoomId(), userId, request.getProblemId(), e.getMessage());
-                throw new RuntimeException("문제 변경 중 오류가 발생했습니다: " + e.getMessage());
-            }
-        }
+            return ProblemUpdateResult.success(room, selectedProblem, userId, nickname);
+        });
     }
 
     // 준비 상태 변경
     public ReadyStateChangeResult changeReadyState(Long roomId, Long userId, ReadyState readyStateStr) {
-        Room room = roomRepository.findById(roomId);
-        if (room == null) {
-            throw new RuntimeException("방을 찾을 수 없습니다.");
-        }
+        return roomExecutor.call(roomId, () -> {
+            Room room = roomRepository.findById(roomId);
+            if (room == null) {
+                throw new RuntimeException("방을 찾을 수 없습니다.");
+            }
 
-        synchronized (room) {
             // 사용자가 방에 있는지 확인
             if (!room.hasPlayer(userId)) {
                 throw new RuntimeException("방에 참가하지 않은 사용자입니다.");
@@ -420,7 +442,7 @@ public class RoomService {
                     roomId, userId, newReadyState, allReady, canStartGame);
 
             return ReadyStateChangeResult.success(room, userId, newReadyState, allReady, canStartGame);
-        }
+        });
     }
 
     private Problem validateAndGetProblem(RoomCreateRequest.ProblemInfo problemInfo) {
@@ -1,15 +1,15 @@
 package com.ssafy.backend.websocket.listener;
 
 import com.ssafy.backend.config.jwt.JWTUtil;
+import com.ssafy.backend.config.jwt.JwtClaims;
 import com.ssafy.backend.game.service.GameService;
 import com.ssafy.backend.memory.Game;
 import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.executor.RoomExecutor;
 import com.ssafy.backend.memory.repository.RoomRepository;
 import com.ssafy.backend.memory.type.RoomState;
-import com.ssafy.backend.room.dto.request.RoomListRequest;
 import com.ssafy.backend.room.dto.response.LeaveRoomResult;
 import com.ssafy.backend.room.dto.response.PlayerResponse;
-import com.ssafy.backend.room.dto.response.RoomListResponse;
 import com.ssafy.backend.room.dto.response.RoomResponse;
 import com.ssafy.backend.room.service.RoomService;
 import com.ssafy.backend.websocket.service.WebSocketNotificationService;
@@ -30,6 +30,7 @@ public class WebSocketEventListener {
     private final WebSocketNotificationService webSocketNotificationService;
     private final JWTUtil jwtUtil;
     private final GameService gameService;
+    private final RoomExecutor roomExecutor;
 
     // 연결시 헤더에 userId를 넣는 방식
 //    @EventListener
@@ -57,9 +58,10 @@ public class WebSocketEventListener {
                 String token = authHeader.substring(7); // "Bearer " 제거
 
                 // JWT 토큰 검증 및 userId 추출
-                if (!jwtUtil.isExpired(token) && "access".equals(jwtUtil.getCategory(token))) {
-                    Long userId = jwtUtil.getUserId(token);
-                    String nickname = jwtUtil.getNickname(token);
+                JwtClaims claims = jwtUtil.parse(token);
+                if (!claims.isExpired() && "access".equals(claims.getCategory())) {
+                    Long userId = claims.getUserId();
+                    String nickname = claims.getNickname();
 
                     // 세션에 사용자 정보 저장
                     accessor.getSessionAttributes().put("userId", userId);
@@ -86,14 +88,20 @@ public class WebSocketEventListener {
         if (userId != null) {
             Long currentRoomId = roomRepository.getCurrentRoom(userId);
             if (currentRoomId != null) {
-                // 게임 중인 사용자이면
-                Room room = roomRepository.findById(currentRoomId);
-                if (room != null) {
-                    Game game = room.getCurrentGame();
-                    if (game != null && room.getState() == RoomState.PLAYING && (room.getHostId().equals(userId) || game.getPlayers().get(userId) != null)) {
-                        gameService.handlePlayerDisconnect(userId, currentRoomId, nickname, false);
-                        return;
+                // 게임 중인 사용자이면 (상태 확인과 이탈 처리를 같은 방 작업 안에서 수행)
+                boolean handledByGame = roomExecutor.call(currentRoomId, () -> {
+                    Room room = roomRepository.findById(currentRoomId);
+                    if (room != null) {
+                        Game game = room.getCurrentGame();
+                        if (game != null && room.getState() == RoomState.PLAYING && (room.getHostId().equals(userId) || game.getPlayers().get(userId) != null)) {
+                            gameService.handlePlayerDisconnect(userId, currentRoomId, nickname, false);
+                            return true;
+                        }
                     }
+                    return false;
+                });
+                if (handledByGame) {
+                    return;
                 }
 
                 try {
@@ -121,18 +129,10 @@ public class WebSocketEventListener {
                         RoomResponse hostResponse = RoomResponse.from(result.getRoom(), true);
                         webSocketNotificationService.sendToUser(result.getNewHost().getUserId(), "/queue/room", "ROOM_UPDATED", hostResponse);
 
-                        // 로비
-                        RoomListRequest roomListRequest = new RoomListRequest();
-                        RoomListResponse response = roomService.getRooms(roomListRequest);
-                        webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_LIST", response);
-
                         log.info("연결 해제로 인한 방장 변경: roomId={}, oldHost={}, newHost={}",
                                 currentRoomId, leavingUserId, result.getNewHost().getUserId());
                     } else {
-                        // 일반 참가자가 나간 경우
-                        RoomResponse lobbyResponse = RoomResponse.from(result.getRoom(), false);
-                        webSocketNotificationService.sendToTopic("/topic/lobby", "ROOM_UPDATED", lobbyResponse);
-
+                        // 일반 참가자가 나간 경우 (로비 delta는 RoomService에서 발행)
                         log.info("연결 해제로 인한 참가자 퇴장: roomId={}, userId={}", currentRoomId, leavingUserId);
                     }
 
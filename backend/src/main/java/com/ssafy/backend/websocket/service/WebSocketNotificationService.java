@@ -1,15 +1,27 @@
 package com.ssafy.backend.websocket.service;
 
 import com.ssafy.backend.common.response.WebSocketResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
 @Service
-@RequiredArgsConstructor
 public class WebSocketNotificationService {
     // STOMP 메시지 전송용
     private final SimpMessagingTemplate messagingTemplate;
+    // 구독 응답(@SubscribeMapping)처럼 브로커를 거치지 않고 세션에 바로 보내는 채널
+    private final MessageChannel clientOutboundChannel;
+
+    public WebSocketNotificationService(SimpMessagingTemplate messagingTemplate,
+                                        @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.messagingTemplate = messagingTemplate;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
 
     private <T> WebSocketResponse<T> buildResponse(String eventType, T payload) {
         return new WebSocketResponse<>(eventType, payload);
@@ -31,4 +43,27 @@ public class WebSocketNotificationService {
                 buildResponse(eventType, payload)
         );
     }
+
+    // 이미 직렬화된 JSON 프레임을 특정 사용자에게 그대로 전송 (메시지 컨버터를 거치지 않음)
+    public void sendRawToUser(Long userId, String destination, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        // convertAndSendToUser와 같은 /user/{userId}{destination} 경로
+        messagingTemplate.send("/user/" + userId + destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
+
+    // 이미 직렬화된 JSON 프레임을 구독 응답으로 그대로 전송 (구독한 세션에만, content-type: application/json)
+    // @SubscribeMapping이 byte[]를 반환하면 ByteArrayMessageConverter가 application/octet-stream으로 보내므로 직접 전송
+    public void sendRawToSubscriber(SimpMessageHeaderAccessor subscribeHeaders, byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(subscribeHeaders.getSessionId());
+        accessor.setSubscriptionId(subscribeHeaders.getSubscriptionId());
+        accessor.setDestination(subscribeHeaders.getDestination());
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        clientOutboundChannel.send(MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+    }
 }
@@ -0,0 +1,112 @@
+package com.ssafy.backend.ai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ssafy.backend.ai.dto.response.CachedAnswerDto;
+import com.ssafy.backend.ai.dto.response.QuestionResponseDto;
+import com.ssafy.backend.ai.service.AiAnswerCacheService.Candidate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class AiAnswerCacheServiceTest {
+
+    @Test
+    void 정규화는_공백_문장부호_기호_단독_자모를_제거() {
+        assertEquals("죽었나요", AiAnswerCacheService.normalize("  죽었나요?? ㅋㅋ "));
+        assertEquals("남자가죽었나요", AiAnswerCacheService.normalize("남자가, 죽었나요~ ㅠㅠ"));
+        assertEquals("abc", AiAnswerCacheService.normalize("ＡＢＣ!"));
+        assertEquals("", AiAnswerCacheService.normalize("ㅋㅋㅋ ?!"));
+        assertEquals("", AiAnswerCacheService.normalize(null));
+    }
+
+    @Test
+    void 자모_bigram은_음절을_풀어서_만듦() {
+        Set<String> grams = AiAnswerCacheService.jamoBigrams("가나");
+
+        assertEquals(3, grams.size());
+        assertTrue(grams.contains("\u1100\u1161")); // ㄱㅏ
+        assertTrue(grams.contains("\u1161\u1102")); // ㅏㄴ
+        assertTrue(grams.contains("\u1102\u1161")); // ㄴㅏ
+        assertTrue(AiAnswerCacheService.jamoBigrams("").isEmpty());
+    }
+
+    @Test
+    void 유사도는_bigram_Jaccard() {
+        Set<String> a = Set.of("ab", "bc");
+        Set<String> b = Set.of("bc", "cd");
+
+        assertEquals(1.0, AiAnswerCacheService.similarity(a, a));
+        assertEquals(1.0 / 3, AiAnswerCacheService.similarity(a, b), 1e-9);
+        assertEquals(0.0, AiAnswerCacheService.similarity(a, Set.of()));
+
+        double close = AiAnswerCacheService.similarity(
+                AiAnswerCacheService.jamoBigrams("죽었나요"), AiAnswerCacheService.jamoBigrams("죽었어요"));
+        assertTrue(close > 0 && close < 1);
+    }
+
+    @Test
+    void 부정_표현은_단어_단위로_판단() {
+        assertTrue(AiAnswerCacheService.isNegated("안 죽었나요?"));
+        assertTrue(AiAnswerCacheService.isNegated("못 봤나요"));
+        assertTrue(AiAnswerCacheService.isNegated("죽지 않았나요"));
+        assertTrue(AiAnswerCacheService.isNegated("사고가 아닌가요"));
+        assertTrue(AiAnswerCacheService.isNegated("범인이 없나요"));
+
+        assertFalse(AiAnswerCacheService.isNegated("안경을 썼나요?"));
+        assertFalse(AiAnswerCacheService.isNegated("아내가 있나요"));
+        assertFalse(AiAnswerCacheService.isNegated("죽었나요"));
+    }
+
+    @Test
+    void 유사도가_기준_이상일_때만_유사_질문_사용() {
+        Candidate cached = candidate("남자가 죽었어요");
+        Set<String> grams = AiAnswerCacheService.jamoBigrams(AiAnswerCacheService.normalize("남자가 죽었나요"));
+        double score = AiAnswerCacheService.similarity(grams,
+                AiAnswerCacheService.jamoBigrams(AiAnswerCacheService.normalize("남자가 죽었어요")));
+
+        assertSame(cached, AiAnswerCacheService.mostSimilar(List.of(cached), grams, false, score));
+        assertNull(AiAnswerCacheService.mostSimilar(List.of(cached), grams, false, score + 0.01));
+    }
+
+    @Test
+    void 가장_비슷한_후보를_사용() {
+        Candidate far = candidate("여자가 살았어요");
+        Candidate near = candidate("남자가 죽었어요");
+        Set<String> grams = AiAnswerCacheService.jamoBigrams(AiAnswerCacheService.normalize("남자가 죽었나요"));
+
+        assertSame(near, AiAnswerCacheService.mostSimilar(List.of(far, near), grams, false, 0.1));
+    }
+
+    @Test
+    void 부정_여부가_다르면_유사_질문으로_쓰지_않음() {
+        Candidate positive = candidate("남자가 죽었나요");
+        String question = "남자가 안 죽었나요";
+        Set<String> grams = AiAnswerCacheService.jamoBigrams(AiAnswerCacheService.normalize(question));
+
+        assertNull(AiAnswerCacheService.mostSimilar(List.of(positive), grams,
+                AiAnswerCacheService.isNegated(question), 0.1));
+        assertSame(positive, AiAnswerCacheService.mostSimilar(List.of(positive), grams, false, 0.1));
+    }
+
+    @Test
+    void 안경처럼_부정어로_시작하는_단어는_긍정_질문과_비교() {
+        Candidate glasses = candidate("안경을 썼나요");
+        String question = "안경을 썼어요";
+        Set<String> grams = AiAnswerCacheService.jamoBigrams(AiAnswerCacheService.normalize(question));
+
+        assertSame(glasses, AiAnswerCacheService.mostSimilar(List.of(glasses), grams,
+                AiAnswerCacheService.isNegated(question), 0.1));
+    }
+
+    private static Candidate candidate(String question) {
+        String normalized = AiAnswerCacheService.normalize(question);
+        boolean negated = AiAnswerCacheService.isNegated(question);
+        return new Candidate(normalized, AiAnswerCacheService.jamoBigrams(normalized), negated,
+                CachedAnswerDto.of(new QuestionResponseDto("예", null), negated));
+    }
+}
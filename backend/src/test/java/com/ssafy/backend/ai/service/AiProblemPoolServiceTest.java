@@ -0,0 +1,160 @@
+package com.ssafy.backend.ai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ssafy.backend.ai.dto.response.AiProblemResponseDto;
+import com.ssafy.backend.memory.type.Difficulty;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class AiProblemPoolServiceTest {
+    private static final String GENRE = "공포";
+
+    // Redis 리스트 대신 메모리 큐 (키별)
+    private final Map<String, Deque<Object>> lists = new HashMap<>();
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+    private AiProblemPoolService poolService;
+
+    @BeforeEach
+    void setUp() {
+        poolService = new AiProblemPoolService(new InMemoryRedisTemplate(), new SimpleMeterRegistry(), 20);
+    }
+
+    @Test
+    void 저장이_실패해서_롤백되면_꺼낸_문제를_풀_앞에_되돌림() {
+        AiProblemResponseDto first = problem("첫 번째", "왜?", "정답");
+        AiProblemResponseDto second = problem("두 번째", "왜?", "정답");
+        poolService.offer(GENRE, first);
+        poolService.offer(GENRE, second);
+
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            assertEquals("첫 번째", poolService.poll(GENRE).getTitle());
+            throw new IllegalStateException("문제 저장 실패");
+        }));
+
+        assertEquals(18, poolService.missing(GENRE));
+        assertEquals("첫 번째", poolService.poll(GENRE).getTitle());
+        assertEquals("두 번째", poolService.poll(GENRE).getTitle());
+    }
+
+    @Test
+    void 커밋되면_꺼낸_문제는_풀에서_빠짐() {
+        poolService.offer(GENRE, problem("첫 번째", "왜?", "정답"));
+
+        transactionTemplate.executeWithoutResult(status -> poolService.poll(GENRE));
+
+        assertEquals(20, poolService.missing(GENRE));
+        assertNull(poolService.poll(GENRE));
+    }
+
+    @Test
+    void 트랜잭션_밖에서_꺼내면_되돌리지_않음() {
+        poolService.offer(GENRE, problem("첫 번째", "왜?", "정답"));
+
+        assertEquals("첫 번째", poolService.poll(GENRE).getTitle());
+        assertNull(poolService.poll(GENRE));
+    }
+
+    @Test
+    void 의문문으로_끝나는_문제는_통과() {
+        assertTrue(AiProblemPoolService.isValid(problem("바다 거북 수프", "남자는 왜 수프를 먹고 죽었을까?", "정답")));
+        assertTrue(AiProblemPoolService.isValid(problem("바다 거북 수프", "  남자는 왜 죽었을까?  ", "정답")));
+    }
+
+    @Test
+    void 제목은_50자까지() {
+        String fifty = "가".repeat(50);
+
+        assertTrue(AiProblemPoolService.isValid(problem(fifty, "왜?", "정답")));
+        assertTrue(AiProblemPoolService.isValid(problem(" " + fifty + " ", "왜?", "정답")));
+        assertFalse(AiProblemPoolService.isValid(problem(fifty + "가", "왜?", "정답")));
+    }
+
+    @Test
+    void 상황_설명이_물음표로_끝나지_않으면_제외() {
+        assertFalse(AiProblemPoolService.isValid(problem("제목", "남자가 수프를 먹고 죽었다.", "정답")));
+        assertFalse(AiProblemPoolService.isValid(problem("제목", "왜 죽었을까? 알아맞혀 보세요", "정답")));
+    }
+
+    @Test
+    void 빈_항목이_있으면_제외() {
+        assertFalse(AiProblemPoolService.isValid(null));
+        assertFalse(AiProblemPoolService.isValid(problem(" ", "왜?", "정답")));
+        assertFalse(AiProblemPoolService.isValid(problem("제목", "", "정답")));
+        assertFalse(AiProblemPoolService.isValid(problem("제목", "왜?", null)));
+        assertFalse(AiProblemPoolService.isValid(
+                new AiProblemResponseDto("제목", "왜?", "정답", List.of("공포"), null)));
+        assertFalse(AiProblemPoolService.isValid(
+                new AiProblemResponseDto("제목", "왜?", "정답", null, Difficulty.NORMAL)));
+    }
+
+    private static AiProblemResponseDto problem(String title, String content, String answer) {
+        return new AiProblemResponseDto(title, content, answer, List.of("공포"), Difficulty.NORMAL);
+    }
+
+    // opsForList()만 메모리 큐로 동작하는 RedisTemplate
+    private class InMemoryRedisTemplate extends RedisTemplate<String, Object> {
+        @SuppressWarnings("unchecked")
+        private final ListOperations<String, Object> listOperations = (ListOperations<String, Object>) Proxy.newProxyInstance(
+                ListOperations.class.getClassLoader(),
+                new Class<?>[]{ListOperations.class},
+                (proxy, method, args) -> {
+                    Deque<Object> list = lists.computeIfAbsent((String) args[0], key -> new ArrayDeque<>());
+                    return switch (method.getName()) {
+                        case "leftPop" -> list.pollFirst();
+                        case "leftPush" -> {
+                            list.addFirst(args[1]);
+                            yield (long) list.size();
+                        }
+                        case "rightPush" -> {
+                            list.addLast(args[1]);
+                            yield (long) list.size();
+                        }
+                        case "size" -> (long) list.size();
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+
+        @Override
+        public ListOperations<String, Object> opsForList() {
+            return listOperations;
+        }
+    }
+
+    // 실제 자원 없이 트랜잭션 동기화(afterCompletion)만 일어나게 하는 트랜잭션 매니저
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
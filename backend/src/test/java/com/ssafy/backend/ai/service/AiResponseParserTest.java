@@ -0,0 +1,22 @@
+package com.ssafy.backend.ai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class AiResponseParserTest {
+
+    @Test
+    void 코드_블록_안의_JSON만_추출() {
+        assertEquals("{\"score\": 85}", AiResponseParser.extractJson("```json\n{\"score\": 85}\n```"));
+        assertEquals("{\"score\": 85}", AiResponseParser.extractJson("```\n{\"score\": 85}\n```"));
+        assertEquals("{\"score\": 85}", AiResponseParser.extractJson("```{\"score\": 85}```"));
+    }
+
+    @Test
+    void 앞뒤_설명_문장은_제거() {
+        assertEquals("{\"answer\": \"예\"}",
+                AiResponseParser.extractJson("답변입니다: {\"answer\": \"예\"} 참고하세요."));
+        assertEquals("{\"answer\": \"예\"}", AiResponseParser.extractJson("  {\"answer\": \"예\"}  "));
+    }
+}
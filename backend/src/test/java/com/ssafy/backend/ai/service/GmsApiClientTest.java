@@ -0,0 +1,192 @@
+package com.ssafy.backend.ai.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ssafy.backend.ai.dto.request.GmsApiRequestDto;
+import com.ssafy.backend.ai.dto.response.GmsApiResponseDto;
+import com.ssafy.backend.exception.model.ServiceUnavailableException;
+import com.ssafy.backend.exception.model.TooManyRequestsException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 로컬 스텁 HTTP 서버로 GMS 호출 재시도/서킷 브레이커/헤지/동시 호출 제한 확인
+ */
+class GmsApiClientTest {
+    private static final String OK_BODY =
+            "{\"choices\":[{\"message\":{\"content\":\"{\\\"answer\\\":\\\"예\\\"}\"}}]}";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    // 호출 번호(1부터) -> 응답
+    private volatile IntFunction<StubResponse> responder = n -> StubResponse.ok(0);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", this::handle);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void 서버_오류는_재시도해서_성공() {
+        responder = n -> n == 1 ? StubResponse.status(503) : StubResponse.ok(0);
+        GmsApiClient client = client(32, 1_000, 5);
+
+        GmsApiResponseDto response = client.chat(request(), TIMEOUT).block();
+
+        assertEquals("{\"answer\":\"예\"}", response.getChoices().get(0).getMessage().getContent());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void 클라이언트_오류는_재시도하지_않음() {
+        responder = n -> StubResponse.status(400);
+        GmsApiClient client = client(32, 1_000, 5);
+
+        assertThrows(WebClientResponseException.BadRequest.class, () -> client.chat(request(), TIMEOUT).block());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void 연속_실패하면_서킷이_열리고_시험_호출로_복구() throws Exception {
+        responder = n -> StubResponse.status(500);
+        GmsApiClient client = client(32, 1_000, 2, 0, 200);
+
+        assertThrows(WebClientResponseException.class, () -> client.chat(request(), TIMEOUT).block());
+        assertThrows(WebClientResponseException.class, () -> client.chat(request(), TIMEOUT).block());
+
+        // 열린 동안은 GMS를 호출하지 않음
+        assertThrows(ServiceUnavailableException.class, () -> client.chat(request(), TIMEOUT).block());
+        assertEquals(2, calls.get());
+
+        // 열린 시간이 지나면 시험 호출 하나 -> 성공하면 다시 정상
+        Thread.sleep(250);
+        responder = n -> StubResponse.ok(0);
+        client.chat(request(), TIMEOUT).block();
+        client.chat(request(), TIMEOUT).block();
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void 느린_응답은_헤지_요청으로_먼저_끝난_응답_사용() {
+        responder = n -> n == 1 ? StubResponse.ok(3_000) : StubResponse.ok(0);
+        GmsApiClient client = client(32, 100, 5);
+
+        long startedAt = System.nanoTime();
+        GmsApiResponseDto response = client.chat(request(), TIMEOUT, true).block();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertEquals("{\"answer\":\"예\"}", response.getChoices().get(0).getMessage().getContent());
+        assertEquals(2, calls.get());
+        assertTrue(elapsedMillis < 2_000, "헤지 응답을 기다리지 않음: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void 동시_호출_한도를_넘으면_바로_거절() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        responder = n -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return StubResponse.ok(0);
+        };
+        GmsApiClient client = client(1, 1_000, 5);
+
+        var first = client.chat(request(), TIMEOUT).toFuture();
+        assertThrows(TooManyRequestsException.class, () -> client.chat(request(), TIMEOUT).block());
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        client.chat(request(), TIMEOUT).block();
+    }
+
+    private GmsApiClient client(int maxConcurrent, long hedgeDelayMillis, int failureThreshold) {
+        return client(maxConcurrent, hedgeDelayMillis, failureThreshold, 2, 30_000);
+    }
+
+    private GmsApiClient client(int maxConcurrent, long hedgeDelayMillis, int failureThreshold,
+                                int maxRetries, long circuitOpenMillis) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        return new GmsApiClient(WebClient.create(), new SimpleMeterRegistry(), "test-key", baseUrl,
+                maxConcurrent, maxRetries, 10, 0.2, hedgeDelayMillis, failureThreshold, circuitOpenMillis);
+    }
+
+    private static GmsApiRequestDto request() {
+        return new GmsApiRequestDto("test-model", List.of(new GmsApiRequestDto.Message("user", "죽었나요?")), 50, 0.1);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        StubResponse response = responder.apply(calls.incrementAndGet());
+        try {
+            if (response.delayMillis > 0) {
+                Thread.sleep(response.delayMillis);
+            }
+            byte[] body = response.status == 200 ? OK_BODY.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 헤지로 취소된 요청은 연결이 먼저 끊길 수 있음
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static final class StubResponse {
+        private final int status;
+        private final long delayMillis;
+
+        private StubResponse(int status, long delayMillis) {
+            this.status = status;
+            this.delayMillis = delayMillis;
+        }
+
+        static StubResponse ok(long delayMillis) {
+            return new StubResponse(200, delayMillis);
+        }
+
+        static StubResponse status(int status) {
+            return new StubResponse(status, 0);
+        }
+    }
+}
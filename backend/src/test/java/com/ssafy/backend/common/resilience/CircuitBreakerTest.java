@@ -0,0 +1,112 @@
+package com.ssafy.backend.common.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ssafy.backend.common.resilience.CircuitBreaker.State;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+    private static final long OPEN_MILLIS = 1_000;
+
+    // 테스트가 직접 움직이는 시계 (ms)
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker(2, OPEN_MILLIS, clock::get);
+    }
+
+    private void open() {
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void 연속_실패가_기준에_닿으면_OPEN_되고_호출_거절() {
+        open();
+
+        clock.addAndGet(OPEN_MILLIS - 1);
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void 중간_성공은_연속_실패_횟수를_초기화() {
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void OPEN_전에_통과한_느린_호출이_성공해도_OPEN_유지() {
+        assertTrue(breaker.tryAcquire()); // 느린 호출 (아직 응답 없음)
+        open();
+
+        breaker.onSuccess(); // 느린 호출 응답이 OPEN 중에 도착
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void OPEN_전에_통과한_느린_호출이_실패해도_OPEN_시간은_그대로() {
+        assertTrue(breaker.tryAcquire());
+        open();
+
+        clock.addAndGet(OPEN_MILLIS - 1);
+        breaker.onFailure();
+        clock.addAndGet(1);
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    void 시험_호출은_하나만_통과하고_성공하면_CLOSED() {
+        open();
+        clock.addAndGet(OPEN_MILLIS);
+
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onSuccess();
+        assertEquals(State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void 시험_호출이_실패하면_다시_OPEN() {
+        open();
+        clock.addAndGet(OPEN_MILLIS);
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void 시험_호출이_취소되면_다음_호출이_시험_호출() {
+        open();
+        clock.addAndGet(OPEN_MILLIS);
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onIgnored();
+
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+}
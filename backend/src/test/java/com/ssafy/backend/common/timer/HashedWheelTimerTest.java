@@ -0,0 +1,150 @@
+package com.ssafy.backend.common.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HashedWheelTimerTest {
+    private static final long TICK_MILLIS = 100;
+    private static final int TICKS_PER_WHEEL = 8; // 한 바퀴 800ms
+
+    // 테스트가 직접 움직이는 시계 (ns)
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Long> lags = new ArrayList<>();
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        timer = new HashedWheelTimer(TICK_MILLIS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL, Runnable::run, lags::add, clock::get);
+    }
+
+    // 실제 워커처럼 tick 간격만큼 시간이 흐른 뒤 tick 처리
+    private void ticks(int count) {
+        for (int i = 0; i < count; i++) {
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS));
+            timer.advanceTick();
+        }
+    }
+
+    @Test
+    void 마감_전에는_실행하지_않고_마감이_지난_tick에_실행() {
+        AtomicInteger runs = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout = timer.schedule(runs::incrementAndGet, 250, TimeUnit.MILLISECONDS);
+
+        ticks(2); // 200ms
+        assertEquals(0, runs.get());
+        assertEquals(1, timer.pendingTimeouts());
+
+        ticks(1); // 300ms
+        assertEquals(1, runs.get());
+        assertTrue(timeout.isExpired());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    void 지연이_0이면_다음_tick에_바로_실행() {
+        AtomicInteger runs = new AtomicInteger();
+        timer.schedule(runs::incrementAndGet, 0, TimeUnit.MILLISECONDS);
+
+        ticks(1);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void 실행_전에_취소하면_실행하지_않음() {
+        AtomicInteger runs = new AtomicInteger();
+        // 휠에 옮겨지기 전에 취소
+        HashedWheelTimer.Timeout pending = timer.schedule(runs::incrementAndGet, 250, TimeUnit.MILLISECONDS);
+        assertTrue(pending.cancel());
+
+        // 휠 버킷에 들어간 뒤 취소
+        HashedWheelTimer.Timeout inBucket = timer.schedule(runs::incrementAndGet, 250, TimeUnit.MILLISECONDS);
+        ticks(1);
+        assertTrue(inBucket.cancel());
+
+        ticks(10);
+        assertEquals(0, runs.get());
+        assertEquals(0, timer.pendingTimeouts());
+        assertFalse(inBucket.cancel());
+    }
+
+    @Test
+    void 실행된_뒤에는_취소되지_않음() {
+        AtomicInteger runs = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout = timer.schedule(runs::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+
+        ticks(2);
+        assertFalse(timeout.cancel());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void 한_바퀴보다_긴_지연은_남은_바퀴만큼_지나야_실행() {
+        AtomicInteger runs = new AtomicInteger();
+        // 2050ms -> tick 20, 같은 버킷을 두 번 지나친 뒤 세 번째에 실행
+        timer.schedule(runs::incrementAndGet, 2050, TimeUnit.MILLISECONDS);
+
+        ticks(20); // 2000ms
+        assertEquals(0, runs.get());
+
+        ticks(1); // 2100ms
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void 중간_tick에서_등록해도_바퀴_수를_현재_tick_기준으로_계산() {
+        AtomicInteger runs = new AtomicInteger();
+        ticks(3); // 300ms, tick 3
+        // 1300ms -> tick 13 (tick 3에서 한 바퀴 + 2칸)
+        timer.schedule(runs::incrementAndGet, 1000, TimeUnit.MILLISECONDS);
+
+        ticks(10); // 1300ms
+        assertEquals(0, runs.get());
+
+        ticks(1); // 1400ms
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void tick이_밀려도_지난_마감을_모두_실행하고_지연을_기록() {
+        AtomicInteger runs = new AtomicInteger();
+        timer.schedule(runs::incrementAndGet, 150, TimeUnit.MILLISECONDS);
+        timer.schedule(runs::incrementAndGet, 450, TimeUnit.MILLISECONDS);
+
+        // 워커가 1초 동안 멈춰 있다가 밀린 tick 10개를 한꺼번에 처리
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        for (int i = 0; i < 10; i++) {
+            timer.advanceTick();
+        }
+        assertEquals(2, runs.get());
+        assertEquals(List.of(TimeUnit.MILLISECONDS.toNanos(850), TimeUnit.MILLISECONDS.toNanos(550)), lags);
+
+        // 밀린 동안 등록한 예약은 tick 번호가 아니라 실제 시각 기준 (1100ms -> tick 11)
+        timer.schedule(runs::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        timer.advanceTick(); // tick 10
+        assertEquals(2, runs.get());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        timer.advanceTick(); // tick 11
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void 남은_시간은_시계_기준으로_계산() {
+        HashedWheelTimer.Timeout timeout = timer.schedule(() -> { }, 1000, TimeUnit.MILLISECONDS);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(700), timeout.remainingNanos());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2000));
+        assertEquals(0, timeout.remainingNanos());
+    }
+}
@@ -0,0 +1,137 @@
+package com.ssafy.backend.common.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ssafy.backend.memory.executor.RoomExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoomDeadlineServiceTest {
+    private static final long TICK_MILLIS = 100;
+    private static final Long ROOM_ID = 100L;
+    private static final String NAME = "turn";
+
+    private final AtomicLong clock = new AtomicLong();
+    private HashedWheelTimer wheel;
+    private RoomExecutor roomExecutor;
+    private RoomDeadlineService service;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedWheelTimer(TICK_MILLIS, TimeUnit.MILLISECONDS, 1024, Runnable::run, lag -> { }, clock::get);
+        roomExecutor = new RoomExecutor();
+        service = new RoomDeadlineService(roomExecutor, new SimpleMeterRegistry(), wheel);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.destroy();
+        roomExecutor.destroy();
+    }
+
+    private void ticks(int count) {
+        for (int i = 0; i < count; i++) {
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS));
+            wheel.advanceTick();
+        }
+    }
+
+    @Test
+    void 만료되면_목록에서_빠지고_방_mailbox에서_실행() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        service.schedule(ROOM_ID, NAME, Duration.ofMillis(200), fired::countDown);
+
+        ticks(2);
+        assertTrue(service.has(ROOM_ID, NAME));
+
+        ticks(1);
+        assertFalse(service.has(ROOM_ID, NAME));
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 실행_전에_취소하면_실행되지_않음() {
+        AtomicInteger runs = new AtomicInteger();
+        service.schedule(ROOM_ID, NAME, Duration.ofMillis(300), runs::incrementAndGet);
+        ticks(1);
+
+        service.cancel(ROOM_ID, NAME);
+        ticks(10);
+
+        assertFalse(service.has(ROOM_ID, NAME));
+        assertNull(service.remaining(ROOM_ID, NAME));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void 같은_이름으로_다시_등록하면_이전_마감은_실행되지_않음() throws InterruptedException {
+        AtomicInteger first = new AtomicInteger();
+        CountDownLatch second = new CountDownLatch(1);
+        service.schedule(ROOM_ID, NAME, Duration.ofMillis(200), first::incrementAndGet);
+        service.schedule(ROOM_ID, NAME, Duration.ofMillis(500), second::countDown);
+
+        ticks(6);
+        assertTrue(second.await(1, TimeUnit.SECONDS));
+        // 같은 방 mailbox는 순서대로 실행되므로 두 번째가 끝났으면 첫 번째도 (실행됐다면) 끝난 상태
+        assertEquals(0, first.get());
+    }
+
+    @Test
+    void 일시정지_중에는_실행되지_않고_재개하면_남은_시간부터_진행() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        service.schedule(ROOM_ID, NAME, Duration.ofMillis(1000), fired::countDown);
+
+        ticks(4); // 400ms
+        service.pause(ROOM_ID, NAME);
+        assertEquals(Duration.ofMillis(600), service.remaining(ROOM_ID, NAME));
+
+        ticks(20); // 2400ms, 일시정지 중에는 남은 시간이 줄지 않음
+        assertTrue(service.has(ROOM_ID, NAME));
+        assertEquals(Duration.ofMillis(600), service.remaining(ROOM_ID, NAME));
+
+        // 재개 -> 3000ms 마감 (tick 30)
+        service.resume(ROOM_ID, NAME);
+        ticks(6); // 3000ms
+        assertEquals(1, fired.getCount());
+
+        ticks(1); // 3100ms
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 연장하면_남은_시간에_더해서_마감이_늦어짐() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        service.schedule(ROOM_ID, NAME, Duration.ofMillis(500), fired::countDown);
+
+        ticks(3); // 300ms, 남은 200ms
+        service.extend(ROOM_ID, NAME, Duration.ofMillis(1000));
+        assertEquals(Duration.ofMillis(1200), service.remaining(ROOM_ID, NAME));
+
+        // 원래 마감(500ms)이 지나도 실행되지 않고 1500ms 이후 tick에 실행
+        ticks(12); // 1500ms
+        assertEquals(1, fired.getCount());
+
+        ticks(1); // 1600ms
+        assertTrue(fired.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 일시정지_중에_연장하면_보관한_남은_시간만_늘어남() {
+        service.schedule(ROOM_ID, NAME, Duration.ofMillis(1000), () -> { });
+        service.pause(ROOM_ID, NAME);
+        service.extend(ROOM_ID, NAME, Duration.ofMillis(500));
+
+        ticks(30);
+        assertEquals(Duration.ofMillis(1500), service.remaining(ROOM_ID, NAME));
+    }
+}
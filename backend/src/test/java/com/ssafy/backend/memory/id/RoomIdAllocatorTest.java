@@ -0,0 +1,150 @@
+package com.ssafy.backend.memory.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ssafy.backend.memory.Room;
+import com.ssafy.backend.memory.repository.RoomRepository;
+import com.ssafy.backend.memory.type.RoomState;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RoomIdAllocatorTest {
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20_000;
+
+    @Test
+    void 범위를_모두_쓰면_예외_반납하면_재사용() {
+        BitmapRoomIdAllocator allocator = new BitmapRoomIdAllocator(100, 199);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < allocator.capacity(); i++) {
+            long id = allocator.allocate();
+            assertTrue(id >= 100 && id <= 199);
+            assertTrue(ids.add(id));
+        }
+        assertThrows(RuntimeException.class, allocator::allocate);
+
+        allocator.release(150);
+        assertEquals(150, allocator.allocate());
+    }
+
+    @Test
+    void 동시_생성_삭제_반복에도_ID가_겹치지_않음() throws Exception {
+        // 동시에 잡을 수 있는 ID 수보다 스레드가 잡고 있는 ID 수가 작도록 범위 설정
+        BitmapRoomIdAllocator allocator = new BitmapRoomIdAllocator(100, 1099);
+        churn(allocator, allocator.capacity());
+
+        // 모두 반납된 상태이므로 전체 용량만큼 다시 할당 가능해야 함
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < allocator.capacity(); i++) {
+            assertTrue(ids.add(allocator.allocate()));
+        }
+        assertThrows(RuntimeException.class, allocator::allocate);
+    }
+
+    @Test
+    void 노드_번호가_붙은_ID도_동시_반복에서_겹치지_않음() throws Exception {
+        NodePrefixedRoomIdAllocator allocator = new NodePrefixedRoomIdAllocator(3, 10_000, new BitmapRoomIdAllocator(100, 9999));
+
+        long id = allocator.allocate();
+        assertEquals(3, id / 10_000);
+        allocator.release(id);
+
+        churn(allocator, allocator.capacity());
+    }
+
+    @Test
+    void 저장소_동시_생성_삭제_후_인덱스와_ID_풀이_비어있음() throws Exception {
+        RoomRepository repository = new RoomRepository(new BitmapRoomIdAllocator(100, 999));
+        Set<Long> live = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<Long> mine = new ArrayList<>();
+            for (int i = 0; i < ROUNDS; i++) {
+                if (mine.size() < 20 && random.nextBoolean()) {
+                    Room room = new Room(repository.getNextRoomId(), 6, 10);
+                    assertTrue(live.add(room.getRoomId()), "중복 방 ID: " + room.getRoomId());
+                    repository.changeState(room, random.nextBoolean() ? RoomState.WAITING : RoomState.PLAYING);
+                    repository.save(room);
+                    mine.add(room.getRoomId());
+                } else if (!mine.isEmpty()) {
+                    Long roomId = mine.remove(mine.size() - 1);
+                    live.remove(roomId);
+                    repository.delete(roomId);
+                    assertNull(repository.findById(roomId));
+                }
+            }
+            for (Long roomId : mine) {
+                live.remove(roomId);
+                repository.delete(roomId);
+            }
+        });
+
+        assertTrue(repository.findAll().isEmpty());
+        assertTrue(repository.findAllSorted().isEmpty());
+    }
+
+    // 스레드마다 ID를 잡았다 놓기를 반복하면서 동시에 같은 ID를 가진 스레드가 없는지 확인
+    private void churn(RoomIdAllocator allocator, int capacity) throws Exception {
+        Set<Long> held = ConcurrentHashMap.newKeySet();
+        int perThread = capacity / THREADS;
+
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<Long> mine = new ArrayList<>();
+            for (int i = 0; i < ROUNDS; i++) {
+                if (mine.size() < perThread && random.nextBoolean()) {
+                    long id = allocator.allocate();
+                    assertTrue(held.add(id), "중복 할당: " + id);
+                    mine.add(id);
+                } else if (!mine.isEmpty()) {
+                    long id = mine.remove(random.nextInt(mine.size()));
+                    held.remove(id);
+                    allocator.release(id);
+                }
+            }
+            for (long id : mine) {
+                held.remove(id);
+                allocator.release(id);
+            }
+        });
+
+        assertTrue(held.isEmpty());
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                // 작업 스레드의 assert 실패를 여기서 다시 던짐
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
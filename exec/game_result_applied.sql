@@ -0,0 +1,11 @@
+-- 게임 결과 write-behind 중복 반영 방지 (GameResultWriter)
+-- ddl-auto=none 이므로 배포 전에 한 번 실행
+
+-- 반영한 게임 결과 ID: 같은 트랜잭션에서 기록하고, 재시도/spill 재반영 시 이미 있는 결과는 건너뜀
+-- applied_at 기준으로 game.result.applied-retention-days(기본 30일)가 지나면 정리
+CREATE TABLE game_result_applied (
+    result_id  CHAR(36)    NOT NULL,
+    applied_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (result_id),
+    KEY idx_game_result_applied_applied_at (applied_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_0900_ai_ci;
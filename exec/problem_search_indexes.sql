@@ -0,0 +1,14 @@
+-- 문제 검색(/api/problems/search) keyset 페이지네이션용 인덱스
+-- ddl-auto=none 이므로 배포 전에 한 번 실행
+
+-- 정렬별 (정렬 키, problem_id): 커서 이후 행을 인덱스 순서대로 읽고 size + 1개에서 멈춤
+CREATE INDEX idx_problem_info_likes ON problem_info (likes, problem_id);
+CREATE INDEX idx_problem_info_success_rate ON problem_info (success_rate, problem_id);
+CREATE INDEX idx_problem_info_difficulty ON problem_info (difficulty, problem_id);
+
+-- 장르 필터(EXISTS 세미조인) / 문제별 장르 이름 조회
+CREATE INDEX idx_problem_genres_genre_problem ON problem_genres (genre_id, problem_id);
+CREATE INDEX idx_problem_genres_problem_genre ON problem_genres (problem_id, genre_id);
+
+-- 문제 작성자 조회
+CREATE INDEX idx_user_created_problems_problem ON user_created_problems (problem_id);
@@ -27,6 +27,7 @@ interface LobbyStoreType {
   deleteRoom: (deletedRoomId: number) => void;
   createRoom: (newRoom: RoomSummary) => void;
   updateRoom: (targetRoomId: number, updatedRoom: RoomSummary) => void;
+  upsertRoom: (room: RoomSummary) => void;
   setLoading: (loading: boolean) => void;
   setRefreshing: (refreshing: boolean) => void;
   setLoadingMore: (loading: boolean) => void;
@@ -119,6 +120,18 @@ const useLobbyStore = create<LobbyStoreType>()((set, get) => ({
       lastUpdated: new Date(),
     })),
 
+  // 로비 delta(ROOM_UPSERT) 반영: 있으면 교체, 없으면 추가
+  upsertRoom: (room) =>
+    set((state) => {
+      const exists = state.roomList.some((r) => r.roomId === room.roomId);
+      return {
+        roomList: exists
+          ? state.roomList.map((r) => (r.roomId === room.roomId ? room : r))
+          : [...state.roomList, room],
+        lastUpdated: new Date(),
+      };
+    }),
+
   setLoading: (loading) => set(() => ({ isLoading: loading })),
 
   setRefreshing: (refreshing) => set(() => ({ isRefreshing: refreshing })),
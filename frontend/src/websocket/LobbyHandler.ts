@@ -1,5 +1,48 @@
 import useLobbyStore from "@/stores/lobbyStore";
 import { type WebsocketResponse } from "@/types/game/game";
+import type { RoomSummary } from "@/types/room/roomSummary";
+import { requestLobbySnapshot } from "./subscription";
+
+// 마지막으로 반영한 로비 seq (스냅샷 seq 이후의 delta만 적용)
+let lastLobbySeq: number | null = null;
+
+function toRoomSummary(room: any): RoomSummary {
+  const hostPlayer = room.players?.find(
+    (player: any) => player.userId === room.hostId
+  );
+
+  return {
+    roomId: room.roomId,
+    title: room.problem?.title || "제목 없음",
+    currentPlayers: room.currentPlayers,
+    maxPlayers: room.maxPlayers,
+    gameState: room.state,
+    problemType: room.problem?.source || "ORIGINAL",
+    genres: room.problem?.genres || [],
+    difficulty: room.problem?.difficulty || "NORMAL",
+    timeLimit: room.timeLimit,
+    host: {
+      id: room.hostId,
+      nickname: hostPlayer?.nickname || hostPlayer?.name || "알 수 없음",
+    },
+  };
+}
+
+// delta 적용 가능 여부 확인 (이미 반영한 seq면 무시, 건너뛰었으면 스냅샷 재요청)
+function acceptDelta(seq: number): boolean {
+  if (lastLobbySeq === null) {
+    // 아직 스냅샷을 받지 못함 -> 스냅샷 응답이 오면 그 이후부터 반영
+    return false;
+  }
+  if (seq <= lastLobbySeq) return false;
+  if (seq > lastLobbySeq + 1) {
+    lastLobbySeq = null;
+    requestLobbySnapshot();
+    return false;
+  }
+  lastLobbySeq = seq;
+  return true;
+}
 
 // Lobby에서 WS 수신
 // /topic/lobby
@@ -9,31 +52,29 @@ export function onLobby(response: WebsocketResponse) {
   const payload = response.payload;
 
   switch (response.eventType) {
-    // 방 목록 전체 수신
+    // 방 목록 전체 수신 (스냅샷)
     case "ROOM_LIST": {
       const rooms = payload.rooms ?? [];
-      const mapedRoomList = rooms.map((room: any) => {
-        const hostPlayer = room.players?.find(
-          (player: any) => player.userId === room.hostId
-        );
-        
-        return {
-          roomId: room.roomId,
-          title: room.problem?.title || "제목 없음",
-          currentPlayers: room.currentPlayers,
-          maxPlayers: room.maxPlayers,
-          gameState: room.state,
-          problemType: room.problem?.source || "ORIGINAL",
-          genres: room.problem?.genres || [],
-          difficulty: room.problem?.difficulty || "NORMAL",
-          timeLimit: room.timeLimit,
-          host: {
-            id: room.hostId,
-            nickname: hostPlayer?.nickname || hostPlayer?.name || "알 수 없음",
-          },
-        };
-      });
-      useLobbyStore.getState().getRoomList(mapedRoomList);
+      if (payload.seq !== undefined && payload.seq !== null) {
+        lastLobbySeq = payload.seq;
+      }
+      useLobbyStore.getState().getRoomList(rooms.map(toRoomSummary));
+      break;
+    }
+
+    // 방 추가/변경 delta
+    case "ROOM_UPSERT": {
+      if (acceptDelta(payload.seq) && payload.room) {
+        useLobbyStore.getState().upsertRoom(toRoomSummary(payload.room));
+      }
+      break;
+    }
+
+    // 방 삭제 delta
+    case "ROOM_REMOVED": {
+      if (acceptDelta(payload.seq)) {
+        useLobbyStore.getState().deleteRoom(payload.roomId);
+      }
       break;
     }
 
@@ -5,6 +5,7 @@ import { onLobby } from "./LobbyHandler";
 
 // Subscription 관리 함수
 const LOBBY_TOPIC = "/topic/lobby";
+const LOBBY_SNAPSHOT = "/app/lobby/snapshot";
 
 // 로비 입장 WS
 export function joinLobby() {
@@ -19,9 +20,22 @@ export function joinLobby() {
   });
 
   addSubscription(LOBBY_TOPIC, sub);
+  requestLobbySnapshot();
   console.log("로비 입장");
 }
 
+// 로비 스냅샷 요청 WS (구독 시 1회 응답, seq가 어긋났을 때 재동기화용)
+export function requestLobbySnapshot() {
+  const { client } = useWebsocketStore.getState();
+  if (!client || !client.connected) return;
+
+  const sub = client.subscribe(LOBBY_SNAPSHOT, (message) => {
+    const response = JSON.parse(message.body);
+    onLobby(response);
+    sub.unsubscribe();
+  });
+}
+
 // 로비 퇴장 WS
 export function leaveLobby() {
   const { getSubscription, removeSubscription } = useWebsocketStore.getState();